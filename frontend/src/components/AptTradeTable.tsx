@@ -31,8 +31,7 @@ const AptTradeTable: React.FC<AptTradeTableProps> = ({
   onPageChange,
   onSizeChange,
 }) => {
-  const formatAmount = (amount: string) => {
-    const num = parseInt(amount.replace(/,/g, ''));
+  const formatAmount = (num: number) => {
     if (num >= 10000) {
       return `${(num / 10000).toFixed(1)}억`;
     }
@@ -1,5 +1,5 @@
 import axios from 'axios';
-import { AptTrade, SearchCondition, PageResponse } from '../types';
+import { AptTrade, SearchCondition, PageResponse, RiskyApartment, AreaBand, PriceStats, PricePerPyeongTrend, SyncJob } from '../types';
 
 const API_BASE_URL = process.env.REACT_APP_API_URL || 'http://localhost:8080';
 
@@ -36,11 +36,57 @@ export const getFrequentlyTradedApartments = async (
   lawdCode: string,
   months: number,
   minTransactionCount: number
-): Promise<AptTrade[]> => {
+): Promise<RiskyApartment[]> => {
   const response = await apiClient.get('/api/v1/apt-trades/risky', {
     params: { lawdCode, months, minTransactionCount },
   });
   return response.data.data;
 };
 
+// 지역 거래가격 통계 조회
+export const getPriceStats = async (
+  lawdCode: string,
+  startYearMonth: string,
+  endYearMonth?: string,
+  areaBand?: AreaBand
+): Promise<PriceStats> => {
+  const response = await apiClient.get('/api/v1/apt-trades/stats', {
+    params: { lawdCode, startYearMonth, endYearMonth, areaBand },
+  });
+  return response.data.data;
+};
+
+// 단지/동 평당가 추이 조회 (apartmentName이 없으면 동 전체)
+export const getPricePerPyeongTrend = async (
+  lawdCode: string,
+  dong: string,
+  startYearMonth: string,
+  apartmentName?: string,
+  endYearMonth?: string,
+  window?: number
+): Promise<PricePerPyeongTrend> => {
+  const response = await apiClient.get('/api/v1/apt-trades/trend', {
+    params: { lawdCode, dong, apartmentName, startYearMonth, endYearMonth, window },
+  });
+  return response.data.data;
+};
+
+// 데이터 동기화 작업 등록 (작업 ID를 바로 반환)
+export const submitSyncJob = async (
+  lawdCode: string,
+  startYearMonth: string,
+  endYearMonth?: string
+): Promise<SyncJob> => {
+  const response = await apiClient.post('/api/v1/apt-trades/sync', {
+    lawdCode, startYearMonth, endYearMonth,
+  });
+  return response.data.data;
+};
+
+// 데이터 동기화 작업 진행 상황 조회
+export const getSyncJob = async (jobId: string): Promise<SyncJob> => {
+  const response = await apiClient.get(`/api/v1/apt-trades/sync/${jobId}`);
+  return response.data.data;
+};
+
 export default apiClient;
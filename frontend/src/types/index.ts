@@ -1,32 +1,44 @@
-// 아파트 실거래 타입
+// 아파트 실거래 목록 타입 (금액 단위: 만원)
 export interface AptTrade {
   id: number;
-  lawdCode: string;
   apartmentName: string;
-  transactionAmount: string;
-  buildingYear: number;
+  dong: string;
+  jibun: string;
+  transactionAmount: number;
   transactionDate: string;
   exclusiveArea: number;
-  floor: string;
+  floor: number;
+  buildingYear: number;
+  canceled?: boolean;
+}
+
+// 위험 신호(잦은 거래) 아파트 타입
+export interface RiskyApartment {
+  lawdCode: string;
+  apartmentName: string;
   dong: string;
-  jibun: string;
-  regionalCode: string;
-  cancelDealType: string;
-  registrationDate: string;
-  requesterGbn: string;
-  transactionType: string;
+  tradeCount: number;
 }
 
 // 검색 조건 타입
 export interface SearchCondition {
   lawdCode: string;
+  city?: string;
+  district?: string;
+  dong?: string;
+  apartmentName?: string;
   startYearMonth?: string;
   endYearMonth?: string;
   startTransactionAmount?: number;
   endTransactionAmount?: number;
+  minExclusiveArea?: number;
+  maxExclusiveArea?: number;
+  minBuildingYear?: number;
+  maxBuildingYear?: number;
   page?: number;
   size?: number;
-  sortBy?: string;
+  itemCount?: number;
+  sortBy?: 'transactionDate' | 'transactionAmount' | 'exclusiveArea' | 'buildingYear' | 'floor';
   sortDirection?: 'ASC' | 'DESC';
 }
 
@@ -39,6 +51,74 @@ export interface PageResponse<T> {
   number: number;
 }
 
+// 전용면적 규모 구분
+export type AreaBand =
+  | 'UNDER_40'
+  | 'FROM_40_TO_60'
+  | 'FROM_60_TO_85'
+  | 'FROM_85_TO_102'
+  | 'FROM_102_TO_135'
+  | 'OVER_135';
+
+// 거래가격 통계 요약 (금액 단위: 만원, 분위수는 근사값)
+export interface PriceStatsSummary {
+  yearMonth?: string;
+  tradeCount: number;
+  averageAmount?: number;
+  minAmount?: number;
+  maxAmount?: number;
+  p10Amount?: number;
+  p25Amount?: number;
+  medianAmount?: number;
+  p75Amount?: number;
+  p90Amount?: number;
+}
+
+// 지역 거래가격 통계 타입
+export interface PriceStats {
+  lawdCode: string;
+  areaBand?: AreaBand;
+  startYearMonth: string;
+  endYearMonth: string;
+  summary: PriceStatsSummary;
+  monthly: PriceStatsSummary[];
+}
+
+// 평당가 추이 타입 (배열은 월 순서, 계산할 수 없는 값은 null)
+export interface PricePerPyeongTrend {
+  lawdCode: string;
+  dong: string;
+  apartmentName?: string;
+  startYearMonth: string;
+  endYearMonth: string;
+  movingAverageWindow: number;
+  tradeCounts: number[];
+  pricePerPyeong: (number | null)[];
+  movingAverage: (number | null)[];
+  yearOverYearRate: (number | null)[];
+}
+
+// 동기화 작업 상태
+export type SyncJobStatus = 'QUEUED' | 'RUNNING' | 'COMPLETED' | 'FAILED';
+
+// 동기화 작업 진행 상황 타입
+export interface SyncJob {
+  jobId: string;
+  status: SyncJobStatus;
+  lawdCode: string;
+  startYearMonth: string;
+  endYearMonth: string;
+  totalMonths: number;
+  completedMonths: number;
+  failedMonths: number;
+  ingestedRows: number;
+  rowsPerSecond: number;
+  errors: string[];
+  submittedAt: string;
+  startedAt?: string;
+  finishedAt?: string;
+}
+
 // 지역 코드 타입
 export interface Region {
   code: string;
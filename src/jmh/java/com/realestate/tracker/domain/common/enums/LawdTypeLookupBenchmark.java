@@ -0,0 +1,61 @@
+package com.realestate.tracker.domain.common.enums;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지역코드 조회 벤치마크
+ * 요청마다 호출되는 codeOf(코드 → enum)와 find(코드 또는 지역명 → enum)를 비교한다.
+ * 입력은 매 호출마다 다음 값으로 넘겨 같은 키만 반복 조회하지 않도록 한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LawdTypeLookupBenchmark {
+
+    private String[] siCodes;
+    private String[] siNames;
+    private String[] guCodes;
+    private String[] guNames;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        // 생성 시점 문자열이 아닌 새 인스턴스로 조회해 equals 비교 비용까지 포함한다
+        siCodes = Arrays.stream(LawdSiType.values()).map(siType -> new String(siType.getCode())).toArray(String[]::new);
+        siNames = Arrays.stream(LawdSiType.values()).map(siType -> new String(siType.getName())).toArray(String[]::new);
+        guCodes = Arrays.stream(LawdGuType.values()).map(guType -> new String(guType.getCode())).toArray(String[]::new);
+        guNames = Arrays.stream(LawdGuType.values()).map(guType -> new String(guType.getName())).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public LawdSiType siCodeOf() {
+        return LawdSiType.codeOf(siCodes[next(siCodes.length)]);
+    }
+
+    @Benchmark
+    public LawdSiType siFindByName() {
+        return LawdSiType.find(siNames[next(siNames.length)]);
+    }
+
+    @Benchmark
+    public LawdGuType guCodeOf() {
+        return LawdGuType.codeOf(guCodes[next(guCodes.length)]);
+    }
+
+    @Benchmark
+    public Object guFindByName() {
+        return LawdGuType.find(guNames[next(guNames.length)], null);
+    }
+
+    private int next(int length) {
+        int index = cursor % length;
+        cursor = index + 1;
+        return index;
+    }
+}
@@ -0,0 +1,97 @@
+package com.realestate.tracker.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.realestate.tracker.domain.property.dto.AptTradeSummary;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse JSON 직렬화 벤치마크 (엔티티 목록 vs 목록 projection 페이지)
+ * ObjectMapper는 Spring Boot 기본 설정(JavaTimeModule, 날짜 ISO 문자열)과 같게 구성한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private static final String[] APARTMENTS = {"래미안", "자이", "아이파크", "힐스테이트", "푸르지오", "롯데캐슬", "e편한세상"};
+    private static final String[] DONGS = {"역삼동", "개포동", "대치동", "삼성동", "도곡동", "청담동"};
+
+    // 20: 기본 페이지 크기, 1000: tracker.search.max-page-size
+    @Param({"20", "1000"})
+    private int tradeCount;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<AptTrade>> entityResponse;
+    private ApiResponse<PageResponse<AptTradeSummary>> summaryResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+        List<AptTrade> trades = sampleTrades(tradeCount, 42L);
+        List<AptTradeSummary> summaries = trades.stream()
+            .map(trade -> new AptTradeSummary(trade.getId(), trade.getApartmentName(), trade.getDong(),
+                trade.getLocalNumber(), trade.getTransactionAmount(), trade.getTransactionDate(),
+                trade.getExclusiveArea(), trade.getFloor(), trade.getBuildingYear(), trade.getIsCanceled()))
+            .toList();
+
+        entityResponse = ApiResponse.success(trades);
+        summaryResponse = ApiResponse.success(PageResponse.of(
+            new PageImpl<>(summaries, PageRequest.of(0, tradeCount), tradeCount * 10L)));
+    }
+
+    @Benchmark
+    public byte[] entityList() throws Exception {
+        return objectMapper.writeValueAsBytes(entityResponse);
+    }
+
+    @Benchmark
+    public byte[] summaryPage() throws Exception {
+        return objectMapper.writeValueAsBytes(summaryResponse);
+    }
+
+    private static List<AptTrade> sampleTrades(int count, long seed) {
+        Random random = new Random(seed);
+        List<AptTrade> trades = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String dong = DONGS[random.nextInt(DONGS.length)];
+            AptTrade trade = AptTrade.builder()
+                .id((long) i + 1)
+                .transactionAmount(BigDecimal.valueOf(30_000 + random.nextInt(270_000)))
+                .buildingYear(1985 + random.nextInt(38))
+                .transactionDate(LocalDate.of(2024, 3, 1 + random.nextInt(28)))
+                .legalDong(dong)
+                .apartmentName(APARTMENTS[random.nextInt(APARTMENTS.length)] + random.nextInt(20))
+                .exclusiveArea(39 + random.nextInt(12_000) / 100.0)
+                .localNumber(String.valueOf(100 + random.nextInt(900)))
+                .lawdCode("11680")
+                .floor(1 + random.nextInt(30))
+                .city("서울특별시")
+                .district("강남구")
+                .dong(dong)
+                .isCanceled(random.nextInt(50) == 0)
+                .dealType("중개거래")
+                .build();
+            trade.setTradeKey(trade.buildTradeKey());
+            trades.add(trade);
+        }
+        return trades;
+    }
+}
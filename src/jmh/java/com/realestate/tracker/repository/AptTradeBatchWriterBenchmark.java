@@ -0,0 +1,132 @@
+package com.realestate.tracker.repository;
+
+import com.realestate.tracker.RealEstateTrackerApplication;
+import com.realestate.tracker.domain.property.dto.AptTradeUpsertResult;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 저장 벤치마크 (AptTradeBatchWriter.upsertAll, 10만건 1회 호출)
+ * 호출 1회가 측정 1회이므로, 초당 처리 행 수는 rowCount / score(초)로 계산한다.
+ *
+ * - insert: 빈 테이블에 모두 신규 저장 (INSERT 배치 + 수집 이벤트 리스너)
+ * - reupsert: 같은 거래를 다시 저장 (자연키 조회 후 모두 미변경)
+ *
+ * 힙을 -Xmx512m로 제한하여, 청크 단위 flush/clear와 청크별 이벤트 발행으로 메모리가 입력 크기만큼 늘지 않는지 함께 확인한다.
+ * 호출 1회당 할당량은 gc.alloc.rate.norm으로 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+public class AptTradeBatchWriterBenchmark {
+
+    private static final String[] APARTMENTS = {"래미안", "자이", "아이파크", "힐스테이트", "푸르지오", "롯데캐슬", "e편한세상"};
+
+    @Param({"100000"})
+    private int rowCount;
+
+    private ConfigurableApplicationContext context;
+    private AptTradeBatchWriter aptTradeBatchWriter;
+    private JdbcTemplate jdbcTemplate;
+
+    // 호출마다 새로 만든 거래 목록 (persist가 id를 채우므로 재사용하지 않는다)
+    private List<AptTrade> trades;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RealEstateTrackerApplication.class)
+            .properties(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:batch-writer-benchmark;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "spring.h2.console.enabled=false",
+                "logging.level.root=WARN",
+                "logging.level.com.realestate.tracker=WARN",
+                "logging.level.org.springframework.web=WARN",
+                "tracker.columnar.enabled=false",
+                "tracker.sync.scheduler.enabled=false")
+            .run();
+        aptTradeBatchWriter = context.getBean(AptTradeBatchWriter.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Benchmark)
+    public static class EmptyTable {
+
+        @Setup(Level.Invocation)
+        public void setUp(AptTradeBatchWriterBenchmark benchmark) {
+            benchmark.truncate();
+            benchmark.trades = benchmark.generate();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LoadedTable {
+
+        @Setup(Level.Invocation)
+        public void setUp(AptTradeBatchWriterBenchmark benchmark) {
+            benchmark.truncate();
+            benchmark.aptTradeBatchWriter.upsertAll(benchmark.generate());
+            benchmark.trades = benchmark.generate();
+        }
+    }
+
+    @Benchmark
+    public AptTradeUpsertResult insert(EmptyTable emptyTable) {
+        return aptTradeBatchWriter.upsertAll(trades);
+    }
+
+    @Benchmark
+    public AptTradeUpsertResult reupsert(LoadedTable loadedTable) {
+        return aptTradeBatchWriter.upsertAll(trades);
+    }
+
+    private void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE apt_trades");
+        jdbcTemplate.execute("TRUNCATE TABLE apt_trade_monthly_turnovers");
+        jdbcTemplate.execute("TRUNCATE TABLE apt_trade_price_stats");
+    }
+
+    /**
+     * 서로 다른 자연키를 가진 거래 rowCount건 (강남구, 2015 ~ 2024년)
+     */
+    private List<AptTrade> generate() {
+        List<AptTrade> generated = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            String dong = "동" + (i % 20);
+            generated.add(AptTrade.builder()
+                .lawdCode("11680")
+                .apartmentName(APARTMENTS[i % APARTMENTS.length] + (i / 20 % 40))
+                .transactionAmount(BigDecimal.valueOf(30_000 + (i * 7919L) % 270_000))
+                .buildingYear(1985 + i % 38)
+                .transactionDate(LocalDate.of(2024, 12, 31).minusDays((i * 31L) % 3653))
+                .exclusiveArea(39 + (i * 13 % 12_000) / 100.0)
+                .floor(1 + i % 30)
+                .dong(dong)
+                .legalDong(dong)
+                .localNumber(String.valueOf(i))
+                .isCanceled(i % 50 == 0)
+                .dealType("중개거래")
+                .build());
+        }
+        return generated;
+    }
+}
@@ -0,0 +1,174 @@
+package com.realestate.tracker.repository;
+
+import com.realestate.tracker.RealEstateTrackerApplication;
+import com.realestate.tracker.domain.common.enums.LawdGuType;
+import com.realestate.tracker.domain.common.enums.LawdSiType;
+import com.realestate.tracker.domain.property.dto.AptTradeSearchCondition;
+import com.realestate.tracker.domain.property.dto.AptTradeSummary;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 조건 조회 벤치마크 (findBySearchCondition, 목록 + COUNT)
+ * H2 인메모리 DB에 rowCount건을 INSERT ... SELECT로 한 번에 적재한 뒤, 애플리케이션과 같은 컨텍스트로 조회한다.
+ *
+ * 적재 데이터 분포
+ * - 지역코드: 서울 25개 구에 균등 분포
+ * - 동: 구마다 20개 (전체 500개)
+ * - 거래일: 2015-01-01 ~ 2024-12-31 (10년)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AptTradeSearchQueryBenchmark {
+
+    private static final String[] APARTMENTS = {"래미안", "자이", "아이파크", "힐스테이트", "푸르지오", "롯데캐슬", "e편한세상"};
+    private static final int DONGS_PER_DISTRICT = 20;
+
+    @Param({"1000000", "3000000"})
+    private int rowCount;
+
+    private ConfigurableApplicationContext context;
+    private AptTradeRepository aptTradeRepository;
+    private List<LawdGuType> districts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RealEstateTrackerApplication.class)
+            .properties(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "spring.h2.console.enabled=false",
+                "logging.level.root=WARN",
+                "logging.level.com.realestate.tracker=WARN",
+                "logging.level.org.springframework.web=WARN",
+                "tracker.columnar.enabled=false",
+                "tracker.sync.scheduler.enabled=false")
+            .run();
+        aptTradeRepository = context.getBean(AptTradeRepository.class);
+        districts = LawdGuType.findBySiType(LawdSiType.SEOUL);
+
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 구 + 6개월 (인덱스 idx_apt_trades_lawd_code_date 범위 조회)
+     */
+    @Benchmark
+    public Page<AptTradeSummary> lawdCodeAndPeriod() {
+        AptTradeSearchCondition condition = condition(districts.get(0).getCode(),
+            YearMonth.of(2024, 1), YearMonth.of(2024, 6));
+        return aptTradeRepository.findBySearchCondition(condition, pageable(condition));
+    }
+
+    /**
+     * 구 + 동 + 1년
+     */
+    @Benchmark
+    public Page<AptTradeSummary> dongAndPeriod() {
+        AptTradeSearchCondition condition = condition(districts.get(0).getCode(),
+            YearMonth.of(2024, 1), YearMonth.of(2024, 12));
+        condition.setDong(dong(0));
+        return aptTradeRepository.findBySearchCondition(condition, pageable(condition));
+    }
+
+    /**
+     * 구 + 아파트명 부분 일치 + 가격 범위 + 1년 (LIKE는 인덱스를 타지 못한다)
+     */
+    @Benchmark
+    public Page<AptTradeSummary> apartmentNameAndPriceRange() {
+        AptTradeSearchCondition condition = condition(districts.get(0).getCode(),
+            YearMonth.of(2024, 1), YearMonth.of(2024, 12));
+        condition.setApartmentName("래미안");
+        condition.setStartTransactionAmount(BigDecimal.valueOf(100_000));
+        condition.setEndTransactionAmount(BigDecimal.valueOf(200_000));
+        return aptTradeRepository.findBySearchCondition(condition, pageable(condition));
+    }
+
+    /**
+     * 시 전체 + 1개월 (지역코드 prefix LIKE)
+     */
+    @Benchmark
+    public Page<AptTradeSummary> cityAndMonth() {
+        AptTradeSearchCondition condition = condition(null, YearMonth.of(2024, 12), YearMonth.of(2024, 12));
+        condition.setCity(LawdSiType.SEOUL.getCode());
+        return aptTradeRepository.findBySearchCondition(condition, pageable(condition));
+    }
+
+    private AptTradeSearchCondition condition(String lawdCode, YearMonth start, YearMonth end) {
+        // @Builder는 필드 기본값을 쓰지 않으므로 기본 생성자로 만든다
+        AptTradeSearchCondition condition = new AptTradeSearchCondition();
+        condition.setLawdCode(lawdCode);
+        condition.setStartYearMonth(start);
+        condition.setEndYearMonth(end);
+        return condition;
+    }
+
+    private Pageable pageable(AptTradeSearchCondition condition) {
+        // AptTradeService.search와 같은 정렬 (정렬 컬럼 + id)
+        Sort sort = Sort.by(Sort.Direction.DESC, condition.getSortBy()).and(Sort.by(Sort.Direction.DESC, "id"));
+        return PageRequest.of(condition.getPage(), condition.resolvePageSize(), sort);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        int dongCount = districts.size() * DONGS_PER_DISTRICT;
+        String dongIndex = "MOD(X, " + dongCount + ")";
+
+        jdbcTemplate.update(
+            "INSERT INTO apt_trades (id, transaction_amount, building_year, transaction_date, legal_dong, " +
+            "apartment_name, exclusive_area, local_number, lawd_code, floor, city, district, dong, " +
+            "is_canceled, deal_type, trade_key) " +
+            "SELECT X, " +
+            "30000 + MOD(X * 7919, 270000), " +
+            "1985 + MOD(X, 38), " +
+            "DATEADD('DAY', -MOD(X * 31, 3653), DATE '2024-12-31'), " +
+            "CONCAT('동', " + dongIndex + "), " +
+            "CONCAT(" + caseOf("MOD(X / " + dongCount + ", " + APARTMENTS.length + ")", List.of(APARTMENTS)) +
+            ", MOD(X / " + dongCount + ", 40)), " +
+            "39 + MOD(X * 13, 12000) / 100.0, " +
+            "CAST(100 + MOD(X, 900) AS VARCHAR), " +
+            caseOf(dongIndex + " / " + DONGS_PER_DISTRICT, districts.stream().map(LawdGuType::getCode).toList()) + ", " +
+            "1 + MOD(X, 30), " +
+            "'" + LawdSiType.SEOUL.getName() + "', " +
+            caseOf(dongIndex + " / " + DONGS_PER_DISTRICT, districts.stream().map(LawdGuType::getName).toList()) + ", " +
+            "CONCAT('동', " + dongIndex + "), " +
+            "MOD(X, 50) = 0, " +
+            "'중개거래', " +
+            "CAST(X AS VARCHAR) " +
+            "FROM SYSTEM_RANGE(1, ?)", rowCount);
+        jdbcTemplate.execute("ANALYZE TABLE apt_trades");
+    }
+
+    private String dong(int index) {
+        return "동" + index;
+    }
+
+    private static String caseOf(String expression, List<String> values) {
+        StringBuilder sql = new StringBuilder("CASE ").append(expression);
+        for (int i = 0; i < values.size(); i++) {
+            sql.append(" WHEN ").append(i).append(" THEN '").append(values.get(i)).append("'");
+        }
+        return sql.append(" END").toString();
+    }
+}
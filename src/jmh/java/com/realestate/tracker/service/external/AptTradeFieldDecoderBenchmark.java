@@ -0,0 +1,128 @@
+package com.realestate.tracker.service.external;
+
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * item 필드 변환 벤치마크 (문자 범위 디코더 vs 필드별 String 변환)
+ * XML 리더를 빼고 item 1,000건의 필드값 변환만 측정한다.
+ * stringFields는 디코더 도입 전 방식(필드마다 String 생성 후 trim/replaceAll/new BigDecimal)을 그대로 옮긴 비교 기준이다.
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm(호출 1회 = item 1,000건)으로 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AptTradeFieldDecoderBenchmark {
+
+    private static final int ITEM_COUNT = 1000;
+    private static final String[] APARTMENTS = {"래미안", "자이", "아이파크", "힐스테이트", "푸르지오", "롯데캐슬", "e편한세상"};
+    private static final String[] DONGS = {"역삼동", "개포동", "대치동", "삼성동", "도곡동", "청담동"};
+    private static final AptTradeFieldDecoder.Field[] FIELDS = AptTradeFieldDecoder.Field.values();
+    private static final DateTimeFormatter CANCELED_DATE_FORMAT = DateTimeFormatter.ofPattern("yy.MM.dd");
+
+    // [item][field] 필드값 문자 (XML 리더의 문자 버퍼 역할)
+    private char[][][] items;
+    private AptTradeFieldDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        items = new char[ITEM_COUNT][FIELDS.length][];
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            boolean canceled = random.nextInt(50) == 0;
+            String[] values = {
+                String.format("%,9d", 30_000 + random.nextInt(270_000)),
+                "2024",
+                "3",
+                String.valueOf(1 + random.nextInt(28)),
+                String.valueOf(1985 + random.nextInt(38)),
+                (39 + random.nextInt(120)) + "." + random.nextInt(100),
+                String.valueOf(1 + random.nextInt(30)),
+                APARTMENTS[random.nextInt(APARTMENTS.length)] + random.nextInt(20),
+                " " + DONGS[random.nextInt(DONGS.length)],
+                String.valueOf(100 + random.nextInt(900)),
+                canceled ? "O" : " ",
+                canceled ? "24.04.02" : " "
+            };
+            for (int f = 0; f < FIELDS.length; f++) {
+                items[i][f] = values[f].toCharArray();
+            }
+        }
+        decoder = new AptTradeFieldDecoder(new BoundedStringPool(4096));
+    }
+
+    @Benchmark
+    public void decoder(Blackhole blackhole) {
+        for (char[][] item : items) {
+            decoder.startItem();
+            for (int f = 0; f < FIELDS.length; f++) {
+                decoder.startField(FIELDS[f]);
+                decoder.append(item[f], 0, item[f].length);
+                decoder.endField();
+            }
+            blackhole.consume(decoder.decode("11680"));
+        }
+    }
+
+    @Benchmark
+    public void stringFields(Blackhole blackhole) {
+        Map<String, String> fields = new HashMap<>();
+        for (char[][] item : items) {
+            fields.clear();
+            for (int f = 0; f < FIELDS.length; f++) {
+                fields.put(FIELDS[f].tag(), new String(item[f]));
+            }
+            blackhole.consume(mapStringFields(fields, "11680"));
+        }
+    }
+
+    private static AptTrade mapStringFields(Map<String, String> fields, String lawdCode) {
+        try {
+            String amountStr = fields.getOrDefault("거래금액", "").trim();
+            if (amountStr.isEmpty()) {
+                return null;
+            }
+            BigDecimal amount = new BigDecimal(amountStr.replaceAll(",", "").trim());
+            LocalDate transactionDate = LocalDate.of(
+                Integer.parseInt(fields.getOrDefault("년", "").trim()),
+                Integer.parseInt(fields.getOrDefault("월", "").trim()),
+                Integer.parseInt(fields.getOrDefault("일", "").trim()));
+            String buildYearStr = fields.getOrDefault("건축년도", "").trim();
+            String areaStr = fields.getOrDefault("전용면적", "").trim();
+            String floorStr = fields.getOrDefault("층", "").trim();
+            String dong = fields.getOrDefault("법정동", "").trim();
+            String cancelDeal = fields.getOrDefault("해제여부", "").trim();
+            String canceledDateStr = fields.getOrDefault("해제사유발생일", "").trim();
+            boolean isCanceled = !cancelDeal.isEmpty();
+
+            return AptTrade.builder()
+                .lawdCode(lawdCode)
+                .apartmentName(fields.getOrDefault("아파트", "").trim())
+                .transactionAmount(amount)
+                .buildingYear(buildYearStr.isEmpty() ? 0 : Integer.parseInt(buildYearStr))
+                .transactionDate(transactionDate)
+                .exclusiveArea(areaStr.isEmpty() ? 0.0 : Double.parseDouble(areaStr))
+                .floor(floorStr.isEmpty() ? 0 : Integer.parseInt(floorStr))
+                .dong(dong)
+                .localNumber(fields.getOrDefault("지번", "").trim())
+                .legalDong(dong)
+                .isCanceled(isCanceled)
+                .canceledDate(isCanceled && !canceledDateStr.isEmpty() ? LocalDate.parse(canceledDateStr, CANCELED_DATE_FORMAT) : null)
+                .build();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
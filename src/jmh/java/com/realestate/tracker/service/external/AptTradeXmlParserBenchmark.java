@@ -0,0 +1,52 @@
+package com.realestate.tracker.service.external;
+
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Open API XML 파싱 벤치마크 (DOM vs 스트리밍)
+ * 할당량은 gc 프로파일러(gc.alloc.rate.norm)로 측정하며, item 1건당 값은 결과를 itemCount로 나누어 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AptTradeXmlParserBenchmark {
+
+    @Param({"1000", "10000"})
+    private int itemCount;
+
+    private String xml;
+    private byte[] xmlBytes;
+    private OpenApiService openApiService;
+    private AptTradeXmlStreamParser streamParser;
+
+    @Setup
+    public void setUp() {
+        xml = SampleAptTradeXml.generate(itemCount, 42L);
+        xmlBytes = xml.getBytes(StandardCharsets.UTF_8);
+        streamParser = new AptTradeXmlStreamParser();
+        openApiService = new OpenApiService(new OpenApiRateLimiter(10), streamParser, WebClient.create(),
+            CircuitBreaker.ofDefaults("openapi"), new OpenApiTransientErrors(List.of()),
+            new OpenApiMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public List<AptTrade> dom() {
+        return openApiService.parseAptTradeXml(xml, "11680");
+    }
+
+    @Benchmark
+    public List<AptTrade> stream() {
+        return streamParser.parse(xmlBytes, "11680");
+    }
+}
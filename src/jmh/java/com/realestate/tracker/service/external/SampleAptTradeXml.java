@@ -0,0 +1,46 @@
+package com.realestate.tracker.service.external;
+
+import java.util.Random;
+
+/**
+ * 벤치마크용 Open API 응답 XML 생성기
+ * 실제 응답과 같은 태그 구조로 지정한 건수의 item을 만든다.
+ */
+final class SampleAptTradeXml {
+
+    private static final String[] APARTMENTS = {"래미안", "자이", "아이파크", "힐스테이트", "푸르지오", "롯데캐슬", "e편한세상"};
+    private static final String[] DONGS = {"역삼동", "개포동", "대치동", "삼성동", "도곡동", "청담동"};
+
+    private SampleAptTradeXml() {
+    }
+
+    static String generate(int itemCount, long seed) {
+        Random random = new Random(seed);
+        StringBuilder xml = new StringBuilder(itemCount * 420 + 256);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>");
+        xml.append("<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>");
+        xml.append("<body><items>");
+        for (int i = 0; i < itemCount; i++) {
+            int amount = 30_000 + random.nextInt(270_000);
+            xml.append("<item>");
+            xml.append("<거래금액>").append(String.format("%,9d", amount)).append("</거래금액>");
+            xml.append("<거래유형>중개거래</거래유형>");
+            xml.append("<건축년도>").append(1985 + random.nextInt(38)).append("</건축년도>");
+            xml.append("<년>2024</년>");
+            xml.append("<법정동> ").append(DONGS[random.nextInt(DONGS.length)]).append("</법정동>");
+            xml.append("<아파트>").append(APARTMENTS[random.nextInt(APARTMENTS.length)]).append(random.nextInt(20)).append("</아파트>");
+            xml.append("<월>3</월>");
+            xml.append("<일>").append(1 + random.nextInt(28)).append("</일>");
+            xml.append("<전용면적>").append(39 + random.nextInt(120)).append(".").append(random.nextInt(100)).append("</전용면적>");
+            xml.append("<지번>").append(100 + random.nextInt(900)).append("</지번>");
+            xml.append("<지역코드>11680</지역코드>");
+            xml.append("<층>").append(1 + random.nextInt(30)).append("</층>");
+            xml.append("<해제여부>").append(random.nextInt(50) == 0 ? "O" : " ").append("</해제여부>");
+            xml.append("<해제사유발생일> </해제사유발생일>");
+            xml.append("</item>");
+        }
+        xml.append("</items><numOfRows>").append(itemCount).append("</numOfRows><pageNo>1</pageNo>");
+        xml.append("<totalCount>").append(itemCount).append("</totalCount></body></response>");
+        return xml.toString();
+    }
+}
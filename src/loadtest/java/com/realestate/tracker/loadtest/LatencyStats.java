@@ -0,0 +1,105 @@
+package com.realestate.tracker.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 엔드포인트별 응답 시간 기록
+ * 부하 발생 스레드마다 따로 기록한 뒤 merge로 합치므로 기록 중에는 동기화하지 않는다.
+ * 측정 구간의 요청 수가 수백만 건 수준이므로 근사 없이 전체 값을 정렬해 분위수를 구한다.
+ */
+final class LatencyStats {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private long[] latencyNanos = new long[1024];
+    private int count;
+    private long errorCount;
+    private final Map<Integer, Long> statusCounts = new TreeMap<>();
+
+    /**
+     * 응답을 받은 요청 기록 (4xx/5xx는 오류로 함께 집계)
+     */
+    void record(int status, long elapsedNanos) {
+        if (count == latencyNanos.length) {
+            latencyNanos = Arrays.copyOf(latencyNanos, count * 2);
+        }
+        latencyNanos[count++] = elapsedNanos;
+        statusCounts.merge(status, 1L, Long::sum);
+        if (status >= 400) {
+            errorCount++;
+        }
+    }
+
+    /**
+     * 응답을 받지 못한 요청 기록 (연결 실패, 타임아웃)
+     */
+    void recordFailure() {
+        errorCount++;
+        statusCounts.merge(0, 1L, Long::sum);
+    }
+
+    void merge(LatencyStats other) {
+        if (count + other.count > latencyNanos.length) {
+            latencyNanos = Arrays.copyOf(latencyNanos, count + other.count);
+        }
+        System.arraycopy(other.latencyNanos, 0, latencyNanos, count, other.count);
+        count += other.count;
+        errorCount += other.errorCount;
+        other.statusCounts.forEach((status, n) -> statusCounts.merge(status, n, Long::sum));
+    }
+
+    long requestCount() {
+        return statusCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    long errorCount() {
+        return errorCount;
+    }
+
+    /**
+     * 요약 (시간 단위: ms)
+     */
+    Map<String, Object> summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latencyNanos, count);
+        Arrays.sort(sorted);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", requestCount());
+        summary.put("errors", errorCount);
+        summary.put("throughput", round(requestCount() / elapsedSeconds));
+        for (double percentile : PERCENTILES) {
+            summary.put("p" + formatPercentile(percentile), millis(percentileOf(sorted, percentile)));
+        }
+        summary.put("max", millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+        summary.put("statusCounts", statusCounts);
+        return summary;
+    }
+
+    static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile);
+    }
+
+    static double[] percentiles() {
+        return PERCENTILES.clone();
+    }
+
+    // nearest-rank
+    private static long percentileOf(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,322 @@
+package com.realestate.tracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 발생기
+ * 1. 지역코드마다 POST /sync로 기간 데이터를 적재하고 GET /sync/{jobId}로 끝날 때까지 기다린다.
+ * 2. concurrency개 스레드가 목록/이력/위험 신호/동기화 요청을 mix 비율로 쉬지 않고 보낸다 (closed model).
+ *    warmup 동안의 결과는 버리고 duration 동안의 결과만 집계한다.
+ * 3. 엔드포인트별 처리량과 응답 시간 분위수를 출력하고 JSON 파일로 저장한다.
+ *
+ * 실행 인자
+ * --base-url=http://localhost:8080
+ * --lawd-codes=11680,11650,11710   대상 지역코드
+ * --end-month=(지난 달) --months=12 적재/조회 기간
+ * --concurrency=32 --warmup=10s --duration=60s
+ * --mix=search:70,history:20,risky:9,sync:1
+ * --seed=42                         Mock 서버와 같은 시드 (이력 조회 대상 단지)
+ * --initial-sync=true               false면 1단계를 건너뛴다
+ * --sync-timeout=10m
+ * --out=build/loadtest/result-(시각).json
+ */
+public final class LoadTestDriver {
+
+    private static final String API_PATH = "/api/v1/apt-trades";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    enum Endpoint {
+        SEARCH("search"), HISTORY("history"), RISKY("risky"), SYNC("sync");
+
+        private final String key;
+
+        Endpoint(String key) {
+            this.key = key;
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private final String baseUrl;
+    private final List<String> lawdCodes;
+    private final YearMonth startMonth;
+    private final YearMonth endMonth;
+    private final int periodMonths;
+    private final long seed;
+    private final Map<Endpoint, Integer> mix;
+
+    private LoadTestDriver(CommandLineOptions options) {
+        this.baseUrl = options.getString("base-url", "http://localhost:8080");
+        this.lawdCodes = options.getList("lawd-codes", "11680,11650,11710");
+        this.endMonth = YearMonth.parse(options.getString("end-month", YearMonth.now().minusMonths(1).toString()));
+        this.periodMonths = options.getInt("months", 12);
+        this.startMonth = endMonth.minusMonths(periodMonths - 1L);
+        this.seed = options.getLong("seed", 42L);
+        this.mix = parseMix(options.getString("mix", "search:70,history:20,risky:9,sync:1"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions options = new CommandLineOptions(args);
+        LoadTestDriver driver = new LoadTestDriver(options);
+        int concurrency = options.getInt("concurrency", 32);
+        Duration warmup = options.getDuration("warmup", Duration.ofSeconds(10));
+        Duration duration = options.getDuration("duration", Duration.ofSeconds(60));
+        Path out = Path.of(options.getString("out", "build/loadtest/result-" + System.currentTimeMillis() + ".json"));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("startedAt", Instant.now().toString());
+        result.put("baseUrl", driver.baseUrl);
+        result.put("lawdCodes", driver.lawdCodes);
+        result.put("period", driver.startMonth + " ~ " + driver.endMonth);
+        result.put("concurrency", concurrency);
+        result.put("durationSeconds", duration.toSeconds());
+        result.put("mix", driver.mix);
+
+        if (Boolean.parseBoolean(options.getString("initial-sync", "true"))) {
+            result.put("initialSync", driver.initialSync(options.getDuration("sync-timeout", Duration.ofMinutes(10))));
+        }
+
+        System.out.printf("Warming up for %ds with %d threads...%n", warmup.toSeconds(), concurrency);
+        driver.run(concurrency, warmup);
+        System.out.printf("Measuring for %ds with %d threads...%n", duration.toSeconds(), concurrency);
+        long startedAt = System.nanoTime();
+        Map<Endpoint, LatencyStats> stats = driver.run(concurrency, duration);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        result.put("endpoints", report(stats, elapsedSeconds));
+
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        driver.objectMapper.writeValue(out.toFile(), result);
+        System.out.println("Result written to " + out.toAbsolutePath());
+    }
+
+    /**
+     * 지역코드마다 동기화 작업을 등록하고 모두 끝날 때까지 기다린다.
+     */
+    private List<JsonNode> initialSync(Duration timeout) throws IOException, InterruptedException {
+        List<String> jobIds = new ArrayList<>();
+        for (String lawdCode : lawdCodes) {
+            HttpResponse<String> response = send(syncRequest(lawdCode, startMonth, endMonth));
+            if (response.statusCode() != 202) {
+                throw new IllegalStateException("Failed to submit sync job for " + lawdCode + ": "
+                    + response.statusCode() + " " + response.body());
+            }
+            String jobId = objectMapper.readTree(response.body()).path("data").path("jobId").asText();
+            System.out.printf("Submitted sync job %s (%s, %s ~ %s)%n", jobId, lawdCode, startMonth, endMonth);
+            jobIds.add(jobId);
+        }
+
+        List<JsonNode> jobs = new ArrayList<>();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (String jobId : jobIds) {
+            JsonNode job = waitForJob(jobId, deadline);
+            System.out.printf("Sync job %s %s: %d/%d months, %d failed, %d rows, %.1f rows/s%n",
+                jobId, job.path("status").asText(), job.path("completedMonths").asInt(), job.path("totalMonths").asInt(),
+                job.path("failedMonths").asInt(), job.path("ingestedRows").asLong(), job.path("rowsPerSecond").asDouble());
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+    private JsonNode waitForJob(String jobId, long deadline) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + API_PATH + "/sync/" + jobId))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        while (true) {
+            JsonNode job = objectMapper.readTree(send(request).body()).path("data");
+            String status = job.path("status").asText();
+            if ("COMPLETED".equals(status) || "FAILED".equals(status)) {
+                return job;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Sync job " + jobId + " did not finish in time (status: " + status + ")");
+            }
+            Thread.sleep(500);
+        }
+    }
+
+    /**
+     * concurrency개 스레드로 duration 동안 요청을 보내고 엔드포인트별 기록을 합친다.
+     */
+    private Map<Endpoint, LatencyStats> run(int concurrency, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Map<Endpoint, LatencyStats>>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> work(deadline)));
+            }
+
+            Map<Endpoint, LatencyStats> merged = new EnumMap<>(Endpoint.class);
+            for (Future<Map<Endpoint, LatencyStats>> worker : workers) {
+                worker.get().forEach((endpoint, stats) ->
+                    merged.computeIfAbsent(endpoint, e -> new LatencyStats()).merge(stats));
+            }
+            return merged;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<Endpoint, LatencyStats> work(long deadline) {
+        Map<Endpoint, LatencyStats> stats = new EnumMap<>(Endpoint.class);
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = nextEndpoint();
+            HttpRequest request = request(endpoint);
+            LatencyStats endpointStats = stats.computeIfAbsent(endpoint, e -> new LatencyStats());
+
+            long startedAt = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                endpointStats.record(response.statusCode(), System.nanoTime() - startedAt);
+            } catch (IOException e) {
+                endpointStats.recordFailure();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return stats;
+    }
+
+    private Endpoint nextEndpoint() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int pick = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Invalid mix: " + mix);
+    }
+
+    private HttpRequest request(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String lawdCode = lawdCodes.get(random.nextInt(lawdCodes.size()));
+
+        return switch (endpoint) {
+            case SEARCH -> {
+                // 1 ~ 6개월 구간, 앞쪽 3페이지 중 하나
+                YearMonth from = startMonth.plusMonths(random.nextInt(periodMonths));
+                YearMonth to = min(from.plusMonths(random.nextInt(6)), endMonth);
+                yield get(API_PATH + "?lawdCode=" + lawdCode + "&startYearMonth=" + from + "&endYearMonth=" + to
+                    + "&page=" + random.nextInt(3) + "&size=20"
+                    + "&sortBy=" + (random.nextBoolean() ? "transactionDate" : "transactionAmount"));
+            }
+            case HISTORY -> {
+                List<MockAptTradeData.Complex> complexes = MockAptTradeData.complexes(seed, lawdCode);
+                MockAptTradeData.Complex complex = complexes.get(random.nextInt(complexes.size()));
+                yield get(API_PATH + "/history?apartmentName=" + encode(complex.apartmentName())
+                    + "&dong=" + encode(complex.dong()));
+            }
+            case RISKY -> get(API_PATH + "/risky?lawdCode=" + lawdCode
+                + "&months=" + (3 + random.nextInt(10)) + "&minTransactionCount=3");
+            case SYNC -> {
+                YearMonth month = startMonth.plusMonths(random.nextInt(periodMonths));
+                yield syncRequest(lawdCode, month, month);
+            }
+        };
+    }
+
+    private HttpRequest get(String pathAndQuery) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+    }
+
+    private HttpRequest syncRequest(String lawdCode, YearMonth start, YearMonth end) {
+        String body = String.format("{\"lawdCode\":\"%s\",\"startYearMonth\":\"%s\",\"endYearMonth\":\"%s\"}",
+            lawdCode, start, end);
+        return HttpRequest.newBuilder(URI.create(baseUrl + API_PATH + "/sync"))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static Map<String, Object> report(Map<Endpoint, LatencyStats> stats, double elapsedSeconds) {
+        LatencyStats total = new LatencyStats();
+        stats.values().forEach(total::merge);
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        stats.forEach((endpoint, endpointStats) -> endpoints.put(endpoint.key, endpointStats.summarize(elapsedSeconds)));
+        endpoints.put("total", total.summarize(elapsedSeconds));
+
+        StringBuilder header = new StringBuilder(String.format("%-10s %10s %8s %10s", "endpoint", "requests", "errors", "req/s"));
+        for (double percentile : LatencyStats.percentiles()) {
+            header.append(String.format(" %9s", "p" + LatencyStats.formatPercentile(percentile)));
+        }
+        header.append(String.format(" %9s", "max"));
+        System.out.println();
+        System.out.println(header + "   (latency: ms)");
+        endpoints.forEach((name, value) -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> summary = (Map<String, Object>) value;
+            StringBuilder line = new StringBuilder(String.format("%-10s %10d %8d %10.1f",
+                name, (Long) summary.get("requests"), (Long) summary.get("errors"), (Double) summary.get("throughput")));
+            for (double percentile : LatencyStats.percentiles()) {
+                line.append(String.format(" %9.1f", (Double) summary.get("p" + LatencyStats.formatPercentile(percentile))));
+            }
+            line.append(String.format(" %9.1f", (Double) summary.get("max")));
+            System.out.println(line);
+        });
+        System.out.println();
+        return endpoints;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            Endpoint endpoint = Endpoint.valueOf(pair[0].trim().toUpperCase());
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(endpoint, weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix must contain at least one positive weight");
+        }
+        return mix;
+    }
+
+    private static YearMonth min(YearMonth a, YearMonth b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,106 @@
+package com.realestate.tracker.loadtest;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mock 서버의 시드 고정 거래 데이터
+ * 같은 시드, 지역코드, 거래년월이면 몇 번을 조회해도 같은 거래가 같은 순서로 나오므로
+ * 재동기화시 upsert가 중복 없이 동작하고, 부하 발생기는 이력 조회 대상(단지/동)을 미리 알 수 있다.
+ */
+final class MockAptTradeData {
+
+    static final int COMPLEXES_PER_LAWD_CODE = 30;
+
+    private static final String[] APARTMENTS = {"래미안", "자이", "아이파크", "힐스테이트", "푸르지오", "롯데캐슬", "e편한세상"};
+    private static final String[] DONGS = {"신사동", "역삼동", "개포동", "대치동", "삼성동", "도곡동", "청담동", "논현동"};
+    // 단지별 평형 (전용면적 ㎡)
+    private static final double[] AREAS = {59.97, 84.95, 114.8};
+    private static final YearMonth PRICE_BASE_MONTH = YearMonth.of(2015, 1);
+    private static final DateTimeFormatter CANCELED_DATE_FORMAT = DateTimeFormatter.ofPattern("yy.MM.dd");
+
+    private MockAptTradeData() {
+    }
+
+    /**
+     * 단지 (아파트명, 동, 지번, 건축년도, 기준 ㎡당 가격(만원))
+     */
+    record Complex(String apartmentName, String dong, String jibun, int buildingYear, int basePricePerSquareMeter) {
+    }
+
+    /**
+     * 지역코드의 단지 목록
+     */
+    static List<Complex> complexes(long seed, String lawdCode) {
+        Random random = new Random(seed * 31 + lawdCode.hashCode());
+        // 지역마다 가격 수준을 다르게 둔다 (㎡당 500 ~ 2,500만원)
+        int districtPrice = 500 + random.nextInt(2_000);
+        List<Complex> complexes = new ArrayList<>(COMPLEXES_PER_LAWD_CODE);
+        for (int i = 0; i < COMPLEXES_PER_LAWD_CODE; i++) {
+            complexes.add(new Complex(
+                APARTMENTS[i % APARTMENTS.length] + (i / APARTMENTS.length + 1) + "차",
+                DONGS[random.nextInt(DONGS.length)],
+                String.valueOf(100 + random.nextInt(900)),
+                1985 + random.nextInt(38),
+                districtPrice * (80 + random.nextInt(41)) / 100));
+        }
+        return complexes;
+    }
+
+    /**
+     * 지역코드/거래년월의 전체 거래 건수 (minItems 이상 maxItems 이하)
+     */
+    static int totalCount(long seed, String lawdCode, YearMonth yearMonth, int minItems, int maxItems) {
+        Random random = new Random(monthSeed(seed, lawdCode, yearMonth));
+        return minItems + random.nextInt(Math.max(1, maxItems - minItems + 1));
+    }
+
+    /**
+     * fromIndex(포함)부터 toIndex(제외)까지 거래를 item 태그로 추가
+     */
+    static void appendItems(StringBuilder xml, long seed, String lawdCode, YearMonth yearMonth, int fromIndex, int toIndex) {
+        List<Complex> complexes = complexes(seed, lawdCode);
+        Random random = new Random(monthSeed(seed, lawdCode, yearMonth) ^ 0x5DEECE66DL);
+        double trend = Math.pow(1.003, PRICE_BASE_MONTH.until(yearMonth, ChronoUnit.MONTHS));
+
+        for (int i = 0; i < toIndex; i++) {
+            // 앞 페이지 거래도 같은 순서로 난수를 소비해야 페이지마다 결과가 같다
+            Complex complex = complexes.get(random.nextInt(complexes.size()));
+            double area = AREAS[random.nextInt(AREAS.length)];
+            long amount = Math.round(area * complex.basePricePerSquareMeter() * trend * (0.9 + random.nextDouble() * 0.2));
+            int day = 1 + random.nextInt(yearMonth.lengthOfMonth());
+            int floor = 1 + random.nextInt(30);
+            boolean canceled = random.nextInt(50) == 0;
+            if (i < fromIndex) {
+                continue;
+            }
+
+            xml.append("<item>");
+            xml.append("<거래금액>").append(String.format("%,9d", amount)).append("</거래금액>");
+            xml.append("<거래유형>중개거래</거래유형>");
+            xml.append("<건축년도>").append(complex.buildingYear()).append("</건축년도>");
+            xml.append("<년>").append(yearMonth.getYear()).append("</년>");
+            xml.append("<법정동> ").append(complex.dong()).append("</법정동>");
+            xml.append("<아파트>").append(complex.apartmentName()).append("</아파트>");
+            xml.append("<월>").append(yearMonth.getMonthValue()).append("</월>");
+            xml.append("<일>").append(day).append("</일>");
+            xml.append("<전용면적>").append(area).append("</전용면적>");
+            xml.append("<지번>").append(complex.jibun()).append("</지번>");
+            xml.append("<지역코드>").append(lawdCode).append("</지역코드>");
+            xml.append("<층>").append(floor).append("</층>");
+            xml.append("<해제여부>").append(canceled ? "O" : " ").append("</해제여부>");
+            xml.append("<해제사유발생일>")
+                .append(canceled ? yearMonth.atEndOfMonth().format(CANCELED_DATE_FORMAT) : " ")
+                .append("</해제사유발생일>");
+            xml.append("</item>");
+        }
+    }
+
+    private static long monthSeed(long seed, String lawdCode, YearMonth yearMonth) {
+        return (seed * 31 + lawdCode.hashCode()) * 31 + yearMonth.hashCode();
+    }
+}
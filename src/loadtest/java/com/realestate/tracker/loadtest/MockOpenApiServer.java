@@ -0,0 +1,181 @@
+package com.realestate.tracker.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공공데이터포털 아파트 매매 실거래 API Mock 서버
+ * 모든 경로에서 serviceKey, LAWD_CD, DEAL_YMD, pageNo, numOfRows를 받아 실제 응답과 같은 구조의 XML을 돌려준다.
+ *
+ * 실행 인자
+ * --port=18080            수신 포트
+ * --seed=42               거래 데이터 시드
+ * --min-items=50          지역코드/월당 최소 거래 건수
+ * --max-items=400         지역코드/월당 최대 거래 건수
+ * --latency-ms=100        응답 지연 (기본)
+ * --jitter-ms=100         응답 지연에 더하는 0 ~ jitter 사이 무작위 지연
+ * --error-rate=0          HTTP 503 응답 비율 (0 ~ 1)
+ * --result-error-rate=0   결과코드 22(요청 한도 초과) 응답 비율 (0 ~ 1)
+ */
+public final class MockOpenApiServer {
+
+    private static final DateTimeFormatter DEAL_YMD_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final long seed;
+    private final int minItems;
+    private final int maxItems;
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double errorRate;
+    private final double resultErrorRate;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong injectedErrorCount = new AtomicLong();
+
+    private MockOpenApiServer(CommandLineOptions options) {
+        this.seed = options.getLong("seed", 42L);
+        this.minItems = options.getInt("min-items", 50);
+        this.maxItems = options.getInt("max-items", 400);
+        this.latencyMillis = options.getLong("latency-ms", 100L);
+        this.jitterMillis = options.getLong("jitter-ms", 100L);
+        this.errorRate = options.getDouble("error-rate", 0.0);
+        this.resultErrorRate = options.getDouble("result-error-rate", 0.0);
+    }
+
+    public static void main(String[] args) throws IOException {
+        CommandLineOptions options = new CommandLineOptions(args);
+        MockOpenApiServer mock = new MockOpenApiServer(options);
+        int port = options.getInt("port", 18080);
+
+        // 작은 응답이 Nagle 알고리즘으로 지연되어 설정한 지연 시간보다 느려지지 않도록 한다
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.createContext("/", mock::handle);
+        // 지연 응답 중에도 요청을 계속 받도록 요청마다 스레드를 쓴다
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        System.out.printf("Mock Open API listening on http://localhost:%d (latency %d+%dms, error rate %.3f, result error rate %.3f)%n",
+            port, mock.latencyMillis, mock.jitterMillis, mock.errorRate, mock.resultErrorRate);
+        System.out.printf("Run the application with --openapi.apt-trade.url=http://localhost:%d/getRTMSDataSvcAptTradeDev --openapi.key=mock%n",
+            port);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(0);
+            System.out.printf("Served %d requests (%d injected errors)%n",
+                mock.requestCount.get(), mock.injectedErrorCount.get());
+        }));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requestCount.incrementAndGet();
+            delay();
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextDouble() < errorRate) {
+                injectedErrorCount.incrementAndGet();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            if (random.nextDouble() < resultErrorRate) {
+                injectedErrorCount.incrementAndGet();
+                send(exchange, errorXml("22", "LIMITED NUMBER OF SERVICE REQUESTS EXCEEDS ERROR."));
+                return;
+            }
+
+            send(exchange, responseXml(queryParameters(exchange.getRequestURI().getRawQuery())));
+        }
+    }
+
+    private String responseXml(Map<String, String> params) {
+        String serviceKey = params.get("serviceKey");
+        if (serviceKey == null || serviceKey.isEmpty()) {
+            return errorXml("30", "SERVICE KEY IS NOT REGISTERED ERROR.");
+        }
+
+        String lawdCode = params.get("LAWD_CD");
+        YearMonth yearMonth;
+        int pageNo;
+        int numOfRows;
+        try {
+            yearMonth = YearMonth.parse(params.getOrDefault("DEAL_YMD", ""), DEAL_YMD_FORMAT);
+            pageNo = Integer.parseInt(params.getOrDefault("pageNo", "1"));
+            numOfRows = Integer.parseInt(params.getOrDefault("numOfRows", "10"));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return errorXml("10", "INVALID REQUEST PARAMETER ERROR.");
+        }
+        if (lawdCode == null || lawdCode.length() != 5 || pageNo < 1 || numOfRows < 1) {
+            return errorXml("10", "INVALID REQUEST PARAMETER ERROR.");
+        }
+
+        int totalCount = MockAptTradeData.totalCount(seed, lawdCode, yearMonth, minItems, maxItems);
+        int fromIndex = Math.min(totalCount, (pageNo - 1) * numOfRows);
+        int toIndex = Math.min(totalCount, fromIndex + numOfRows);
+
+        StringBuilder xml = new StringBuilder((toIndex - fromIndex) * 420 + 256);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>");
+        xml.append("<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>");
+        xml.append("<body><items>");
+        MockAptTradeData.appendItems(xml, seed, lawdCode, yearMonth, fromIndex, toIndex);
+        xml.append("</items><numOfRows>").append(numOfRows).append("</numOfRows><pageNo>").append(pageNo).append("</pageNo>");
+        xml.append("<totalCount>").append(totalCount).append("</totalCount></body></response>");
+        return xml.toString();
+    }
+
+    private static String errorXml(String resultCode, String resultMsg) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+            + "<response><header><resultCode>" + resultCode + "</resultCode>"
+            + "<resultMsg>" + resultMsg + "</resultMsg></header></response>";
+    }
+
+    private void delay() {
+        long millis = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml;charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> queryParameters(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+}
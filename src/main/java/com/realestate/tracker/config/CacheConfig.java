@@ -0,0 +1,47 @@
+package com.realestate.tracker.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 캐시 설정 (Caffeine)
+ * 통계(recordStats)를 켜서 hit/miss/eviction 지표가 Actuator metrics로 노출되도록 한다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 아파트 매매 실거래 검색 결과 캐시
+    public static final String APT_TRADES = "aptTrades";
+
+    // 아파트 거래 이력 캐시
+    public static final String APT_TRADE_HISTORY = "aptTradeHistory";
+
+    @Bean
+    public CacheManager cacheManager(
+        @Value("${tracker.cache.apt-trades.maximum-size:10000}") long aptTradesMaximumSize,
+        @Value("${tracker.cache.apt-trades.expire-after-write:10m}") Duration aptTradesTtl,
+        @Value("${tracker.cache.apt-trade-history.maximum-size:5000}") long historyMaximumSize,
+        @Value("${tracker.cache.apt-trade-history.expire-after-write:30m}") Duration historyTtl
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(APT_TRADES, Caffeine.newBuilder()
+            .maximumSize(aptTradesMaximumSize)
+            .expireAfterWrite(aptTradesTtl)
+            .recordStats()
+            .build());
+        cacheManager.registerCustomCache(APT_TRADE_HISTORY, Caffeine.newBuilder()
+            .maximumSize(historyMaximumSize)
+            .expireAfterWrite(historyTtl)
+            .recordStats()
+            .build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,80 @@
+package com.realestate.tracker.config;
+
+import com.realestate.tracker.service.external.OpenApiTransientErrors;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Open API HTTP 클라이언트 설정
+ * 커넥션 풀 크기와 연결/응답 타임아웃을 지정한 WebClient와, Open API 장애시 호출을 차단하는 서킷 브레이커를 등록한다.
+ */
+@Slf4j
+@Configuration
+public class OpenApiClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openApiConnectionProvider(
+        @Value("${openapi.http.max-connections:20}") int maxConnections,
+        @Value("${openapi.http.pending-acquire-timeout:10s}") Duration pendingAcquireTimeout,
+        @Value("${openapi.http.max-idle-time:30s}") Duration maxIdleTime
+    ) {
+        return ConnectionProvider.builder("openapi")
+            .maxConnections(maxConnections)
+            .pendingAcquireTimeout(pendingAcquireTimeout)
+            .maxIdleTime(maxIdleTime)
+            .build();
+    }
+
+    @Bean
+    public WebClient openApiWebClient(
+        ConnectionProvider openApiConnectionProvider,
+        @Value("${openapi.http.connect-timeout:3s}") Duration connectTimeout,
+        @Value("${openapi.http.response-timeout:10s}") Duration responseTimeout
+    ) {
+        // responseTimeout: 요청 전송 후 응답 수신 중 읽기 사이의 최대 대기 시간 (본문 스트리밍 중 멈춤도 포함)
+        HttpClient httpClient = HttpClient.create(openApiConnectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(connectTimeout.toMillis()))
+            .responseTimeout(responseTimeout);
+
+        return WebClient.builder()
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .build();
+    }
+
+    @Bean
+    public CircuitBreaker openApiCircuitBreaker(
+        OpenApiTransientErrors openApiTransientErrors,
+        @Value("${openapi.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+        @Value("${openapi.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+        @Value("${openapi.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+        @Value("${openapi.circuit-breaker.wait-duration-in-open-state:30s}") Duration waitDurationInOpenState,
+        @Value("${openapi.circuit-breaker.permitted-calls-in-half-open-state:3}") int permittedCallsInHalfOpenState
+    ) {
+        // 일시적 오류만 실패로 집계한다 (잘못된 인증키 등 요청 자체의 오류로 서킷이 열리지 않도록)
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+            .failureRateThreshold(failureRateThreshold)
+            .slidingWindowSize(slidingWindowSize)
+            .minimumNumberOfCalls(minimumNumberOfCalls)
+            .waitDurationInOpenState(waitDurationInOpenState)
+            .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+            .automaticTransitionFromOpenToHalfOpenEnabled(true)
+            .recordException(openApiTransientErrors)
+            .build();
+
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("openapi", config);
+        circuitBreaker.getEventPublisher()
+            .onStateTransition(event -> log.warn("Open API circuit breaker: {}", event.getStateTransition()));
+        return circuitBreaker;
+    }
+}
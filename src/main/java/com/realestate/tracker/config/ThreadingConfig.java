@@ -0,0 +1,67 @@
+package com.realestate.tracker.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 블로킹 작업 스레드 설정
+ * spring.threads.virtual.enabled=true (JDK 21 이상)이면 Tomcat 요청 처리, @Async/MVC 비동기 실행기와 함께
+ * Open API 월별 조회(fan-out)와 동기화 스케줄러 워커도 가상 스레드에서 실행한다.
+ * 그 외에는 기존과 같이 플랫폼 스레드(boundedElastic, 고정 워커)를 사용한다.
+ */
+@Slf4j
+@Configuration
+public class ThreadingConfig {
+
+    /**
+     * Open API 월별 조회/저장(AptTradeSyncEngine)을 실행하는 스케줄러
+     * 동시 실행 수는 openapi.sync.parallelism으로 제한되므로 가상 스레드 모드에서는 작업마다 스레드를 만든다.
+     */
+    @Bean(destroyMethod = "")
+    public Scheduler openApiFetchScheduler(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Open API fetch fan-out runs on virtual threads");
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("openapi-fetch-");
+            executor.setVirtualThreads(true);
+            return Schedulers.fromExecutor(executor);
+        }
+        return Schedulers.boundedElastic();
+    }
+
+    /**
+     * 동기화 스케줄러(AptTradeSyncScheduler) 워커 스레드 생성기
+     * 워커 수는 tracker.sync.scheduler.workers로 고정되며, 모드에 따라 스레드 종류만 바뀐다.
+     */
+    @Bean
+    public ThreadFactory aptTradeSyncWorkerThreadFactory(Environment environment) {
+        return threadFactory(environment, "apt-trade-sync-worker-");
+    }
+
+    /**
+     * 동기화 작업(AptTradeSyncJobService) 실행 스레드 생성기
+     * 동시 실행 작업 수는 tracker.sync.job.workers로 고정된다.
+     */
+    @Bean
+    public ThreadFactory aptTradeSyncJobThreadFactory(Environment environment) {
+        return threadFactory(environment, "apt-trade-sync-job-");
+    }
+
+    private static ThreadFactory threadFactory(Environment environment, String threadNamePrefix) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory();
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
@@ -1,19 +1,37 @@
 package com.realestate.tracker.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestate.tracker.domain.common.enums.AreaBand;
+import com.realestate.tracker.domain.property.dto.AptTradePriceStatsResponse;
 import com.realestate.tracker.domain.property.dto.AptTradeSearchCondition;
-import com.realestate.tracker.domain.property.entity.AptTrade;
+import com.realestate.tracker.domain.property.dto.AptTradeSummary;
+import com.realestate.tracker.domain.property.dto.AptTradeSyncJobResponse;
+import com.realestate.tracker.domain.property.dto.PricePerPyeongTrendResponse;
+import com.realestate.tracker.domain.property.dto.RiskyApartmentResponse;
 import com.realestate.tracker.dto.response.ApiResponse;
+import com.realestate.tracker.dto.response.CursorPageResponse;
+import com.realestate.tracker.dto.response.PageResponse;
+import com.realestate.tracker.service.AptTradePriceStatsService;
+import com.realestate.tracker.service.AptTradePriceTrendService;
+import com.realestate.tracker.service.AptTradeRiskService;
 import com.realestate.tracker.service.AptTradeService;
+import com.realestate.tracker.service.AptTradeSyncJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 아파트 매매 실거래 Controller
@@ -29,6 +47,11 @@ import java.util.List;
 public class AptTradeController {
     
     private final AptTradeService aptTradeService;
+    private final AptTradeRiskService aptTradeRiskService;
+    private final AptTradePriceStatsService aptTradePriceStatsService;
+    private final AptTradePriceTrendService aptTradePriceTrendService;
+    private final AptTradeSyncJobService aptTradeSyncJobService;
+    private final ObjectMapper objectMapper;
     
     /**
      * 아파트 매매 실거래 목록 조회
@@ -36,13 +59,13 @@ public class AptTradeController {
     @GetMapping
     @Operation(summary = "아파트 매매 실거래 목록 조회", 
                description = "지역, 기간, 가격 등의 조건으로 아파트 매매 실거래를 조회합니다.")
-    public ResponseEntity<ApiResponse<Page<AptTrade>>> getAptTrades(
+    public ResponseEntity<ApiResponse<PageResponse<AptTradeSummary>>> getAptTrades(
         @Parameter(description = "검색 조건") AptTradeSearchCondition searchCondition
     ) {
         log.info("Request apt trades with condition: {}", searchCondition);
         
         try {
-            Page<AptTrade> result = aptTradeService.findAptTrades(searchCondition);
+            PageResponse<AptTradeSummary> result = PageResponse.of(aptTradeService.findAptTrades(searchCondition));
             
             return ResponseEntity.ok(ApiResponse.success(
                 result,
@@ -59,20 +82,95 @@ public class AptTradeController {
         }
     }
     
+    /**
+     * 아파트 매매 실거래 커서 기반 목록 조회
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "아파트 매매 실거래 커서 기반 목록 조회", 
+               description = "거래일 최신순으로 조회하며, 응답의 nextCursor로 다음 페이지를 조회합니다. 전체 건수는 제공하지 않습니다.")
+    public ResponseEntity<ApiResponse<CursorPageResponse<AptTradeSummary>>> getAptTradesByCursor(
+        @Parameter(description = "검색 조건") AptTradeSearchCondition searchCondition,
+        @RequestParam(required = false) @Parameter(description = "다음 페이지 커서") String cursor
+    ) {
+        log.info("Request apt trades by cursor: {} with condition: {}", cursor, searchCondition);
+        
+        try {
+            CursorPageResponse<AptTradeSummary> result = aptTradeService.findAptTradesByCursor(searchCondition, cursor);
+            
+            return ResponseEntity.ok(ApiResponse.success(
+                result,
+                "아파트 매매 실거래 조회 성공"
+            ));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid search condition: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("잘못된 검색 조건입니다: " + e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to get apt trades by cursor", e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("아파트 매매 실거래 조회 실패"));
+        }
+    }
+    
+    /**
+     * 아파트 매매 실거래 스트리밍 조회 (NDJSON)
+     */
+    @GetMapping("/stream")
+    @Operation(summary = "아파트 매매 실거래 스트리밍 조회", 
+               description = "조건에 맞는 거래 전체를 거래일 최신순으로 한 줄에 1건씩(NDJSON) 스트리밍합니다. 대량 수집용이며 페이지 조건은 무시합니다.")
+    public ResponseEntity<?> streamAptTrades(
+        @Parameter(description = "검색 조건") AptTradeSearchCondition searchCondition
+    ) {
+        log.info("Request apt trade stream with condition: {}", searchCondition);
+        
+        if (!searchCondition.isValid()) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("잘못된 검색 조건입니다: Invalid search condition"));
+        }
+        
+        // 시/구 조건은 스트리밍 시작 전에 확인한다 (응답 헤더를 보낸 뒤에는 400으로 응답할 수 없다)
+        try {
+            searchCondition.resolveCity();
+            searchCondition.resolveDistrictLawdCodes();
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid search condition: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("잘못된 검색 조건입니다: " + e.getMessage()));
+        }
+        
+        // 응답 헤더를 보낸 뒤에는 상태코드를 바꿀 수 없으므로, 스트리밍 중 오류는 연결 종료로 전달된다.
+        StreamingResponseBody body = outputStream -> {
+            AptTradeNdjsonWriter writer = new AptTradeNdjsonWriter(objectMapper, outputStream);
+            try {
+                long count = aptTradeService.streamAptTrades(searchCondition, writer);
+                log.info("Streamed {} apt trades", count);
+            } catch (UncheckedIOException e) {
+                log.warn("Apt trade stream aborted: {}", e.getMessage());
+                throw e.getCause();
+            } finally {
+                writer.close();
+            }
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+    
     /**
      * 특정 아파트 거래 이력 조회
      */
     @GetMapping("/history")
     @Operation(summary = "아파트 거래 이력 조회", 
                description = "특정 아파트의 거래 이력을 조회합니다.")
-    public ResponseEntity<ApiResponse<List<AptTrade>>> getAptTradeHistory(
+    public ResponseEntity<ApiResponse<List<AptTradeSummary>>> getAptTradeHistory(
         @RequestParam @Parameter(description = "아파트명", required = true) String apartmentName,
         @RequestParam(required = false) @Parameter(description = "동") String dong
     ) {
         log.info("Request apt trade history - apartment: {}, dong: {}", apartmentName, dong);
         
         try {
-            List<AptTrade> history = aptTradeService.findAptTradeHistory(apartmentName, dong);
+            List<AptTradeSummary> history = aptTradeService.findAptTradeHistory(apartmentName, dong);
             
             return ResponseEntity.ok(ApiResponse.success(
                 history,
@@ -90,8 +188,8 @@ public class AptTradeController {
      */
     @GetMapping("/risky")
     @Operation(summary = "위험 신호 아파트 조회", 
-               description = "짧은 기간 내 자주 거래된 아파트를 조회합니다.")
-    public ResponseEntity<ApiResponse<List<AptTrade>>> getRiskyApartments(
+               description = "최근 N개월(이번 달 포함) 내 자주 거래된 아파트를 단지별 거래 건수와 함께 조회합니다.")
+    public ResponseEntity<ApiResponse<List<RiskyApartmentResponse>>> getRiskyApartments(
         @RequestParam @Parameter(description = "지역코드", required = true) String lawdCode,
         @RequestParam(defaultValue = "6") @Parameter(description = "조회 기간(개월)") int months,
         @RequestParam(defaultValue = "3") @Parameter(description = "최소 거래 횟수") int minTransactionCount
@@ -100,7 +198,7 @@ public class AptTradeController {
                 lawdCode, months, minTransactionCount);
         
         try {
-            List<AptTrade> riskyApartments = aptTradeService.findFrequentlyTradedApartments(
+            List<RiskyApartmentResponse> riskyApartments = aptTradeRiskService.findFrequentlyTradedApartments(
                 lawdCode, months, minTransactionCount
             );
             
@@ -108,6 +206,10 @@ public class AptTradeController {
                 riskyApartments,
                 String.format("위험 신호 아파트 %d건 발견", riskyApartments.size())
             ));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid risky apartment condition: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("잘못된 조회 조건입니다: " + e.getMessage()));
         } catch (Exception e) {
             log.error("Failed to get risky apartments", e);
             return ResponseEntity.internalServerError()
@@ -116,27 +218,129 @@ public class AptTradeController {
     }
     
     /**
-     * Open API에서 최신 데이터 동기화
+     * 지역 거래가격 통계 조회
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "거래가격 통계 조회", 
+               description = "지역/기간(/면적구간)별 거래가격의 건수, 평균, 최저/최고, 중위수와 분위수(10/25/75/90%)를 월별 추이와 함께 조회합니다. 분위수는 근사값입니다.")
+    public ResponseEntity<ApiResponse<AptTradePriceStatsResponse>> getPriceStats(
+        @RequestParam @Parameter(description = "지역코드", required = true) String lawdCode,
+        @RequestParam @Parameter(description = "시작년월 (yyyy-MM)", required = true) YearMonth startYearMonth,
+        @RequestParam(required = false) @Parameter(description = "종료년월 (yyyy-MM, 기본값: 이번 달)") YearMonth endYearMonth,
+        @RequestParam(required = false) @Parameter(description = "면적구간 (기본값: 전체)") AreaBand areaBand
+    ) {
+        log.info("Request price stats - lawdCode: {}, start: {}, end: {}, areaBand: {}", 
+                lawdCode, startYearMonth, endYearMonth, areaBand);
+        
+        try {
+            AptTradePriceStatsResponse stats = aptTradePriceStatsService.getPriceStats(
+                lawdCode,
+                startYearMonth,
+                endYearMonth != null ? endYearMonth : YearMonth.now(),
+                areaBand
+            );
+            
+            return ResponseEntity.ok(ApiResponse.success(
+                stats,
+                String.format("거래가격 통계 조회 성공 (총 %d건)", stats.getSummary().getTradeCount())
+            ));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid price stats condition: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("잘못된 조회 조건입니다: " + e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to get price stats", e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("거래가격 통계 조회 실패"));
+        }
+    }
+    
+    /**
+     * 단지/동 평당가 추이 조회
+     */
+    @GetMapping("/trend")
+    @Operation(summary = "평당가 추이 조회", 
+               description = "단지(아파트명 지정) 또는 동 전체의 월별 평균 평당가, 이동평균, 전년 동월 대비 변동률을 조회합니다.")
+    public ResponseEntity<ApiResponse<PricePerPyeongTrendResponse>> getPricePerPyeongTrend(
+        @RequestParam @Parameter(description = "지역코드", required = true) String lawdCode,
+        @RequestParam @Parameter(description = "동", required = true) String dong,
+        @RequestParam(required = false) @Parameter(description = "아파트명 (없으면 동 전체)") String apartmentName,
+        @RequestParam @Parameter(description = "시작년월 (yyyy-MM)", required = true) YearMonth startYearMonth,
+        @RequestParam(required = false) @Parameter(description = "종료년월 (yyyy-MM, 기본값: 이번 달)") YearMonth endYearMonth,
+        @RequestParam(defaultValue = "3") @Parameter(description = "이동평균 기간(개월)") int window
+    ) {
+        log.info("Request price per pyeong trend - lawdCode: {}, dong: {}, apartment: {}, start: {}, end: {}, window: {}", 
+                lawdCode, dong, apartmentName, startYearMonth, endYearMonth, window);
+        
+        try {
+            PricePerPyeongTrendResponse trend = aptTradePriceTrendService.getPricePerPyeongTrend(
+                lawdCode,
+                dong,
+                apartmentName,
+                startYearMonth,
+                endYearMonth != null ? endYearMonth : YearMonth.now(),
+                window
+            );
+            
+            return ResponseEntity.ok(ApiResponse.success(trend, "평당가 추이 조회 성공"));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid trend condition: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("잘못된 조회 조건입니다: " + e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to get price per pyeong trend", e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("평당가 추이 조회 실패"));
+        }
+    }
+    
+    /**
+     * Open API 데이터 동기화 작업 등록
      */
     @PostMapping("/sync")
-    @Operation(summary = "데이터 동기화", 
-               description = "Open API에서 최신 아파트 거래 데이터를 가져옵니다.")
-    public ResponseEntity<ApiResponse<List<AptTrade>>> syncAptTrades(
+    @Operation(summary = "데이터 동기화 작업 등록", 
+               description = "Open API에서 아파트 거래 데이터를 가져오는 작업을 등록하고 작업 ID를 바로 반환합니다. 진행 상황은 GET /sync/{jobId}로 조회합니다.")
+    public ResponseEntity<ApiResponse<AptTradeSyncJobResponse>> syncAptTrades(
         @RequestBody @Parameter(description = "동기화 조건") AptTradeSearchCondition searchCondition
     ) {
         log.info("Request data sync with condition: {}", searchCondition);
         
         try {
-            List<AptTrade> syncedData = aptTradeService.fetchAndSaveFromOpenApi(searchCondition);
+            AptTradeSyncJobResponse job = aptTradeSyncJobService.submit(searchCondition);
             
-            return ResponseEntity.ok(ApiResponse.success(
-                syncedData,
-                String.format("데이터 동기화 완료 (총 %d건)", syncedData.size())
-            ));
+            return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/apt-trades/sync/" + job.getJobId()))
+                .body(ApiResponse.success(
+                    job,
+                    String.format("데이터 동기화 작업 등록 (작업 ID: %s, %d개월)", job.getJobId(), job.getTotalMonths())
+                ));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid sync condition: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("잘못된 동기화 조건입니다: " + e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            log.warn("Sync job rejected: too many queued jobs");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error("대기 중인 동기화 작업이 많습니다. 잠시 후 다시 시도해 주세요."));
         } catch (Exception e) {
-            log.error("Failed to sync apt trades", e);
+            log.error("Failed to submit sync job", e);
             return ResponseEntity.internalServerError()
-                .body(ApiResponse.error("데이터 동기화 실패"));
+                .body(ApiResponse.error("데이터 동기화 작업 등록 실패"));
         }
     }
+    
+    /**
+     * Open API 데이터 동기화 작업 진행 상황 조회
+     */
+    @GetMapping("/sync/{jobId}")
+    @Operation(summary = "데이터 동기화 작업 조회", 
+               description = "처리한 월 수, 저장 건수, 실패 사유, 처리량을 조회합니다. 종료된 작업은 일정 시간 후 조회할 수 없습니다.")
+    public ResponseEntity<ApiResponse<AptTradeSyncJobResponse>> getSyncJob(
+        @PathVariable @Parameter(description = "작업 ID", required = true) String jobId
+    ) {
+        return aptTradeSyncJobService.findJob(jobId)
+            .map(job -> ResponseEntity.ok(ApiResponse.success(job, "동기화 작업 조회 성공")))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("동기화 작업을 찾을 수 없습니다: " + jobId)));
+    }
 }
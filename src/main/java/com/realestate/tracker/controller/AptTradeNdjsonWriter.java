@@ -0,0 +1,48 @@
+package com.realestate.tracker.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * 거래를 NDJSON(한 줄에 JSON 1건)으로 출력
+ * 첫 건은 바로 flush하여 첫 바이트를 빨리 보내고, 이후에는 generator/응답 버퍼가 찰 때마다 전송한다.
+ */
+class AptTradeNdjsonWriter implements Consumer<AptTrade> {
+
+    private final ObjectWriter writer;
+    private final JsonGenerator generator;
+    private long count;
+
+    AptTradeNdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = objectMapper.getFactory().createGenerator(outputStream)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // 값 사이 기본 구분자(공백)를 쓰지 않는다 (줄바꿈은 accept에서 직접 쓴다)
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void accept(AptTrade trade) {
+        try {
+            writer.writeValue(generator, trade);
+            generator.writeRaw('\n');
+            if (++count == 1) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void close() throws IOException {
+        generator.close();
+    }
+}
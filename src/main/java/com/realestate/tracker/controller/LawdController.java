@@ -1,5 +1,6 @@
 package com.realestate.tracker.controller;
 
+import com.realestate.tracker.domain.common.enums.LawdGuType;
 import com.realestate.tracker.domain.common.enums.LawdSiType;
 import com.realestate.tracker.dto.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -49,7 +50,7 @@ public class LawdController {
     }
     
     /**
-     * 구/군 목록 조회 (추후 구현)
+     * 구/군 목록 조회
      */
     @GetMapping("/gu")
     @Operation(summary = "구/군 목록 조회", description = "선택한 시/도의 구/군 목록을 조회합니다.")
@@ -58,35 +59,20 @@ public class LawdController {
     ) {
         log.info("Request gu list for si: {}", siCode);
         
-        // TODO: 구/군 데이터 구현 필요
-        // 임시 데이터
-        List<Map<String, Object>> guList = List.of(
-            Map.of("code", "11010", "name", "종로구"),
-            Map.of("code", "11020", "name", "중구"),
-            Map.of("code", "11030", "name", "용산구"),
-            Map.of("code", "11040", "name", "성동구"),
-            Map.of("code", "11050", "name", "광진구"),
-            Map.of("code", "11060", "name", "동대문구"),
-            Map.of("code", "11070", "name", "중랑구"),
-            Map.of("code", "11080", "name", "성북구"),
-            Map.of("code", "11090", "name", "강북구"),
-            Map.of("code", "11100", "name", "도봉구"),
-            Map.of("code", "11110", "name", "노원구"),
-            Map.of("code", "11120", "name", "은평구"),
-            Map.of("code", "11130", "name", "서대문구"),
-            Map.of("code", "11140", "name", "마포구"),
-            Map.of("code", "11150", "name", "양천구"),
-            Map.of("code", "11160", "name", "강서구"),
-            Map.of("code", "11170", "name", "구로구"),
-            Map.of("code", "11180", "name", "금천구"),
-            Map.of("code", "11190", "name", "영등포구"),
-            Map.of("code", "11200", "name", "동작구"),
-            Map.of("code", "11210", "name", "관악구"),
-            Map.of("code", "11220", "name", "서초구"),
-            Map.of("code", "11230", "name", "강남구"),
-            Map.of("code", "11240", "name", "송파구"),
-            Map.of("code", "11250", "name", "강동구")
-        );
+        LawdSiType siType = LawdSiType.codeOf(siCode);
+        if (siType == null) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("지원하지 않는 시/도 코드입니다: " + siCode));
+        }
+        
+        List<Map<String, Object>> guList = LawdGuType.findBySiType(siType).stream()
+            .map(gu -> {
+                Map<String, Object> map = new HashMap<>();
+                map.put("code", gu.getCode());
+                map.put("name", gu.getName());
+                return map;
+            })
+            .collect(Collectors.toList());
         
         return ResponseEntity.ok(ApiResponse.success(guList, "구/군 목록 조회 성공"));
     }
@@ -0,0 +1,44 @@
+package com.realestate.tracker.domain.common.enums;
+
+import lombok.Getter;
+
+/**
+ * 전용면적 규모 구분 enum
+ * 한국부동산원 규모 구분(40/60/85/102/135㎡)을 따르며, 상한은 이하(≤)로 포함한다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Getter
+public enum AreaBand {
+    UNDER_40("40㎡ 이하", 40),
+    FROM_40_TO_60("40㎡ 초과 60㎡ 이하", 60),
+    FROM_60_TO_85("60㎡ 초과 85㎡ 이하", 85),
+    FROM_85_TO_102("85㎡ 초과 102㎡ 이하", 102),
+    FROM_102_TO_135("102㎡ 초과 135㎡ 이하", 135),
+    OVER_135("135㎡ 초과", Double.POSITIVE_INFINITY);
+
+    // 설명
+    private final String description;
+    // 전용면적 상한 (㎡, 포함)
+    private final double maxExclusiveArea;
+
+    AreaBand(final String description, final double maxExclusiveArea) {
+        this.description = description;
+        this.maxExclusiveArea = maxExclusiveArea;
+    }
+
+    /**
+     * 전용면적이 속하는 규모 구분을 반환한다.
+     *
+     * @param exclusiveArea 전용면적 (㎡)
+     * @return 규모 구분
+     */
+    public static AreaBand of(double exclusiveArea) {
+        for (AreaBand areaBand : values()) {
+            if (exclusiveArea <= areaBand.maxExclusiveArea) {
+                return areaBand;
+            }
+        }
+        return OVER_135;
+    }
+}
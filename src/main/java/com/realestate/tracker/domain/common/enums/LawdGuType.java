@@ -0,0 +1,374 @@
+package com.realestate.tracker.domain.common.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지역(시/군/구) 타입 enum
+ * 코드는 Open API LAWD_CD(법정동코드 앞 5자리)와 같으며, 현재 행정구역 기준이다.
+ * 일반구가 있는 시는 구 단위 코드를 사용한다 (예: 수원시 장안구 41111).
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Slf4j
+@Getter
+@JsonFormat(shape = JsonFormat.Shape.OBJECT)
+public enum LawdGuType implements LawdType {
+    // 서울특별시
+    SEOUL_JONGNO("11110", "종로구", LawdSiType.SEOUL),
+    SEOUL_JUNG("11140", "중구", LawdSiType.SEOUL),
+    SEOUL_YONGSAN("11170", "용산구", LawdSiType.SEOUL),
+    SEOUL_SEONGDONG("11200", "성동구", LawdSiType.SEOUL),
+    SEOUL_GWANGJIN("11215", "광진구", LawdSiType.SEOUL),
+    SEOUL_DONGDAEMUN("11230", "동대문구", LawdSiType.SEOUL),
+    SEOUL_JUNGNANG("11260", "중랑구", LawdSiType.SEOUL),
+    SEOUL_SEONGBUK("11290", "성북구", LawdSiType.SEOUL),
+    SEOUL_GANGBUK("11305", "강북구", LawdSiType.SEOUL),
+    SEOUL_DOBONG("11320", "도봉구", LawdSiType.SEOUL),
+    SEOUL_NOWON("11350", "노원구", LawdSiType.SEOUL),
+    SEOUL_EUNPYEONG("11380", "은평구", LawdSiType.SEOUL),
+    SEOUL_SEODAEMUN("11410", "서대문구", LawdSiType.SEOUL),
+    SEOUL_MAPO("11440", "마포구", LawdSiType.SEOUL),
+    SEOUL_YANGCHEON("11470", "양천구", LawdSiType.SEOUL),
+    SEOUL_GANGSEO("11500", "강서구", LawdSiType.SEOUL),
+    SEOUL_GURO("11530", "구로구", LawdSiType.SEOUL),
+    SEOUL_GEUMCHEON("11545", "금천구", LawdSiType.SEOUL),
+    SEOUL_YEONGDEUNGPO("11560", "영등포구", LawdSiType.SEOUL),
+    SEOUL_DONGJAK("11590", "동작구", LawdSiType.SEOUL),
+    SEOUL_GWANAK("11620", "관악구", LawdSiType.SEOUL),
+    SEOUL_SEOCHO("11650", "서초구", LawdSiType.SEOUL),
+    SEOUL_GANGNAM("11680", "강남구", LawdSiType.SEOUL),
+    SEOUL_SONGPA("11710", "송파구", LawdSiType.SEOUL),
+    SEOUL_GANGDONG("11740", "강동구", LawdSiType.SEOUL),
+
+    // 부산광역시
+    BUSAN_JUNG("26110", "중구", LawdSiType.BUSAN),
+    BUSAN_SEO("26140", "서구", LawdSiType.BUSAN),
+    BUSAN_DONG("26170", "동구", LawdSiType.BUSAN),
+    BUSAN_YEONGDO("26200", "영도구", LawdSiType.BUSAN),
+    BUSAN_BUSANJIN("26230", "부산진구", LawdSiType.BUSAN),
+    BUSAN_DONGNAE("26260", "동래구", LawdSiType.BUSAN),
+    BUSAN_NAM("26290", "남구", LawdSiType.BUSAN),
+    BUSAN_BUK("26320", "북구", LawdSiType.BUSAN),
+    BUSAN_HAEUNDAE("26350", "해운대구", LawdSiType.BUSAN),
+    BUSAN_SAHA("26380", "사하구", LawdSiType.BUSAN),
+    BUSAN_GEUMJEONG("26410", "금정구", LawdSiType.BUSAN),
+    BUSAN_GANGSEO("26440", "강서구", LawdSiType.BUSAN),
+    BUSAN_YEONJE("26470", "연제구", LawdSiType.BUSAN),
+    BUSAN_SUYEONG("26500", "수영구", LawdSiType.BUSAN),
+    BUSAN_SASANG("26530", "사상구", LawdSiType.BUSAN),
+    BUSAN_GIJANG("26710", "기장군", LawdSiType.BUSAN),
+
+    // 대구광역시
+    DAEGU_JUNG("27110", "중구", LawdSiType.DAEGU),
+    DAEGU_DONG("27140", "동구", LawdSiType.DAEGU),
+    DAEGU_SEO("27170", "서구", LawdSiType.DAEGU),
+    DAEGU_NAM("27200", "남구", LawdSiType.DAEGU),
+    DAEGU_BUK("27230", "북구", LawdSiType.DAEGU),
+    DAEGU_SUSEONG("27260", "수성구", LawdSiType.DAEGU),
+    DAEGU_DALSEO("27290", "달서구", LawdSiType.DAEGU),
+    DAEGU_DALSEONG("27710", "달성군", LawdSiType.DAEGU),
+    DAEGU_GUNWI("27720", "군위군", LawdSiType.DAEGU),
+
+    // 인천광역시
+    INCHEON_JUNG("28110", "중구", LawdSiType.INCHEON),
+    INCHEON_DONG("28140", "동구", LawdSiType.INCHEON),
+    INCHEON_MICHUHOL("28177", "미추홀구", LawdSiType.INCHEON),
+    INCHEON_YEONSU("28185", "연수구", LawdSiType.INCHEON),
+    INCHEON_NAMDONG("28200", "남동구", LawdSiType.INCHEON),
+    INCHEON_BUPYEONG("28237", "부평구", LawdSiType.INCHEON),
+    INCHEON_GYEYANG("28245", "계양구", LawdSiType.INCHEON),
+    INCHEON_SEO("28260", "서구", LawdSiType.INCHEON),
+    INCHEON_GANGHWA("28710", "강화군", LawdSiType.INCHEON),
+    INCHEON_ONGJIN("28720", "옹진군", LawdSiType.INCHEON),
+
+    // 광주광역시
+    GWANGJU_DONG("29110", "동구", LawdSiType.GWANGJU),
+    GWANGJU_SEO("29140", "서구", LawdSiType.GWANGJU),
+    GWANGJU_NAM("29155", "남구", LawdSiType.GWANGJU),
+    GWANGJU_BUK("29170", "북구", LawdSiType.GWANGJU),
+    GWANGJU_GWANGSAN("29200", "광산구", LawdSiType.GWANGJU),
+
+    // 대전광역시
+    DAEJEON_DONG("30110", "동구", LawdSiType.DAEJEON),
+    DAEJEON_JUNG("30140", "중구", LawdSiType.DAEJEON),
+    DAEJEON_SEO("30170", "서구", LawdSiType.DAEJEON),
+    DAEJEON_YUSEONG("30200", "유성구", LawdSiType.DAEJEON),
+    DAEJEON_DAEDEOK("30230", "대덕구", LawdSiType.DAEJEON),
+
+    // 울산광역시
+    ULSAN_JUNG("31110", "중구", LawdSiType.ULSAN),
+    ULSAN_NAM("31140", "남구", LawdSiType.ULSAN),
+    ULSAN_DONG("31170", "동구", LawdSiType.ULSAN),
+    ULSAN_BUK("31200", "북구", LawdSiType.ULSAN),
+    ULSAN_ULJU("31710", "울주군", LawdSiType.ULSAN),
+
+    // 세종특별자치시
+    SEJONG("36110", "세종특별자치시", LawdSiType.SEJONG),
+
+    // 경기도
+    GYEONGGI_SUWON_JANGAN("41111", "수원시 장안구", LawdSiType.GYEONGGI),
+    GYEONGGI_SUWON_GWONSEON("41113", "수원시 권선구", LawdSiType.GYEONGGI),
+    GYEONGGI_SUWON_PALDAL("41115", "수원시 팔달구", LawdSiType.GYEONGGI),
+    GYEONGGI_SUWON_YEONGTONG("41117", "수원시 영통구", LawdSiType.GYEONGGI),
+    GYEONGGI_SEONGNAM_SUJEONG("41131", "성남시 수정구", LawdSiType.GYEONGGI),
+    GYEONGGI_SEONGNAM_JUNGWON("41133", "성남시 중원구", LawdSiType.GYEONGGI),
+    GYEONGGI_SEONGNAM_BUNDANG("41135", "성남시 분당구", LawdSiType.GYEONGGI),
+    GYEONGGI_UIJEONGBU("41150", "의정부시", LawdSiType.GYEONGGI),
+    GYEONGGI_ANYANG_MANAN("41171", "안양시 만안구", LawdSiType.GYEONGGI),
+    GYEONGGI_ANYANG_DONGAN("41173", "안양시 동안구", LawdSiType.GYEONGGI),
+    GYEONGGI_BUCHEON_WONMI("41192", "부천시 원미구", LawdSiType.GYEONGGI),
+    GYEONGGI_BUCHEON_SOSA("41194", "부천시 소사구", LawdSiType.GYEONGGI),
+    GYEONGGI_BUCHEON_OJEONG("41196", "부천시 오정구", LawdSiType.GYEONGGI),
+    GYEONGGI_GWANGMYEONG("41210", "광명시", LawdSiType.GYEONGGI),
+    GYEONGGI_PYEONGTAEK("41220", "평택시", LawdSiType.GYEONGGI),
+    GYEONGGI_DONGDUCHEON("41250", "동두천시", LawdSiType.GYEONGGI),
+    GYEONGGI_ANSAN_SANGNOK("41271", "안산시 상록구", LawdSiType.GYEONGGI),
+    GYEONGGI_ANSAN_DANWON("41273", "안산시 단원구", LawdSiType.GYEONGGI),
+    GYEONGGI_GOYANG_DEOGYANG("41281", "고양시 덕양구", LawdSiType.GYEONGGI),
+    GYEONGGI_GOYANG_ILSANDONG("41285", "고양시 일산동구", LawdSiType.GYEONGGI),
+    GYEONGGI_GOYANG_ILSANSEO("41287", "고양시 일산서구", LawdSiType.GYEONGGI),
+    GYEONGGI_GWACHEON("41290", "과천시", LawdSiType.GYEONGGI),
+    GYEONGGI_GURI("41310", "구리시", LawdSiType.GYEONGGI),
+    GYEONGGI_NAMYANGJU("41360", "남양주시", LawdSiType.GYEONGGI),
+    GYEONGGI_OSAN("41370", "오산시", LawdSiType.GYEONGGI),
+    GYEONGGI_SIHEUNG("41390", "시흥시", LawdSiType.GYEONGGI),
+    GYEONGGI_GUNPO("41410", "군포시", LawdSiType.GYEONGGI),
+    GYEONGGI_UIWANG("41430", "의왕시", LawdSiType.GYEONGGI),
+    GYEONGGI_HANAM("41450", "하남시", LawdSiType.GYEONGGI),
+    GYEONGGI_YONGIN_CHEOIN("41461", "용인시 처인구", LawdSiType.GYEONGGI),
+    GYEONGGI_YONGIN_GIHEUNG("41463", "용인시 기흥구", LawdSiType.GYEONGGI),
+    GYEONGGI_YONGIN_SUJI("41465", "용인시 수지구", LawdSiType.GYEONGGI),
+    GYEONGGI_PAJU("41480", "파주시", LawdSiType.GYEONGGI),
+    GYEONGGI_ICHEON("41500", "이천시", LawdSiType.GYEONGGI),
+    GYEONGGI_ANSEONG("41550", "안성시", LawdSiType.GYEONGGI),
+    GYEONGGI_GIMPO("41570", "김포시", LawdSiType.GYEONGGI),
+    GYEONGGI_HWASEONG("41590", "화성시", LawdSiType.GYEONGGI),
+    GYEONGGI_GWANGJU("41610", "광주시", LawdSiType.GYEONGGI),
+    GYEONGGI_YANGJU("41630", "양주시", LawdSiType.GYEONGGI),
+    GYEONGGI_POCHEON("41650", "포천시", LawdSiType.GYEONGGI),
+    GYEONGGI_YEOJU("41670", "여주시", LawdSiType.GYEONGGI),
+    GYEONGGI_YEONCHEON("41800", "연천군", LawdSiType.GYEONGGI),
+    GYEONGGI_GAPYEONG("41820", "가평군", LawdSiType.GYEONGGI),
+    GYEONGGI_YANGPYEONG("41830", "양평군", LawdSiType.GYEONGGI),
+
+    // 강원특별자치도
+    GANGWON_CHUNCHEON("51110", "춘천시", LawdSiType.GANGWON),
+    GANGWON_WONJU("51130", "원주시", LawdSiType.GANGWON),
+    GANGWON_GANGNEUNG("51150", "강릉시", LawdSiType.GANGWON),
+    GANGWON_DONGHAE("51170", "동해시", LawdSiType.GANGWON),
+    GANGWON_TAEBAEK("51190", "태백시", LawdSiType.GANGWON),
+    GANGWON_SOKCHO("51210", "속초시", LawdSiType.GANGWON),
+    GANGWON_SAMCHEOK("51230", "삼척시", LawdSiType.GANGWON),
+    GANGWON_HONGCHEON("51720", "홍천군", LawdSiType.GANGWON),
+    GANGWON_HOENGSEONG("51730", "횡성군", LawdSiType.GANGWON),
+    GANGWON_YEONGWOL("51750", "영월군", LawdSiType.GANGWON),
+    GANGWON_PYEONGCHANG("51760", "평창군", LawdSiType.GANGWON),
+    GANGWON_JEONGSEON("51770", "정선군", LawdSiType.GANGWON),
+    GANGWON_CHEORWON("51780", "철원군", LawdSiType.GANGWON),
+    GANGWON_HWACHEON("51790", "화천군", LawdSiType.GANGWON),
+    GANGWON_YANGGU("51800", "양구군", LawdSiType.GANGWON),
+    GANGWON_INJE("51810", "인제군", LawdSiType.GANGWON),
+    GANGWON_GOSEONG("51820", "고성군", LawdSiType.GANGWON),
+    GANGWON_YANGYANG("51830", "양양군", LawdSiType.GANGWON),
+
+    // 충청북도
+    CHUNGBUK_CHEONGJU_SANGDANG("43111", "청주시 상당구", LawdSiType.CHUNGBUK),
+    CHUNGBUK_CHEONGJU_SEOWON("43112", "청주시 서원구", LawdSiType.CHUNGBUK),
+    CHUNGBUK_CHEONGJU_HEUNGDEOK("43113", "청주시 흥덕구", LawdSiType.CHUNGBUK),
+    CHUNGBUK_CHEONGJU_CHEONGWON("43114", "청주시 청원구", LawdSiType.CHUNGBUK),
+    CHUNGBUK_CHUNGJU("43130", "충주시", LawdSiType.CHUNGBUK),
+    CHUNGBUK_JECHEON("43150", "제천시", LawdSiType.CHUNGBUK),
+    CHUNGBUK_BOEUN("43720", "보은군", LawdSiType.CHUNGBUK),
+    CHUNGBUK_OKCHEON("43730", "옥천군", LawdSiType.CHUNGBUK),
+    CHUNGBUK_YEONGDONG("43740", "영동군", LawdSiType.CHUNGBUK),
+    CHUNGBUK_JEUNGPYEONG("43745", "증평군", LawdSiType.CHUNGBUK),
+    CHUNGBUK_JINCHEON("43750", "진천군", LawdSiType.CHUNGBUK),
+    CHUNGBUK_GOESAN("43760", "괴산군", LawdSiType.CHUNGBUK),
+    CHUNGBUK_EUMSEONG("43770", "음성군", LawdSiType.CHUNGBUK),
+    CHUNGBUK_DANYANG("43800", "단양군", LawdSiType.CHUNGBUK),
+
+    // 충청남도
+    CHUNGNAM_CHEONAN_DONGNAM("44131", "천안시 동남구", LawdSiType.CHUNGNAM),
+    CHUNGNAM_CHEONAN_SEOBUK("44133", "천안시 서북구", LawdSiType.CHUNGNAM),
+    CHUNGNAM_GONGJU("44150", "공주시", LawdSiType.CHUNGNAM),
+    CHUNGNAM_BORYEONG("44180", "보령시", LawdSiType.CHUNGNAM),
+    CHUNGNAM_ASAN("44200", "아산시", LawdSiType.CHUNGNAM),
+    CHUNGNAM_SEOSAN("44210", "서산시", LawdSiType.CHUNGNAM),
+    CHUNGNAM_NONSAN("44230", "논산시", LawdSiType.CHUNGNAM),
+    CHUNGNAM_GYERYONG("44250", "계룡시", LawdSiType.CHUNGNAM),
+    CHUNGNAM_DANGJIN("44270", "당진시", LawdSiType.CHUNGNAM),
+    CHUNGNAM_GEUMSAN("44710", "금산군", LawdSiType.CHUNGNAM),
+    CHUNGNAM_BUYEO("44760", "부여군", LawdSiType.CHUNGNAM),
+    CHUNGNAM_SEOCHEON("44770", "서천군", LawdSiType.CHUNGNAM),
+    CHUNGNAM_CHEONGYANG("44790", "청양군", LawdSiType.CHUNGNAM),
+    CHUNGNAM_HONGSEONG("44800", "홍성군", LawdSiType.CHUNGNAM),
+    CHUNGNAM_YESAN("44810", "예산군", LawdSiType.CHUNGNAM),
+    CHUNGNAM_TAEAN("44825", "태안군", LawdSiType.CHUNGNAM),
+
+    // 전북특별자치도
+    JEONBUK_JEONJU_WANSAN("52111", "전주시 완산구", LawdSiType.JEONBUK),
+    JEONBUK_JEONJU_DEOKJIN("52113", "전주시 덕진구", LawdSiType.JEONBUK),
+    JEONBUK_GUNSAN("52130", "군산시", LawdSiType.JEONBUK),
+    JEONBUK_IKSAN("52140", "익산시", LawdSiType.JEONBUK),
+    JEONBUK_JEONGEUP("52180", "정읍시", LawdSiType.JEONBUK),
+    JEONBUK_NAMWON("52190", "남원시", LawdSiType.JEONBUK),
+    JEONBUK_GIMJE("52210", "김제시", LawdSiType.JEONBUK),
+    JEONBUK_WANJU("52710", "완주군", LawdSiType.JEONBUK),
+    JEONBUK_JINAN("52720", "진안군", LawdSiType.JEONBUK),
+    JEONBUK_MUJU("52730", "무주군", LawdSiType.JEONBUK),
+    JEONBUK_JANGSU("52740", "장수군", LawdSiType.JEONBUK),
+    JEONBUK_IMSIL("52750", "임실군", LawdSiType.JEONBUK),
+    JEONBUK_SUNCHANG("52770", "순창군", LawdSiType.JEONBUK),
+    JEONBUK_GOCHANG("52790", "고창군", LawdSiType.JEONBUK),
+    JEONBUK_BUAN("52800", "부안군", LawdSiType.JEONBUK),
+
+    // 전라남도
+    JEONNAM_MOKPO("46110", "목포시", LawdSiType.JEONNAM),
+    JEONNAM_YEOSU("46130", "여수시", LawdSiType.JEONNAM),
+    JEONNAM_SUNCHEON("46150", "순천시", LawdSiType.JEONNAM),
+    JEONNAM_NAJU("46170", "나주시", LawdSiType.JEONNAM),
+    JEONNAM_GWANGYANG("46230", "광양시", LawdSiType.JEONNAM),
+    JEONNAM_DAMYANG("46710", "담양군", LawdSiType.JEONNAM),
+    JEONNAM_GOKSEONG("46720", "곡성군", LawdSiType.JEONNAM),
+    JEONNAM_GURYE("46730", "구례군", LawdSiType.JEONNAM),
+    JEONNAM_GOHEUNG("46770", "고흥군", LawdSiType.JEONNAM),
+    JEONNAM_BOSEONG("46780", "보성군", LawdSiType.JEONNAM),
+    JEONNAM_HWASUN("46790", "화순군", LawdSiType.JEONNAM),
+    JEONNAM_JANGHEUNG("46800", "장흥군", LawdSiType.JEONNAM),
+    JEONNAM_GANGJIN("46810", "강진군", LawdSiType.JEONNAM),
+    JEONNAM_HAENAM("46820", "해남군", LawdSiType.JEONNAM),
+    JEONNAM_YEONGAM("46830", "영암군", LawdSiType.JEONNAM),
+    JEONNAM_MUAN("46840", "무안군", LawdSiType.JEONNAM),
+    JEONNAM_HAMPYEONG("46860", "함평군", LawdSiType.JEONNAM),
+    JEONNAM_YEONGGWANG("46870", "영광군", LawdSiType.JEONNAM),
+    JEONNAM_JANGSEONG("46880", "장성군", LawdSiType.JEONNAM),
+    JEONNAM_WANDO("46890", "완도군", LawdSiType.JEONNAM),
+    JEONNAM_JINDO("46900", "진도군", LawdSiType.JEONNAM),
+    JEONNAM_SINAN("46910", "신안군", LawdSiType.JEONNAM),
+
+    // 경상북도
+    GYEONGBUK_POHANG_NAM("47111", "포항시 남구", LawdSiType.GYEONGBUK),
+    GYEONGBUK_POHANG_BUK("47113", "포항시 북구", LawdSiType.GYEONGBUK),
+    GYEONGBUK_GYEONGJU("47130", "경주시", LawdSiType.GYEONGBUK),
+    GYEONGBUK_GIMCHEON("47150", "김천시", LawdSiType.GYEONGBUK),
+    GYEONGBUK_ANDONG("47170", "안동시", LawdSiType.GYEONGBUK),
+    GYEONGBUK_GUMI("47190", "구미시", LawdSiType.GYEONGBUK),
+    GYEONGBUK_YEONGJU("47210", "영주시", LawdSiType.GYEONGBUK),
+    GYEONGBUK_YEONGCHEON("47230", "영천시", LawdSiType.GYEONGBUK),
+    GYEONGBUK_SANGJU("47250", "상주시", LawdSiType.GYEONGBUK),
+    GYEONGBUK_MUNGYEONG("47280", "문경시", LawdSiType.GYEONGBUK),
+    GYEONGBUK_GYEONGSAN("47290", "경산시", LawdSiType.GYEONGBUK),
+    GYEONGBUK_UISEONG("47730", "의성군", LawdSiType.GYEONGBUK),
+    GYEONGBUK_CHEONGSONG("47750", "청송군", LawdSiType.GYEONGBUK),
+    GYEONGBUK_YEONGYANG("47760", "영양군", LawdSiType.GYEONGBUK),
+    GYEONGBUK_YEONGDEOK("47770", "영덕군", LawdSiType.GYEONGBUK),
+    GYEONGBUK_CHEONGDO("47820", "청도군", LawdSiType.GYEONGBUK),
+    GYEONGBUK_GORYEONG("47830", "고령군", LawdSiType.GYEONGBUK),
+    GYEONGBUK_SEONGJU("47840", "성주군", LawdSiType.GYEONGBUK),
+    GYEONGBUK_CHILGOK("47850", "칠곡군", LawdSiType.GYEONGBUK),
+    GYEONGBUK_YECHEON("47900", "예천군", LawdSiType.GYEONGBUK),
+    GYEONGBUK_BONGHWA("47920", "봉화군", LawdSiType.GYEONGBUK),
+    GYEONGBUK_ULJIN("47930", "울진군", LawdSiType.GYEONGBUK),
+    GYEONGBUK_ULLEUNG("47940", "울릉군", LawdSiType.GYEONGBUK),
+
+    // 경상남도
+    GYEONGNAM_CHANGWON_UICHANG("48121", "창원시 의창구", LawdSiType.GYEONGNAM),
+    GYEONGNAM_CHANGWON_SEONGSAN("48123", "창원시 성산구", LawdSiType.GYEONGNAM),
+    GYEONGNAM_CHANGWON_MASANHAPPO("48125", "창원시 마산합포구", LawdSiType.GYEONGNAM),
+    GYEONGNAM_CHANGWON_MASANHOEWON("48127", "창원시 마산회원구", LawdSiType.GYEONGNAM),
+    GYEONGNAM_CHANGWON_JINHAE("48129", "창원시 진해구", LawdSiType.GYEONGNAM),
+    GYEONGNAM_JINJU("48170", "진주시", LawdSiType.GYEONGNAM),
+    GYEONGNAM_TONGYEONG("48220", "통영시", LawdSiType.GYEONGNAM),
+    GYEONGNAM_SACHEON("48240", "사천시", LawdSiType.GYEONGNAM),
+    GYEONGNAM_GIMHAE("48250", "김해시", LawdSiType.GYEONGNAM),
+    GYEONGNAM_MIRYANG("48270", "밀양시", LawdSiType.GYEONGNAM),
+    GYEONGNAM_GEOJE("48310", "거제시", LawdSiType.GYEONGNAM),
+    GYEONGNAM_YANGSAN("48330", "양산시", LawdSiType.GYEONGNAM),
+    GYEONGNAM_UIRYEONG("48720", "의령군", LawdSiType.GYEONGNAM),
+    GYEONGNAM_HAMAN("48730", "함안군", LawdSiType.GYEONGNAM),
+    GYEONGNAM_CHANGNYEONG("48740", "창녕군", LawdSiType.GYEONGNAM),
+    GYEONGNAM_GOSEONG("48820", "고성군", LawdSiType.GYEONGNAM),
+    GYEONGNAM_NAMHAE("48840", "남해군", LawdSiType.GYEONGNAM),
+    GYEONGNAM_HADONG("48850", "하동군", LawdSiType.GYEONGNAM),
+    GYEONGNAM_SANCHEONG("48860", "산청군", LawdSiType.GYEONGNAM),
+    GYEONGNAM_HAMYANG("48870", "함양군", LawdSiType.GYEONGNAM),
+    GYEONGNAM_GEOCHANG("48880", "거창군", LawdSiType.GYEONGNAM),
+    GYEONGNAM_HAPCHEON("48890", "합천군", LawdSiType.GYEONGNAM),
+
+    // 제주특별자치도
+    JEJU_JEJU("50110", "제주시", LawdSiType.JEJU),
+    JEJU_SEOGWIPO("50130", "서귀포시", LawdSiType.JEJU);
+
+    // 지역코드(시/군/구)
+    private final String code;
+    // 지역명
+    private final String name;
+    // 상위 지역(시/도)
+    private final LawdSiType siType;
+
+    LawdGuType(final String code, final String name, final LawdSiType siType) {
+        this.code = code;
+        this.name = name;
+        this.siType = siType;
+    }
+
+    private static final Map<String, LawdGuType> codeToEnum = new HashMap<>();
+
+    static {
+        Arrays.stream(LawdGuType.values()).forEach(lawdGuType ->
+            codeToEnum.put(lawdGuType.getCode(), lawdGuType));
+    }
+
+    /**
+     * 지역코드(시/군/구) 기준 지역 상세 타입을 반환한다.
+     *
+     * @param code 지역코드(시/군/구)
+     * @return 지역 상세 타입
+     */
+    @JsonCreator
+    public static LawdGuType codeOf(@JsonProperty("code") final String code) {
+        LawdGuType lawdGuType = codeToEnum.get(code);
+
+        if (lawdGuType == null) {
+            log.warn("Unsupported lawd gu type code: {}", code);
+        }
+
+        return lawdGuType;
+    }
+
+    /**
+     * 시/도에 속한 시/군/구 목록을 반환한다.
+     *
+     * @param siType 지역(시/도)
+     * @return 시/군/구 목록
+     */
+    public static List<LawdGuType> findBySiType(final LawdSiType siType) {
+        return Arrays.stream(LawdGuType.values())
+            .filter(lawdGuType -> lawdGuType.getSiType() == siType)
+            .toList();
+    }
+
+    /**
+     * 지역코드 또는 지역명으로 시/군/구를 찾는다.
+     * 지역명은 시/도마다 겹칠 수 있으므로(예: 중구) 시/도를 지정하지 않으면 여러 건이 나올 수 있다.
+     *
+     * @param codeOrName 지역코드(시/군/구) 또는 지역명
+     * @param siType 지역(시/도), 없으면 전체
+     * @return 시/군/구 목록
+     */
+    public static List<LawdGuType> find(final String codeOrName, final LawdSiType siType) {
+        return Arrays.stream(LawdGuType.values())
+            .filter(lawdGuType -> lawdGuType.getCode().equals(codeOrName) || lawdGuType.getName().equals(codeOrName))
+            .filter(lawdGuType -> siType == null || lawdGuType.getSiType() == siType)
+            .toList();
+    }
+}
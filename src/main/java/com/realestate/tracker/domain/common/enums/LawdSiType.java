@@ -28,10 +28,10 @@ public enum LawdSiType implements LawdType {
     ULSAN("31", "울산광역시"),
     SEJONG("36", "세종특별자치시"),
     GYEONGGI("41", "경기도"),
-    GANGWON("42", "강원도"),
+    GANGWON("51", "강원특별자치도"),
     CHUNGBUK("43", "충청북도"),
     CHUNGNAM("44", "충청남도"),
-    JEONBUK("45", "전라북도"),
+    JEONBUK("52", "전북특별자치도"),
     JEONNAM("46", "전라남도"),
     GYEONGBUK("47", "경상북도"),
     GYEONGNAM("48", "경상남도"),
@@ -70,4 +70,22 @@ public enum LawdSiType implements LawdType {
 
         return lawdSiType;
     }
+
+    /**
+     * 지역코드 또는 지역명으로 시/도를 찾는다.
+     *
+     * @param codeOrName 지역코드(시) 또는 지역명
+     * @return 지역 상세 타입, 없으면 null
+     */
+    public static LawdSiType find(final String codeOrName) {
+        LawdSiType lawdSiType = codeToEnum.get(codeOrName);
+        if (lawdSiType != null) {
+            return lawdSiType;
+        }
+
+        return Arrays.stream(LawdSiType.values())
+            .filter(siType -> siType.getName().equals(codeOrName))
+            .findFirst()
+            .orElse(null);
+    }
 }
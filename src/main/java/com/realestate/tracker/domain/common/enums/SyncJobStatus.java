@@ -0,0 +1,30 @@
+package com.realestate.tracker.domain.common.enums;
+
+import lombok.Getter;
+
+/**
+ * 동기화 작업 상태 enum
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Getter
+public enum SyncJobStatus {
+    QUEUED("대기"),
+    RUNNING("실행 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    // 설명
+    private final String description;
+
+    SyncJobStatus(final String description) {
+        this.description = description;
+    }
+
+    /**
+     * 종료 여부
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,29 @@
+package com.realestate.tracker.domain.common.util;
+
+import java.time.YearMonth;
+
+/**
+ * 거래년월 변환 유틸
+ * 집계/이력 테이블은 거래년월을 yyyyMM 정수로 저장한다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+public final class YearMonthUtils {
+
+    private YearMonthUtils() {
+    }
+
+    /**
+     * YearMonth를 yyyyMM 정수로 변환한다.
+     */
+    public static int toDealYm(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+
+    /**
+     * yyyyMM 정수를 YearMonth로 변환한다.
+     */
+    public static YearMonth fromDealYm(int dealYm) {
+        return YearMonth.of(dealYm / 100, dealYm % 100);
+    }
+}
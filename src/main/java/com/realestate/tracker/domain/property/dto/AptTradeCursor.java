@@ -0,0 +1,64 @@
+package com.realestate.tracker.domain.property.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 아파트 매매 실거래 keyset 페이징 커서
+ * (거래일, ID) 쌍을 불투명한 Base64 토큰으로 주고받는다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AptTradeCursor {
+
+    private final LocalDate transactionDate;  // 마지막 거래일
+    private final Long id;                    // 마지막 거래 ID
+
+    /**
+     * 페이지의 마지막 거래로 다음 커서 생성
+     */
+    public static AptTradeCursor after(AptTradeSummary lastTrade) {
+        return new AptTradeCursor(lastTrade.transactionDate(), lastTrade.id());
+    }
+
+    /**
+     * 커서 토큰 해석
+     *
+     * @param token 커서 토큰
+     * @return 커서
+     * @throws IllegalArgumentException 형식이 잘못된 토큰
+     */
+    public static AptTradeCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new AptTradeCursor(
+                LocalDate.parse(decoded.substring(0, separator)),
+                Long.parseLong(decoded.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    /**
+     * 커서 토큰 생성
+     */
+    public String encode() {
+        String raw = transactionDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,42 @@
+package com.realestate.tracker.domain.property.dto;
+
+import lombok.*;
+
+import java.time.YearMonth;
+
+/**
+ * 월별 Open API 동기화 결과 DTO
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString
+public class AptTradeMonthlySyncResult {
+
+    private YearMonth yearMonth;  // 조회년월
+    private boolean success;      // 성공 여부
+    private int tradeCount;       // 저장 건수
+    private long elapsedMillis;   // 소요 시간(ms)
+    private String errorMessage;  // 실패 사유
+
+    public static AptTradeMonthlySyncResult success(YearMonth yearMonth, int tradeCount, long elapsedMillis) {
+        return AptTradeMonthlySyncResult.builder()
+            .yearMonth(yearMonth)
+            .success(true)
+            .tradeCount(tradeCount)
+            .elapsedMillis(elapsedMillis)
+            .build();
+    }
+
+    public static AptTradeMonthlySyncResult failure(YearMonth yearMonth, String errorMessage, long elapsedMillis) {
+        return AptTradeMonthlySyncResult.builder()
+            .yearMonth(yearMonth)
+            .success(false)
+            .elapsedMillis(elapsedMillis)
+            .errorMessage(errorMessage)
+            .build();
+    }
+}
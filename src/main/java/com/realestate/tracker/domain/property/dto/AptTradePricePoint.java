@@ -0,0 +1,12 @@
+package com.realestate.tracker.domain.property.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 가격 통계 재계산용 거래 가격 projection
+ *
+ * @param transactionAmount 거래금액 (만원)
+ * @param exclusiveArea 전용면적 (㎡)
+ */
+public record AptTradePricePoint(BigDecimal transactionAmount, Double exclusiveArea) {
+}
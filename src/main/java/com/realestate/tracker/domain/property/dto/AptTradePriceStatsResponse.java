@@ -0,0 +1,27 @@
+package com.realestate.tracker.domain.property.dto;
+
+import com.realestate.tracker.domain.common.enums.AreaBand;
+import lombok.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 지역 거래가격 통계 Response DTO
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString
+public class AptTradePriceStatsResponse {
+
+    private String lawdCode;                // 지역코드
+    private AreaBand areaBand;              // 면적구간 (전체 구간은 null)
+    private YearMonth startYearMonth;       // 시작년월
+    private YearMonth endYearMonth;         // 종료년월
+    private PriceStatsSummary summary;      // 기간 전체 요약
+    private List<PriceStatsSummary> monthly;  // 월별 추이 (거래가 있는 월만)
+}
@@ -1,10 +1,14 @@
 package com.realestate.tracker.domain.property.dto;
 
+import com.realestate.tracker.domain.common.enums.LawdGuType;
+import com.realestate.tracker.domain.common.enums.LawdSiType;
 import lombok.*;
+import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.List;
 
 /**
  * 아파트 매매 실거래 검색 조건 DTO
@@ -38,7 +42,7 @@ public class AptTradeSearchCondition {
     // 페이징 조건
     private Integer page = 0;
     private Integer size = 20;
-    private Integer itemCount = 100;
+    private Integer itemCount = 100;  // 한 페이지 최대 건수
     
     // 정렬 조건
     private String sortBy = "transactionDate";
@@ -51,6 +55,71 @@ public class AptTradeSearchCondition {
     private Integer minBuildingYear;  // 최소 건축년도
     private Integer maxBuildingYear;  // 최대 건축년도
     
+    /**
+     * 거래일 검색 시작일 (거래일 조건이 없으면 시작년월의 1일)
+     */
+    public LocalDate resolveStartDate() {
+        if (startDate != null) {
+            return startDate;
+        }
+        return startYearMonth != null ? startYearMonth.atDay(1) : null;
+    }
+    
+    /**
+     * 거래일 검색 종료일 (거래일 조건이 없으면 종료년월의 말일)
+     */
+    public LocalDate resolveEndDate() {
+        if (endDate != null) {
+            return endDate;
+        }
+        return endYearMonth != null ? endYearMonth.atEndOfMonth() : null;
+    }
+    
+    /**
+     * 한 페이지 조회 건수 (size와 itemCount 중 작은 값)
+     */
+    public int resolvePageSize() {
+        int pageSize = size != null ? size : 20;
+        return itemCount != null ? Math.min(pageSize, itemCount) : pageSize;
+    }
+    
+    /**
+     * 시 조건에 해당하는 시/도 (조건이 없으면 null)
+     *
+     * @throws IllegalArgumentException 지원하지 않는 시
+     */
+    public LawdSiType resolveCity() {
+        if (!StringUtils.hasText(city)) {
+            return null;
+        }
+        
+        LawdSiType siType = LawdSiType.find(city);
+        if (siType == null) {
+            throw new IllegalArgumentException("Unsupported city: " + city);
+        }
+        return siType;
+    }
+    
+    /**
+     * 구 조건에 해당하는 시/군/구 지역코드 목록 (조건이 없으면 null)
+     * 시 조건이 있으면 그 시에 속한 구만 찾는다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 구
+     */
+    public List<String> resolveDistrictLawdCodes() {
+        if (!StringUtils.hasText(district)) {
+            return null;
+        }
+        
+        List<String> lawdCodes = LawdGuType.find(district, resolveCity()).stream()
+            .map(LawdGuType::getCode)
+            .toList();
+        if (lawdCodes.isEmpty()) {
+            throw new IllegalArgumentException("Unsupported district: " + district);
+        }
+        return lawdCodes;
+    }
+    
     /**
      * 검색 조건 유효성 검사
      */
@@ -73,6 +142,22 @@ public class AptTradeSearchCondition {
             }
         }
         
+        if (minExclusiveArea != null && maxExclusiveArea != null) {
+            if (minExclusiveArea > maxExclusiveArea) {
+                return false;
+            }
+        }
+        
+        if (minBuildingYear != null && maxBuildingYear != null) {
+            if (minBuildingYear > maxBuildingYear) {
+                return false;
+            }
+        }
+        
+        if ((page != null && page < 0) || (size != null && size < 1) || (itemCount != null && itemCount < 1)) {
+            return false;
+        }
+        
         return true;
     }
 }
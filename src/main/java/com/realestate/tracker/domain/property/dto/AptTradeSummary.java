@@ -0,0 +1,33 @@
+package com.realestate.tracker.domain.property.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 아파트 매매 실거래 목록 projection
+ * 목록 화면에 필요한 컬럼만 JPQL 생성자 표현식으로 조회하여 영속 엔티티/스냅샷을 만들지 않는다.
+ *
+ * @param id 거래 ID
+ * @param apartmentName 아파트명
+ * @param dong 동
+ * @param jibun 지번
+ * @param transactionAmount 거래금액 (만원)
+ * @param transactionDate 거래일
+ * @param exclusiveArea 전용면적 (㎡)
+ * @param floor 층
+ * @param buildingYear 건축년도
+ * @param canceled 해제여부
+ */
+public record AptTradeSummary(
+    Long id,
+    String apartmentName,
+    String dong,
+    String jibun,
+    BigDecimal transactionAmount,
+    LocalDate transactionDate,
+    Double exclusiveArea,
+    Integer floor,
+    Integer buildingYear,
+    Boolean canceled
+) {
+}
@@ -0,0 +1,37 @@
+package com.realestate.tracker.domain.property.dto;
+
+import com.realestate.tracker.domain.common.enums.SyncJobStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Open API 동기화 작업 진행 상황 Response DTO
+ * 저장된 거래 목록은 포함하지 않고 건수만 내려준다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString
+public class AptTradeSyncJobResponse {
+
+    private String jobId;                 // 작업 ID
+    private SyncJobStatus status;         // 작업 상태
+    private String lawdCode;              // 지역코드
+    private YearMonth startYearMonth;     // 시작년월
+    private YearMonth endYearMonth;       // 종료년월
+    private int totalMonths;              // 전체 월 수
+    private int completedMonths;          // 처리가 끝난 월 수 (실패 포함)
+    private int failedMonths;             // 실패한 월 수
+    private long ingestedRows;            // 신규 저장/갱신된 거래 수
+    private double rowsPerSecond;         // 처리량 (시작 이후 평균)
+    private List<String> errors;          // 실패 사유 (yyyy-MM: 메시지, 최근 일부만)
+    private LocalDateTime submittedAt;    // 등록 시각
+    private LocalDateTime startedAt;      // 시작 시각
+    private LocalDateTime finishedAt;     // 종료 시각
+}
@@ -0,0 +1,43 @@
+package com.realestate.tracker.domain.property.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Open API 동기화 결과 DTO
+ * 월별 결과는 조회년월 오름차순으로 정렬된다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString
+public class AptTradeSyncResult {
+
+    private String lawdCode;                          // 지역코드
+    private List<AptTradeMonthlySyncResult> months;   // 월별 결과
+
+    /**
+     * 성공한 월 수
+     */
+    public long getSuccessCount() {
+        return months.stream().filter(AptTradeMonthlySyncResult::isSuccess).count();
+    }
+
+    /**
+     * 신규 저장 및 갱신된 거래 수 (성공한 월 합계)
+     */
+    public long getSavedCount() {
+        return months.stream().mapToLong(AptTradeMonthlySyncResult::getTradeCount).sum();
+    }
+
+    /**
+     * 실패한 월 수
+     */
+    public long getFailedCount() {
+        return months.size() - getSuccessCount();
+    }
+}
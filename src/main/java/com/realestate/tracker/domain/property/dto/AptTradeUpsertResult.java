@@ -0,0 +1,45 @@
+package com.realestate.tracker.domain.property.dto;
+
+import lombok.*;
+
+/**
+ * 아파트 매매 실거래 upsert 결과 DTO
+ * 건수만 담으며, 변경된 거래는 AptTradeIngestedEvent로 전달된다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString
+public class AptTradeUpsertResult {
+
+    private int insertedCount;   // 신규 저장된 거래 수
+    private int updatedCount;    // 해제 정보가 갱신된 기존 거래 수
+    private int unchangedCount;  // 이미 저장되어 변경이 없는 거래 수
+
+    /**
+     * 빈 결과
+     */
+    public static AptTradeUpsertResult empty() {
+        return new AptTradeUpsertResult(0, 0, 0);
+    }
+
+    /**
+     * 신규 저장 및 갱신된 거래 수
+     */
+    public int getSavedCount() {
+        return insertedCount + updatedCount;
+    }
+
+    /**
+     * 두 결과를 합친 결과 (페이지 단위 저장 결과 누적용)
+     */
+    public AptTradeUpsertResult merge(AptTradeUpsertResult other) {
+        return new AptTradeUpsertResult(
+            insertedCount + other.insertedCount,
+            updatedCount + other.updatedCount,
+            unchangedCount + other.unchangedCount);
+    }
+}
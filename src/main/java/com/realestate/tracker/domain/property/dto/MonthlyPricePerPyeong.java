@@ -0,0 +1,11 @@
+package com.realestate.tracker.domain.property.dto;
+
+/**
+ * 월별 평당가 집계 projection
+ *
+ * @param dealYm 거래년월 (yyyyMM)
+ * @param tradeCount 거래 건수
+ * @param pricePerPyeongSum 평당 거래금액 합계 (만원/평)
+ */
+public record MonthlyPricePerPyeong(Integer dealYm, Long tradeCount, Double pricePerPyeongSum) {
+}
@@ -0,0 +1,31 @@
+package com.realestate.tracker.domain.property.dto;
+
+import lombok.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 평당가 추이 Response DTO
+ * 배열은 startYearMonth부터 endYearMonth까지 월 순서이며, 거래가 없어 계산할 수 없는 값은 null이다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString
+public class PricePerPyeongTrendResponse {
+
+    private String lawdCode;                 // 지역코드
+    private String dong;                     // 동
+    private String apartmentName;            // 아파트명 (동 전체 추이는 null)
+    private YearMonth startYearMonth;        // 시작년월
+    private YearMonth endYearMonth;          // 종료년월
+    private int movingAverageWindow;         // 이동평균 기간(개월)
+    private List<Integer> tradeCounts;       // 월별 거래 건수
+    private List<Double> pricePerPyeong;     // 월별 평균 평당가 (만원/평)
+    private List<Double> movingAverage;      // 거래 건수 가중 이동평균 평당가 (만원/평)
+    private List<Double> yearOverYearRate;   // 전년 동월 대비 변동률 (0.05 = +5%)
+}
@@ -0,0 +1,31 @@
+package com.realestate.tracker.domain.property.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * 거래가격 통계 요약 DTO (금액 단위: 만원)
+ * 분위수는 t-digest 스케치에서 계산한 근사값이다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString
+public class PriceStatsSummary {
+
+    private YearMonth yearMonth;       // 거래년월 (기간 전체 요약은 null)
+    private long tradeCount;           // 거래 건수
+    private BigDecimal averageAmount;  // 평균
+    private BigDecimal minAmount;      // 최저
+    private BigDecimal maxAmount;      // 최고
+    private BigDecimal p10Amount;      // 하위 10%
+    private BigDecimal p25Amount;      // 하위 25%
+    private BigDecimal medianAmount;   // 중위수
+    private BigDecimal p75Amount;      // 상위 25%
+    private BigDecimal p90Amount;      // 상위 10%
+}
@@ -0,0 +1,21 @@
+package com.realestate.tracker.domain.property.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 위험 신호(잦은 거래) 아파트 Response DTO
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RiskyApartmentResponse {
+
+    private String lawdCode;       // 지역코드
+    private String apartmentName;  // 아파트명
+    private String dong;           // 동
+    private Long tradeCount;       // 기간 내 거래 건수
+}
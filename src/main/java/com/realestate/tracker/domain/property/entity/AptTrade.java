@@ -4,7 +4,12 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.Objects;
 
 /**
  * 아파트 매매 실거래 정보 엔티티
@@ -12,7 +17,13 @@ import java.time.LocalDate;
  * @author Generated from toy-real-estate-backend
  */
 @Entity
-@Table(name = "apt_trades")
+@Table(name = "apt_trades",
+       uniqueConstraints = @UniqueConstraint(name = "uk_apt_trades_trade_key", columnNames = "trade_key"),
+       indexes = {
+           @Index(name = "idx_apt_trades_lawd_code_date", columnList = "lawd_code, transaction_date, id"),
+           @Index(name = "idx_apt_trades_apt_dong_date", columnList = "apartment_name, dong, transaction_date"),
+           @Index(name = "idx_apt_trades_dong_date", columnList = "dong, transaction_date")
+       })
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -21,8 +32,13 @@ import java.time.LocalDate;
 @ToString
 public class AptTrade {
     
+    // 1평 면적 (㎡)
+    public static final double SQUARE_METERS_PER_PYEONG = 3.3058;
+    
+    // IDENTITY는 INSERT 배치를 비활성화하므로 pooled 시퀀스 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "apt_trades_seq")
+    @SequenceGenerator(name = "apt_trades_seq", sequenceName = "apt_trades_seq", allocationSize = 100)
     private Long id;
     
     @Column(nullable = false)
@@ -74,6 +90,70 @@ public class AptTrade {
     @Column(length = 200)
     private String canceledReason;  // 해제사유
     
+    @Column(nullable = false, length = 64)
+    private String tradeKey;  // 자연키 해시 (중복 수집 방지)
+    
+    @PrePersist
+    void prePersist() {
+        if (tradeKey == null) {
+            tradeKey = buildTradeKey();
+        }
+    }
+    
+    /**
+     * 자연키 해시 생성
+     * 지역코드 + 아파트명 + 거래일 + 전용면적 + 층 + 거래금액 + 지번이 같으면 같은 거래로 본다.
+     *
+     * @return SHA-256 hex 문자열
+     */
+    public String buildTradeKey() {
+        String naturalKey = String.join("|",
+            lawdCode,
+            apartmentName,
+            String.valueOf(transactionDate),
+            String.valueOf(exclusiveArea),
+            String.valueOf(floor),
+            transactionAmount == null ? "null" : transactionAmount.stripTrailingZeros().toPlainString(),
+            Objects.toString(localNumber, ""));
+        
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(naturalKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    /**
+     * 해제 정보 반영
+     * 같은 거래가 다시 수집되었을 때 해제여부/해제일만 갱신한다.
+     *
+     * @param source 새로 수집된 거래
+     * @return 변경 여부
+     */
+    public boolean applyCancellation(AptTrade source) {
+        if (Objects.equals(isCanceled, source.getIsCanceled())
+                && Objects.equals(canceledDate, source.getCanceledDate())) {
+            return false;
+        }
+        
+        this.isCanceled = source.getIsCanceled();
+        this.canceledDate = source.getCanceledDate();
+        return true;
+    }
+    
+    /**
+     * 평당 거래금액 (만원/평, 1평 = 3.3058㎡)
+     *
+     * @return 평당 거래금액 (전용면적이 없으면 0)
+     */
+    public double calculatePricePerPyeong() {
+        if (exclusiveArea == null || exclusiveArea <= 0) {
+            return 0;
+        }
+        return transactionAmount.doubleValue() / (exclusiveArea / SQUARE_METERS_PER_PYEONG);
+    }
+    
     /**
      * 거래금액 유효성 검사
      */
@@ -0,0 +1,47 @@
+package com.realestate.tracker.domain.property.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 단지별 월간 거래 집계 엔티티
+ * 수집 시점에 증분 갱신되며, 위험 신호(잦은 거래) 탐지와 평당가 추이 계산에 사용한다.
+ * 해제된 거래는 집계에서 제외한다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Entity
+@Table(name = "apt_trade_monthly_turnovers",
+       uniqueConstraints = @UniqueConstraint(name = "uk_apt_trade_monthly_turnovers",
+                                             columnNames = {"lawd_code", "deal_ym", "apartment_name", "dong"}),
+       indexes = @Index(name = "idx_apt_trade_monthly_turnovers_dong_apt_ym",
+                        columnList = "lawd_code, dong, apartment_name, deal_ym"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString
+public class AptTradeMonthlyTurnover {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 10)
+    private String lawdCode;  // 지역코드
+
+    @Column(nullable = false)
+    private Integer dealYm;  // 거래년월 (yyyyMM)
+
+    @Column(nullable = false, length = 200)
+    private String apartmentName;  // 아파트명
+
+    @Column(nullable = false, length = 50)
+    private String dong;  // 동
+
+    @Column(nullable = false)
+    private Integer tradeCount;  // 거래 건수
+
+    @Column(nullable = false)
+    private Double pricePerPyeongSum;  // 평당 거래금액 합계 (만원/평, 평균 = 합계 / 거래 건수)
+}
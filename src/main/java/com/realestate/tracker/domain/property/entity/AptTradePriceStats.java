@@ -0,0 +1,117 @@
+package com.realestate.tracker.domain.property.entity;
+
+import com.realestate.tracker.domain.common.enums.AreaBand;
+import com.tdunning.math.stats.MergingDigest;
+import com.tdunning.math.stats.TDigest;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+/**
+ * 지역/월/면적구간별 거래가격 집계 엔티티
+ * 건수/합계/최소/최대와 분위수 계산용 t-digest 스케치를 보관하며, 수집 시점에 갱신된다.
+ * 여러 행의 스케치를 병합하면 임의 기간/구간의 중위수와 분위수를 원본 거래 조회 없이 구할 수 있다.
+ * 해제된 거래는 집계에서 제외한다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Entity
+@Table(name = "apt_trade_price_stats",
+       uniqueConstraints = @UniqueConstraint(name = "uk_apt_trade_price_stats",
+                                             columnNames = {"lawd_code", "deal_ym", "area_band"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(exclude = "digest")
+public class AptTradePriceStats {
+
+    // t-digest 정확도 (클수록 정확하고 크기가 커진다)
+    public static final double DIGEST_COMPRESSION = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 10)
+    private String lawdCode;  // 지역코드
+
+    @Column(nullable = false)
+    private Integer dealYm;  // 거래년월 (yyyyMM)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AreaBand areaBand;  // 면적구간
+
+    @Column(nullable = false)
+    private Long tradeCount;  // 거래 건수
+
+    @Column(nullable = false)
+    private BigDecimal amountSum;  // 거래금액 합계 (만원)
+
+    @Column(nullable = false)
+    private BigDecimal minAmount;  // 최저 거래금액
+
+    @Column(nullable = false)
+    private BigDecimal maxAmount;  // 최고 거래금액
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] digest;  // 거래금액 t-digest (MergingDigest small encoding)
+
+    @Version
+    private Long version;
+
+    public AptTradePriceStats(String lawdCode, Integer dealYm, AreaBand areaBand) {
+        this.lawdCode = lawdCode;
+        this.dealYm = dealYm;
+        this.areaBand = areaBand;
+        reset();
+    }
+
+    /**
+     * 거래금액 추가
+     */
+    public void addAll(Collection<BigDecimal> amounts) {
+        TDigest sketch = toDigest();
+        for (BigDecimal amount : amounts) {
+            sketch.add(amount.doubleValue());
+            tradeCount++;
+            amountSum = amountSum.add(amount);
+            minAmount = tradeCount == 1 ? amount : minAmount.min(amount);
+            maxAmount = tradeCount == 1 ? amount : maxAmount.max(amount);
+        }
+        this.digest = toBytes(sketch);
+    }
+
+    /**
+     * 집계 초기화 후 거래금액으로 다시 계산 (해제/해제철회 반영용)
+     */
+    public void rebuild(Collection<BigDecimal> amounts) {
+        reset();
+        addAll(amounts);
+    }
+
+    /**
+     * 저장된 스케치 복원
+     */
+    public TDigest toDigest() {
+        return MergingDigest.fromBytes(ByteBuffer.wrap(digest));
+    }
+
+    private void reset() {
+        this.tradeCount = 0L;
+        this.amountSum = BigDecimal.ZERO;
+        this.minAmount = BigDecimal.ZERO;
+        this.maxAmount = BigDecimal.ZERO;
+        this.digest = toBytes(new MergingDigest(DIGEST_COMPRESSION));
+    }
+
+    private static byte[] toBytes(TDigest sketch) {
+        sketch.compress();
+        ByteBuffer buffer = ByteBuffer.allocate(sketch.smallByteSize());
+        sketch.asSmallBytes(buffer);
+        return buffer.array();
+    }
+}
@@ -0,0 +1,48 @@
+package com.realestate.tracker.domain.property.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Open API 동기화 이력(ledger) 엔티티
+ * (지역코드, 거래년월)별로 마지막 조회 시각과 조회 건수를 기록하여
+ * 이미 적재된 월을 다시 조회하지 않도록 한다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Entity
+@Table(name = "apt_trade_sync_ledgers",
+       uniqueConstraints = @UniqueConstraint(name = "uk_apt_trade_sync_ledgers", columnNames = {"lawd_code", "deal_ym"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString
+public class AptTradeSyncLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 10)
+    private String lawdCode;  // 지역코드
+
+    @Column(nullable = false)
+    private Integer dealYm;  // 거래년월 (yyyyMM)
+
+    @Column(nullable = false)
+    private LocalDateTime fetchedAt;  // 마지막 조회 시각
+
+    @Column(nullable = false)
+    private Integer rowCount;  // 마지막 조회 건수
+
+    /**
+     * 재조회 결과 반영
+     */
+    public void refresh(LocalDateTime fetchedAt, int rowCount) {
+        this.fetchedAt = fetchedAt;
+        this.rowCount = rowCount;
+    }
+}
@@ -0,0 +1,24 @@
+package com.realestate.tracker.domain.property.event;
+
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 아파트 매매 실거래 수집 이벤트
+ * 수집 트랜잭션 안에서 batch-size 청크마다 발행되며, 집계 테이블/캐시 등 파생 데이터 갱신에 사용한다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Getter
+@ToString(exclude = {"inserted", "canceled", "restored"})
+@RequiredArgsConstructor
+public class AptTradeIngestedEvent {
+
+    private final List<AptTrade> inserted;  // 신규 저장된 거래
+    private final List<AptTrade> canceled;  // 새로 해제된 기존 거래
+    private final List<AptTrade> restored;  // 해제가 철회된 기존 거래
+}
@@ -0,0 +1,33 @@
+package com.realestate.tracker.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 Response DTO
+ * 전체 건수(COUNT)는 포함하지 않으며, 다음 페이지는 nextCursor로 조회한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public static <T> CursorPageResponse<T> of(List<T> content, int size, boolean hasNext, String nextCursor) {
+        return CursorPageResponse.<T>builder()
+            .content(content)
+            .size(size)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.realestate.tracker.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * 페이지 Response DTO
+ * Page를 그대로 직렬화할 때 붙는 pageable/sort 메타데이터 없이 화면에서 쓰는 값만 내려준다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PageResponse<T> {
+
+    private List<T> content;
+    private long totalElements;
+    private int totalPages;
+    private int size;
+    private int number;
+
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return PageResponse.<T>builder()
+            .content(page.getContent())
+            .totalElements(page.getTotalElements())
+            .totalPages(page.getTotalPages())
+            .size(page.getSize())
+            .number(page.getNumber())
+            .build();
+    }
+}
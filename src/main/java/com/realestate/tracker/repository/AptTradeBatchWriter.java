@@ -0,0 +1,150 @@
+package com.realestate.tracker.repository;
+
+import com.realestate.tracker.domain.property.dto.AptTradeUpsertResult;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import com.realestate.tracker.domain.property.event.AptTradeIngestedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아파트 매매 실거래 대량 저장 Repository
+ * batch-size 단위로 flush/clear 하여 JDBC 배치 INSERT를 사용하고,
+ * 장기간 백필 중에도 영속성 컨텍스트가 커지지 않도록 한다.
+ */
+@Slf4j
+@Repository
+public class AptTradeBatchWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final AptTradeRepository aptTradeRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    // flush/clear 단위 (hibernate.jdbc.batch_size와 동일하게 설정)
+    private final int batchSize;
+
+    // upsert 1회 시간 / 결과별 행 수 (초당 처리량은 rate(tracker_ingest_rows_total)로 본다)
+    private final Timer upsertTimer;
+    private final Counter insertedRows;
+    private final Counter updatedRows;
+    private final Counter unchangedRows;
+
+    public AptTradeBatchWriter(AptTradeRepository aptTradeRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${tracker.ingest.batch-size:500}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("tracker.ingest.batch-size must be at least 1");
+        }
+        this.aptTradeRepository = aptTradeRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.upsertTimer = Timer.builder("tracker.ingest.upsert")
+            .description("거래 일괄 upsert 시간 (조회/INSERT/flush 포함, 커밋 제외)")
+            .register(meterRegistry);
+        this.insertedRows = Counter.builder("tracker.ingest.rows").tag("result", "inserted").register(meterRegistry);
+        this.updatedRows = Counter.builder("tracker.ingest.rows").tag("result", "updated").register(meterRegistry);
+        this.unchangedRows = Counter.builder("tracker.ingest.rows").tag("result", "unchanged").register(meterRegistry);
+    }
+
+    /**
+     * 거래 목록 일괄 upsert
+     * 자연키가 같은 거래가 이미 있으면 INSERT 하지 않고 해제 정보만 갱신한다.
+     * 변경분은 batch-size 단위로 AptTradeIngestedEvent로 발행되며(같은 트랜잭션 안),
+     * 이 메소드는 건수만 누적하므로 입력이 커져도 청크 크기 이상의 거래를 따로 보관하지 않는다.
+     *
+     * @param trades 수집된 거래 목록
+     * @return 신규/갱신/미변경 건수
+     */
+    @Transactional
+    public AptTradeUpsertResult upsertAll(List<AptTrade> trades) {
+        long startedAt = System.nanoTime();
+        int insertedCount = 0;
+        int updatedCount = 0;
+        int unchangedCount = 0;
+
+        for (int from = 0; from < trades.size(); from += batchSize) {
+            List<AptTrade> chunk = trades.subList(from, Math.min(from + batchSize, trades.size()));
+            List<AptTrade> inserted = new ArrayList<>();
+            List<AptTrade> canceled = new ArrayList<>();
+            List<AptTrade> restored = new ArrayList<>();
+
+            // 같은 응답 안의 중복 제거 (나중 값 우선)
+            Map<String, AptTrade> incoming = new LinkedHashMap<>();
+            for (AptTrade trade : chunk) {
+                trade.setTradeKey(trade.buildTradeKey());
+                incoming.put(trade.getTradeKey(), trade);
+            }
+            unchangedCount += chunk.size() - incoming.size();
+
+            Map<String, AptTrade> existing = aptTradeRepository.findByTradeKeyIn(incoming.keySet()).stream()
+                .collect(Collectors.toMap(AptTrade::getTradeKey, Function.identity()));
+
+            for (AptTrade trade : incoming.values()) {
+                AptTrade saved = existing.get(trade.getTradeKey());
+                if (saved == null) {
+                    entityManager.persist(trade);
+                    inserted.add(trade);
+                    continue;
+                }
+
+                boolean wasCanceled = Boolean.TRUE.equals(saved.getIsCanceled());
+                if (!saved.applyCancellation(trade)) {
+                    unchangedCount++;
+                    continue;
+                }
+
+                updatedCount++;
+                boolean nowCanceled = Boolean.TRUE.equals(saved.getIsCanceled());
+                if (!wasCanceled && nowCanceled) {
+                    canceled.add(saved);
+                } else if (wasCanceled && !nowCanceled) {
+                    restored.add(saved);
+                }
+            }
+            insertedCount += inserted.size();
+
+            entityManager.flush();
+            entityManager.clear();
+
+            // 청크가 flush된 뒤 발행하여, 리스너의 DB 재조회에 이 청크의 변경이 보이도록 한다
+            if (!inserted.isEmpty() || !canceled.isEmpty() || !restored.isEmpty()) {
+                eventPublisher.publishEvent(new AptTradeIngestedEvent(inserted, canceled, restored));
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        upsertTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        insertedRows.increment(insertedCount);
+        updatedRows.increment(updatedCount);
+        unchangedRows.increment(unchangedCount);
+        log.debug("Upserted {} apt trades in {} ms ({} rows/s) - inserted: {}, updated: {}, unchanged: {}",
+                trades.size(), elapsedNanos / 1_000_000,
+                elapsedNanos > 0 ? trades.size() * 1_000_000_000L / elapsedNanos : trades.size(),
+                insertedCount, updatedCount, unchangedCount);
+
+        return AptTradeUpsertResult.builder()
+            .insertedCount(insertedCount)
+            .updatedCount(updatedCount)
+            .unchangedCount(unchangedCount)
+            .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.realestate.tracker.repository;
+
+import com.realestate.tracker.domain.property.dto.MonthlyPricePerPyeong;
+import com.realestate.tracker.domain.property.dto.RiskyApartmentResponse;
+import com.realestate.tracker.domain.property.entity.AptTradeMonthlyTurnover;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 단지별 월간 거래 집계 Repository
+ */
+@Repository
+public interface AptTradeMonthlyTurnoverRepository extends JpaRepository<AptTradeMonthlyTurnover, Long> {
+
+    /**
+     * 거래 건수 및 평당 거래금액 합계 증감
+     *
+     * (JPQL로 작성하면 Hibernate가 실수 파라미터를 정밀도 없는 CAST로 감싸 H2에서 구문 오류가 나므로 네이티브 쿼리로 작성)
+     *
+     * @return 갱신된 행 수 (집계 행이 없으면 0)
+     */
+    @Modifying
+    @Query(value = "UPDATE apt_trade_monthly_turnovers SET " +
+                   "trade_count = trade_count + :countDelta, " +
+                   "price_per_pyeong_sum = price_per_pyeong_sum + :pricePerPyeongDelta WHERE " +
+                   "lawd_code = :lawdCode AND deal_ym = :dealYm AND " +
+                   "apartment_name = :apartmentName AND dong = :dong",
+           nativeQuery = true)
+    int addTrades(
+        @Param("lawdCode") String lawdCode,
+        @Param("dealYm") int dealYm,
+        @Param("apartmentName") String apartmentName,
+        @Param("dong") String dong,
+        @Param("countDelta") int countDelta,
+        @Param("pricePerPyeongDelta") double pricePerPyeongDelta
+    );
+
+    /**
+     * 기간 내 거래 건수가 기준 이상인 단지 조회 (위험 신호)
+     */
+    @Query("SELECT new com.realestate.tracker.domain.property.dto.RiskyApartmentResponse(" +
+           "t.lawdCode, t.apartmentName, t.dong, SUM(t.tradeCount)) " +
+           "FROM AptTradeMonthlyTurnover t WHERE " +
+           "t.lawdCode = :lawdCode AND t.dealYm BETWEEN :fromYm AND :toYm " +
+           "GROUP BY t.lawdCode, t.apartmentName, t.dong " +
+           "HAVING SUM(t.tradeCount) >= :minCount " +
+           "ORDER BY SUM(t.tradeCount) DESC")
+    List<RiskyApartmentResponse> findFrequentlyTradedApartments(
+        @Param("lawdCode") String lawdCode,
+        @Param("fromYm") int fromYm,
+        @Param("toYm") int toYm,
+        @Param("minCount") long minCount
+    );
+
+    /**
+     * 단지 월별 평당가 집계 조회
+     */
+    @Query("SELECT new com.realestate.tracker.domain.property.dto.MonthlyPricePerPyeong(" +
+           "t.dealYm, SUM(t.tradeCount), SUM(t.pricePerPyeongSum)) " +
+           "FROM AptTradeMonthlyTurnover t WHERE " +
+           "t.lawdCode = :lawdCode AND t.dong = :dong AND t.apartmentName = :apartmentName AND " +
+           "t.dealYm BETWEEN :fromYm AND :toYm " +
+           "GROUP BY t.dealYm ORDER BY t.dealYm")
+    List<MonthlyPricePerPyeong> findComplexPricePerPyeong(
+        @Param("lawdCode") String lawdCode,
+        @Param("dong") String dong,
+        @Param("apartmentName") String apartmentName,
+        @Param("fromYm") int fromYm,
+        @Param("toYm") int toYm
+    );
+
+    /**
+     * 동 월별 평당가 집계 조회 (동 내 단지 합산)
+     */
+    @Query("SELECT new com.realestate.tracker.domain.property.dto.MonthlyPricePerPyeong(" +
+           "t.dealYm, SUM(t.tradeCount), SUM(t.pricePerPyeongSum)) " +
+           "FROM AptTradeMonthlyTurnover t WHERE " +
+           "t.lawdCode = :lawdCode AND t.dong = :dong AND " +
+           "t.dealYm BETWEEN :fromYm AND :toYm " +
+           "GROUP BY t.dealYm ORDER BY t.dealYm")
+    List<MonthlyPricePerPyeong> findDongPricePerPyeong(
+        @Param("lawdCode") String lawdCode,
+        @Param("dong") String dong,
+        @Param("fromYm") int fromYm,
+        @Param("toYm") int toYm
+    );
+}
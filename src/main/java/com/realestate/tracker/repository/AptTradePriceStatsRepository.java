@@ -0,0 +1,23 @@
+package com.realestate.tracker.repository;
+
+import com.realestate.tracker.domain.common.enums.AreaBand;
+import com.realestate.tracker.domain.property.entity.AptTradePriceStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 지역/월/면적구간별 거래가격 집계 Repository
+ */
+@Repository
+public interface AptTradePriceStatsRepository extends JpaRepository<AptTradePriceStats, Long> {
+
+    Optional<AptTradePriceStats> findByLawdCodeAndDealYmAndAreaBand(String lawdCode, Integer dealYm, AreaBand areaBand);
+
+    List<AptTradePriceStats> findByLawdCodeAndDealYmBetweenOrderByDealYm(String lawdCode, Integer fromYm, Integer toYm);
+
+    List<AptTradePriceStats> findByLawdCodeAndAreaBandAndDealYmBetweenOrderByDealYm(
+        String lawdCode, AreaBand areaBand, Integer fromYm, Integer toYm);
+}
@@ -0,0 +1,51 @@
+package com.realestate.tracker.repository;
+
+import com.realestate.tracker.domain.property.dto.AptTradeCursor;
+import com.realestate.tracker.domain.property.dto.AptTradeSummary;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+/**
+ * 아파트 매매 실거래 Custom Repository
+ */
+public interface AptTradeRepositoryCustom {
+
+    /**
+     * 목록 projection 페이지 조회
+     * 생성자 표현식으로 필요한 컬럼만 조회하므로 영속 엔티티를 만들지 않는다.
+     * 첫 페이지가 페이지 크기보다 적게 조회되면 COUNT 쿼리를 생략한다.
+     *
+     * @param spec 검색 조건
+     * @param pageable 페이지/정렬
+     * @return 조회 결과
+     */
+    Page<AptTradeSummary> findSummaries(Specification<AptTrade> spec, Pageable pageable);
+
+    /**
+     * keyset(seek) 방식 페이지 조회
+     * (거래일 DESC, ID DESC) 순서로 커서 다음 행부터 size건을 조회하며 COUNT 쿼리는 실행하지 않는다.
+     *
+     * @param spec 검색 조건
+     * @param cursor 이전 페이지 마지막 행 (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 조회 결과
+     */
+    Slice<AptTradeSummary> findSliceByCursor(Specification<AptTrade> spec, AptTradeCursor cursor, int size);
+
+    /**
+     * 검색 조건에 맞는 거래를 forward-only 커서로 스트리밍 조회
+     * (거래일 DESC, ID DESC) 순서로 fetchSize건씩 읽으며, 방출한 엔티티는 영속성 컨텍스트에서 분리하여
+     * 결과 건수와 관계없이 메모리 사용량을 일정하게 유지한다.
+     * 반환된 Stream은 트랜잭션 안에서 소비한 뒤 닫아야 한다.
+     *
+     * @param spec 검색 조건
+     * @param fetchSize JDBC fetch size
+     * @return 거래 스트림
+     */
+    Stream<AptTrade> streamBySpecification(Specification<AptTrade> spec, int fetchSize);
+}
@@ -0,0 +1,171 @@
+package com.realestate.tracker.repository;
+
+import com.realestate.tracker.domain.property.dto.AptTradeCursor;
+import com.realestate.tracker.domain.property.dto.AptTradeSummary;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 아파트 매매 실거래 Custom Repository 구현
+ */
+public class AptTradeRepositoryCustomImpl implements AptTradeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 페이지 검색의 COUNT 쿼리 시간 (목록 쿼리와 구분)
+    private final Timer countTimer;
+
+    public AptTradeRepositoryCustomImpl(MeterRegistry meterRegistry) {
+        this.countTimer = Timer.builder("tracker.query")
+            .description("DB/컬럼형 인덱스 조회 시간 (캐시 적중은 제외)")
+            .tag("query", "search.count")
+            .tag("source", "db")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Page<AptTradeSummary> findSummaries(Specification<AptTrade> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AptTradeSummary> query = cb.createQuery(AptTradeSummary.class);
+        Root<AptTrade> root = query.from(AptTrade.class);
+
+        Predicate condition = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (condition != null) {
+            query.where(condition);
+        }
+        query.select(summary(cb, root))
+            .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<AptTradeSummary> content = entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            long startedAt = System.nanoTime();
+            long total = count(spec);
+            countTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return total;
+        });
+    }
+
+    @Override
+    public Slice<AptTradeSummary> findSliceByCursor(Specification<AptTrade> spec, AptTradeCursor cursor, int size) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AptTradeSummary> query = cb.createQuery(AptTradeSummary.class);
+        Root<AptTrade> root = query.from(AptTrade.class);
+        Path<LocalDate> transactionDate = root.get("transactionDate");
+        Path<Long> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate condition = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (condition != null) {
+            predicates.add(condition);
+        }
+
+        // (거래일, ID) < (커서 거래일, 커서 ID)
+        if (cursor != null) {
+            predicates.add(cb.or(
+                cb.lessThan(transactionDate, cursor.getTransactionDate()),
+                cb.and(
+                    cb.equal(transactionDate, cursor.getTransactionDate()),
+                    cb.lessThan(id, cursor.getId())
+                )
+            ));
+        }
+
+        query.select(summary(cb, root))
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(cb.desc(transactionDate), cb.desc(id));
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<AptTradeSummary> rows = entityManager.createQuery(query)
+            .setMaxResults(size + 1)
+            .getResultList();
+
+        boolean hasNext = rows.size() > size;
+        List<AptTradeSummary> content = hasNext ? rows.subList(0, size) : rows;
+
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    @Override
+    public Stream<AptTrade> streamBySpecification(Specification<AptTrade> spec, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AptTrade> query = cb.createQuery(AptTrade.class);
+        Root<AptTrade> root = query.from(AptTrade.class);
+
+        Predicate condition = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (condition != null) {
+            query.where(condition);
+        }
+        query.select(root)
+            .orderBy(cb.desc(root.get("transactionDate")), cb.desc(root.get("id")));
+
+        // 읽기 전용 + fetch size 지정: 결과 전체를 메모리에 올리지 않고 커서로 읽는다
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream()
+            .map(trade -> {
+                entityManager.detach(trade);
+                return trade;
+            });
+    }
+
+    private long count(Specification<AptTrade> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<AptTrade> root = query.from(AptTrade.class);
+
+        Predicate condition = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (condition != null) {
+            query.where(condition);
+        }
+        query.select(cb.count(root));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * 목록 projection 생성자 표현식
+     */
+    private static CompoundSelection<AptTradeSummary> summary(CriteriaBuilder cb, Root<AptTrade> root) {
+        return cb.construct(AptTradeSummary.class,
+            root.get("id"),
+            root.get("apartmentName"),
+            root.get("dong"),
+            root.get("localNumber"),
+            root.get("transactionAmount"),
+            root.get("transactionDate"),
+            root.get("exclusiveArea"),
+            root.get("floor"),
+            root.get("buildingYear"),
+            root.get("isCanceled"));
+    }
+}
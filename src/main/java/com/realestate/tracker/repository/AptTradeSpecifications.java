@@ -0,0 +1,181 @@
+package com.realestate.tracker.repository;
+
+import com.realestate.tracker.domain.common.enums.LawdSiType;
+import com.realestate.tracker.domain.property.dto.AptTradeSearchCondition;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 아파트 매매 실거래 검색 Specification
+ * 값이 있는 조건만 WHERE 절에 포함하여 (:x IS NULL OR col = :x) 패턴 없이
+ * 인덱스(lawd_code, transaction_date)를 탈 수 있는 쿼리를 만든다.
+ */
+public final class AptTradeSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private AptTradeSpecifications() {
+    }
+
+    /**
+     * 검색 조건으로 Specification 생성
+     * 거래일 조건이 없으면 조회년월 범위를 거래일 범위로 사용한다.
+     */
+    public static Specification<AptTrade> bySearchCondition(AptTradeSearchCondition condition) {
+        return Specification.where(region(condition))
+            .and(transactionDateFrom(condition.resolveStartDate()))
+            .and(transactionDateTo(condition.resolveEndDate()))
+            .and(dongEquals(condition.getDong()))
+            .and(apartmentNameContains(condition.getApartmentName()))
+            .and(transactionAmountFrom(condition.getStartTransactionAmount()))
+            .and(transactionAmountTo(condition.getEndTransactionAmount()))
+            .and(exclusiveAreaFrom(condition.getMinExclusiveArea()))
+            .and(exclusiveAreaTo(condition.getMaxExclusiveArea()))
+            .and(buildingYearFrom(condition.getMinBuildingYear()))
+            .and(buildingYearTo(condition.getMaxBuildingYear()));
+    }
+
+    /**
+     * 지역 조건 (지역코드/구/시)
+     * 셋 중 가장 좁은 조건 하나만 lawd_code 조건으로 만들어 (lawd_code, transaction_date) 인덱스로 접근한다.
+     * 지역코드 = 구(IN) = 시(앞자리 LIKE) 순으로 좁으며, 지역코드가 구/시에 속하지 않으면 결과가 없다.
+     */
+    public static Specification<AptTrade> region(AptTradeSearchCondition condition) {
+        LawdSiType city = condition.resolveCity();
+        List<String> districtLawdCodes = condition.resolveDistrictLawdCodes();
+        String lawdCode = condition.getLawdCode();
+
+        if (StringUtils.hasText(lawdCode)) {
+            boolean inRegion = (districtLawdCodes == null || districtLawdCodes.contains(lawdCode))
+                && (city == null || lawdCode.startsWith(city.getCode()));
+            return inRegion ? lawdCodeEquals(lawdCode) : none();
+        }
+        if (districtLawdCodes != null) {
+            return lawdCodeIn(districtLawdCodes);
+        }
+        if (city != null) {
+            return lawdCodeStartsWith(city.getCode());
+        }
+        return null;
+    }
+
+    public static Specification<AptTrade> lawdCodeEquals(String lawdCode) {
+        if (!StringUtils.hasText(lawdCode)) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("lawdCode"), lawdCode);
+    }
+
+    public static Specification<AptTrade> lawdCodeIn(List<String> lawdCodes) {
+        if (lawdCodes == null || lawdCodes.isEmpty()) {
+            return null;
+        }
+        if (lawdCodes.size() == 1) {
+            return lawdCodeEquals(lawdCodes.get(0));
+        }
+        return (root, query, cb) -> root.get("lawdCode").in(lawdCodes);
+    }
+
+    /**
+     * 지역코드 앞자리 조건 (앞자리 고정 LIKE는 인덱스 범위 조회가 된다)
+     */
+    public static Specification<AptTrade> lawdCodeStartsWith(String prefix) {
+        if (!StringUtils.hasText(prefix)) {
+            return null;
+        }
+        return (root, query, cb) -> cb.like(root.get("lawdCode"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    public static Specification<AptTrade> dongEquals(String dong) {
+        if (!StringUtils.hasText(dong)) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("dong"), dong);
+    }
+
+    /**
+     * 아파트명 부분 일치 조건
+     * 앞쪽 와일드카드라 인덱스를 타지 않으므로, 지역/동/거래일 조건으로 좁힌 행에만 적용된다.
+     */
+    public static Specification<AptTrade> apartmentNameContains(String apartmentName) {
+        if (!StringUtils.hasText(apartmentName)) {
+            return null;
+        }
+        return (root, query, cb) ->
+            cb.like(root.get("apartmentName"), "%" + escapeLike(apartmentName) + "%", LIKE_ESCAPE);
+    }
+
+    public static Specification<AptTrade> transactionDateFrom(LocalDate startDate) {
+        if (startDate == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("transactionDate"), startDate);
+    }
+
+    public static Specification<AptTrade> transactionDateTo(LocalDate endDate) {
+        if (endDate == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("transactionDate"), endDate);
+    }
+
+    public static Specification<AptTrade> transactionAmountFrom(BigDecimal minPrice) {
+        if (minPrice == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("transactionAmount"), minPrice);
+    }
+
+    public static Specification<AptTrade> transactionAmountTo(BigDecimal maxPrice) {
+        if (maxPrice == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("transactionAmount"), maxPrice);
+    }
+
+    public static Specification<AptTrade> exclusiveAreaFrom(Double minArea) {
+        if (minArea == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("exclusiveArea"), minArea);
+    }
+
+    public static Specification<AptTrade> exclusiveAreaTo(Double maxArea) {
+        if (maxArea == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("exclusiveArea"), maxArea);
+    }
+
+    public static Specification<AptTrade> buildingYearFrom(Integer minBuildingYear) {
+        if (minBuildingYear == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("buildingYear"), minBuildingYear);
+    }
+
+    public static Specification<AptTrade> buildingYearTo(Integer maxBuildingYear) {
+        if (maxBuildingYear == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("buildingYear"), maxBuildingYear);
+    }
+
+    /**
+     * 결과가 없는 조건 (서로 맞지 않는 지역 조건)
+     */
+    private static Specification<AptTrade> none() {
+        return (root, query, cb) -> cb.disjunction();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+}
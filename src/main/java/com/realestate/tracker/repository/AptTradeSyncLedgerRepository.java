@@ -0,0 +1,19 @@
+package com.realestate.tracker.repository;
+
+import com.realestate.tracker.domain.property.entity.AptTradeSyncLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Open API 동기화 이력 Repository
+ */
+@Repository
+public interface AptTradeSyncLedgerRepository extends JpaRepository<AptTradeSyncLedger, Long> {
+
+    Optional<AptTradeSyncLedger> findByLawdCodeAndDealYm(String lawdCode, Integer dealYm);
+
+    List<AptTradeSyncLedger> findByLawdCodeAndDealYmBetween(String lawdCode, Integer fromYm, Integer toYm);
+}
@@ -0,0 +1,262 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.domain.common.enums.AreaBand;
+import com.realestate.tracker.domain.common.util.YearMonthUtils;
+import com.realestate.tracker.domain.property.dto.AptTradePricePoint;
+import com.realestate.tracker.domain.property.dto.AptTradePriceStatsResponse;
+import com.realestate.tracker.domain.property.dto.PriceStatsSummary;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import com.realestate.tracker.domain.property.entity.AptTradePriceStats;
+import com.realestate.tracker.domain.property.event.AptTradeIngestedEvent;
+import com.realestate.tracker.repository.AptTradePriceStatsRepository;
+import com.realestate.tracker.repository.AptTradeRepository;
+import com.tdunning.math.stats.MergingDigest;
+import com.tdunning.math.stats.TDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 거래가격 통계 Service
+ * 수집 시점에 (지역코드, 거래년월, 면적구간)별 집계를 갱신하고,
+ * 조회시에는 원본 거래 대신 기간 내 집계 행을 병합하여 평균/중위수/분위수를 계산한다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class AptTradePriceStatsService {
+
+    // 동시 갱신/생성 충돌시 최대 시도 횟수
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final AptTradePriceStatsRepository priceStatsRepository;
+    private final AptTradeRepository aptTradeRepository;
+    private final TransactionTemplate newTransaction;
+
+    public AptTradePriceStatsService(AptTradePriceStatsRepository priceStatsRepository,
+                                     AptTradeRepository aptTradeRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.priceStatsRepository = priceStatsRepository;
+        this.aptTradeRepository = aptTradeRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 지역 거래가격 통계 조회
+     *
+     * @param lawdCode 지역코드
+     * @param start 시작년월
+     * @param end 종료년월
+     * @param areaBand 면적구간 (null이면 전체 구간)
+     * @return 기간 요약과 월별 추이
+     */
+    public AptTradePriceStatsResponse getPriceStats(String lawdCode, YearMonth start, YearMonth end, AreaBand areaBand) {
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("startYearMonth must not be after endYearMonth");
+        }
+
+        int fromYm = YearMonthUtils.toDealYm(start);
+        int toYm = YearMonthUtils.toDealYm(end);
+        List<AptTradePriceStats> rows = areaBand == null
+            ? priceStatsRepository.findByLawdCodeAndDealYmBetweenOrderByDealYm(lawdCode, fromYm, toYm)
+            : priceStatsRepository.findByLawdCodeAndAreaBandAndDealYmBetweenOrderByDealYm(lawdCode, areaBand, fromYm, toYm);
+
+        // 월별 병합 및 기간 전체 병합
+        Map<Integer, PriceStatsAccumulator> monthly = new LinkedHashMap<>();
+        PriceStatsAccumulator total = new PriceStatsAccumulator();
+        for (AptTradePriceStats row : rows) {
+            monthly.computeIfAbsent(row.getDealYm(), dealYm -> new PriceStatsAccumulator()).merge(row);
+            total.merge(row);
+        }
+
+        List<PriceStatsSummary> monthlySummaries = new ArrayList<>(monthly.size());
+        monthly.forEach((dealYm, accumulator) ->
+            monthlySummaries.add(accumulator.toSummary(YearMonthUtils.fromDealYm(dealYm))));
+
+        return AptTradePriceStatsResponse.builder()
+            .lawdCode(lawdCode)
+            .areaBand(areaBand)
+            .startYearMonth(start)
+            .endYearMonth(end)
+            .summary(total.toSummary(null))
+            .monthly(monthlySummaries)
+            .build();
+    }
+
+    /**
+     * 수집된 거래를 가격 집계에 반영
+     * 신규 거래는 집계에 더하고, 해제/해제철회가 발생한 집계는 해당 월의 원본 거래로 다시 계산한다.
+     * (최소/최대/스케치는 값을 뺄 수 없으므로)
+     * 수집 트랜잭션 커밋 후 집계 행(재계산은 월)마다 별도 트랜잭션으로 반영하며,
+     * 다른 수집과 같은 행을 동시에 갱신(@Version 충돌)하거나 생성(유니크 제약)하면 다시 읽어 재시도한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTradesIngested(AptTradeIngestedEvent event) {
+        Set<StatsKey> rebuildKeys = new LinkedHashSet<>();
+        event.getCanceled().forEach(trade -> rebuildKeys.add(StatsKey.of(trade)));
+        event.getRestored().forEach(trade -> rebuildKeys.add(StatsKey.of(trade)));
+
+        Map<StatsKey, List<BigDecimal>> additions = new LinkedHashMap<>();
+        for (AptTrade trade : event.getInserted()) {
+            StatsKey key = StatsKey.of(trade);
+            if (!Boolean.TRUE.equals(trade.getIsCanceled()) && !rebuildKeys.contains(key)) {
+                additions.computeIfAbsent(key, k -> new ArrayList<>()).add(trade.getTransactionAmount());
+            }
+        }
+
+        additions.forEach((key, amounts) -> retryOnConflict(key, () -> {
+            AptTradePriceStats stats = findOrCreate(key);
+            stats.addAll(amounts);
+            priceStatsRepository.save(stats);
+        }));
+
+        rebuild(rebuildKeys);
+
+        log.debug("Applied price stats for {} bucket(s), rebuilt {} bucket(s)", additions.size(), rebuildKeys.size());
+    }
+
+    /**
+     * 집계 재계산: (지역코드, 거래년월)별로 원본 거래를 한 번 조회하여 해당 월의 면적구간을 다시 계산한다.
+     */
+    private void rebuild(Collection<StatsKey> keys) {
+        Map<MonthKey, Set<AreaBand>> bandsByMonth = new LinkedHashMap<>();
+        keys.forEach(key -> bandsByMonth
+            .computeIfAbsent(new MonthKey(key.lawdCode(), key.dealYm()), k -> new LinkedHashSet<>())
+            .add(key.areaBand()));
+
+        bandsByMonth.forEach((month, bands) -> retryOnConflict(month, () -> {
+            YearMonth yearMonth = YearMonthUtils.fromDealYm(month.dealYm());
+            Map<AreaBand, List<BigDecimal>> amountsByBand = new EnumMap<>(AreaBand.class);
+            for (AptTradePricePoint point : aptTradeRepository.findActivePricePoints(
+                    month.lawdCode(), yearMonth.atDay(1), yearMonth.atEndOfMonth())) {
+                AreaBand band = AreaBand.of(point.exclusiveArea());
+                if (bands.contains(band)) {
+                    amountsByBand.computeIfAbsent(band, b -> new ArrayList<>()).add(point.transactionAmount());
+                }
+            }
+
+            for (AreaBand band : bands) {
+                StatsKey key = new StatsKey(month.lawdCode(), month.dealYm(), band);
+                List<BigDecimal> amounts = amountsByBand.getOrDefault(band, List.of());
+                if (amounts.isEmpty()) {
+                    priceStatsRepository.findByLawdCodeAndDealYmAndAreaBand(key.lawdCode(), key.dealYm(), band)
+                        .ifPresent(priceStatsRepository::delete);
+                    continue;
+                }
+                AptTradePriceStats stats = findOrCreate(key);
+                stats.rebuild(amounts);
+                priceStatsRepository.save(stats);
+            }
+        }));
+    }
+
+    /**
+     * 별도 트랜잭션으로 집계 갱신 (동시 갱신/생성 충돌시 처음부터 다시 실행)
+     * 재시도해도 실패하면 이미 커밋된 수집을 되돌릴 수 없으므로 경고만 남긴다.
+     */
+    private void retryOnConflict(Object target, Runnable update) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                newTransaction.executeWithoutResult(status -> update.run());
+                return;
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.warn("Gave up updating price stats {} after {} attempt(s)", target, attempt, e);
+                    return;
+                }
+                log.debug("Price stats {} changed concurrently, retrying ({}/{})", target, attempt, MAX_ATTEMPTS);
+            }
+        }
+    }
+
+    private AptTradePriceStats findOrCreate(StatsKey key) {
+        return priceStatsRepository.findByLawdCodeAndDealYmAndAreaBand(key.lawdCode(), key.dealYm(), key.areaBand())
+            .orElseGet(() -> new AptTradePriceStats(key.lawdCode(), key.dealYm(), key.areaBand()));
+    }
+
+    /**
+     * 집계 행 병합기
+     */
+    private static class PriceStatsAccumulator {
+
+        private final TDigest digest = new MergingDigest(AptTradePriceStats.DIGEST_COMPRESSION);
+        private long tradeCount;
+        private BigDecimal amountSum = BigDecimal.ZERO;
+        private BigDecimal minAmount;
+        private BigDecimal maxAmount;
+
+        void merge(AptTradePriceStats row) {
+            if (row.getTradeCount() == 0) {
+                return;
+            }
+            digest.add(row.toDigest());
+            tradeCount += row.getTradeCount();
+            amountSum = amountSum.add(row.getAmountSum());
+            minAmount = minAmount == null ? row.getMinAmount() : minAmount.min(row.getMinAmount());
+            maxAmount = maxAmount == null ? row.getMaxAmount() : maxAmount.max(row.getMaxAmount());
+        }
+
+        PriceStatsSummary toSummary(YearMonth yearMonth) {
+            if (tradeCount == 0) {
+                return PriceStatsSummary.builder().yearMonth(yearMonth).build();
+            }
+            return PriceStatsSummary.builder()
+                .yearMonth(yearMonth)
+                .tradeCount(tradeCount)
+                .averageAmount(amountSum.divide(BigDecimal.valueOf(tradeCount), 0, RoundingMode.HALF_UP))
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .p10Amount(quantile(0.10))
+                .p25Amount(quantile(0.25))
+                .medianAmount(quantile(0.50))
+                .p75Amount(quantile(0.75))
+                .p90Amount(quantile(0.90))
+                .build();
+        }
+
+        private BigDecimal quantile(double q) {
+            return BigDecimal.valueOf(digest.quantile(q)).setScale(0, RoundingMode.HALF_UP);
+        }
+    }
+
+    /**
+     * 집계 키 (지역코드, 거래년월, 면적구간)
+     */
+    private record StatsKey(String lawdCode, int dealYm, AreaBand areaBand) {
+
+        static StatsKey of(AptTrade trade) {
+            return new StatsKey(
+                trade.getLawdCode(),
+                YearMonthUtils.toDealYm(YearMonth.from(trade.getTransactionDate())),
+                AreaBand.of(trade.getExclusiveArea())
+            );
+        }
+    }
+
+    /**
+     * 재계산 단위 (지역코드, 거래년월)
+     */
+    private record MonthKey(String lawdCode, int dealYm) {
+    }
+}
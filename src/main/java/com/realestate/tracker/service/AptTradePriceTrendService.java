@@ -0,0 +1,134 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.domain.common.util.YearMonthUtils;
+import com.realestate.tracker.domain.property.dto.MonthlyPricePerPyeong;
+import com.realestate.tracker.domain.property.dto.PricePerPyeongTrendResponse;
+import com.realestate.tracker.repository.AptTradeMonthlyTurnoverRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 평당가 추이 Service
+ * 수집 시점에 갱신되는 단지별 월간 집계(건수, 평당가 합계)를 월 단위 기본형 배열로 펼친 뒤
+ * 월평균, 이동평균, 전년 동월 대비 변동률을 한 번의 순회로 계산한다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AptTradePriceTrendService {
+
+    // 전년 동월 비교 기간
+    private static final int YEAR_OVER_YEAR_MONTHS = 12;
+
+    // 최대 조회 기간 (개월)
+    private static final int MAX_MONTHS = 360;
+
+    private final AptTradeMonthlyTurnoverRepository turnoverRepository;
+
+    /**
+     * 단지 또는 동의 평당가 추이 조회
+     *
+     * @param lawdCode 지역코드
+     * @param dong 동
+     * @param apartmentName 아파트명 (없으면 동 전체)
+     * @param start 시작년월
+     * @param end 종료년월
+     * @param window 이동평균 기간 (1~12개월)
+     * @return 월별 평당가 추이
+     */
+    public PricePerPyeongTrendResponse getPricePerPyeongTrend(String lawdCode, String dong, String apartmentName,
+                                                              YearMonth start, YearMonth end, int window) {
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("startYearMonth must not be after endYearMonth");
+        }
+        if (window < 1 || window > YEAR_OVER_YEAR_MONTHS) {
+            throw new IllegalArgumentException("window must be between 1 and " + YEAR_OVER_YEAR_MONTHS);
+        }
+        int months = (int) ChronoUnit.MONTHS.between(start, end) + 1;
+        if (months > MAX_MONTHS) {
+            throw new IllegalArgumentException("period must not exceed " + MAX_MONTHS + " months");
+        }
+
+        // 이동평균/전년 대비 계산을 위해 12개월 앞부터 조회
+        YearMonth base = start.minusMonths(YEAR_OVER_YEAR_MONTHS);
+        int fromYm = YearMonthUtils.toDealYm(base);
+        int toYm = YearMonthUtils.toDealYm(end);
+        List<MonthlyPricePerPyeong> rows = StringUtils.hasText(apartmentName)
+            ? turnoverRepository.findComplexPricePerPyeong(lawdCode, dong, apartmentName, fromYm, toYm)
+            : turnoverRepository.findDongPricePerPyeong(lawdCode, dong, fromYm, toYm);
+
+        int length = YEAR_OVER_YEAR_MONTHS + months;
+        int[] counts = new int[length];
+        double[] sums = new double[length];
+        for (MonthlyPricePerPyeong row : rows) {
+            int index = (int) ChronoUnit.MONTHS.between(base, YearMonthUtils.fromDealYm(row.dealYm()));
+            counts[index] += row.tradeCount().intValue();
+            sums[index] += row.pricePerPyeongSum();
+        }
+
+        List<Integer> tradeCounts = new ArrayList<>(months);
+        List<Double> averages = new ArrayList<>(months);
+        List<Double> movingAverages = new ArrayList<>(months);
+        List<Double> yearOverYearRates = new ArrayList<>(months);
+
+        // 이동평균 구간 합계 (구간에 들어오는 월을 더하고 빠지는 월을 뺀다)
+        long windowCount = 0;
+        double windowSum = 0;
+        for (int i = 0; i < length; i++) {
+            windowCount += counts[i];
+            windowSum += sums[i];
+            if (i >= window) {
+                windowCount -= counts[i - window];
+                windowSum -= sums[i - window];
+            }
+            if (i < YEAR_OVER_YEAR_MONTHS) {
+                continue;
+            }
+
+            double average = average(sums[i], counts[i]);
+            double lastYearAverage = average(sums[i - YEAR_OVER_YEAR_MONTHS], counts[i - YEAR_OVER_YEAR_MONTHS]);
+
+            tradeCounts.add(counts[i]);
+            averages.add(round(average, 1));
+            movingAverages.add(round(average(windowSum, windowCount), 1));
+            yearOverYearRates.add(round(average / lastYearAverage - 1, 4));
+        }
+
+        return PricePerPyeongTrendResponse.builder()
+            .lawdCode(lawdCode)
+            .dong(dong)
+            .apartmentName(StringUtils.hasText(apartmentName) ? apartmentName : null)
+            .startYearMonth(start)
+            .endYearMonth(end)
+            .movingAverageWindow(window)
+            .tradeCounts(tradeCounts)
+            .pricePerPyeong(averages)
+            .movingAverage(movingAverages)
+            .yearOverYearRate(yearOverYearRates)
+            .build();
+    }
+
+    private static double average(double sum, long count) {
+        return count > 0 ? sum / count : Double.NaN;
+    }
+
+    /**
+     * 반올림 (계산할 수 없는 값은 null)
+     */
+    private static Double round(double value, int scale) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return null;
+        }
+        double factor = Math.pow(10, scale);
+        return Math.round(value * factor) / factor;
+    }
+}
@@ -0,0 +1,154 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.domain.common.util.YearMonthUtils;
+import com.realestate.tracker.domain.property.dto.RiskyApartmentResponse;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import com.realestate.tracker.domain.property.entity.AptTradeMonthlyTurnover;
+import com.realestate.tracker.domain.property.event.AptTradeIngestedEvent;
+import com.realestate.tracker.repository.AptTradeMonthlyTurnoverRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 위험 신호(잦은 거래) 탐지 Service
+ * 원본 거래 테이블 대신 수집 시점에 갱신되는 단지별 월간 거래 집계를 조회한다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class AptTradeRiskService {
+
+    private final AptTradeMonthlyTurnoverRepository turnoverRepository;
+    private final TransactionTemplate newTransaction;
+
+    public AptTradeRiskService(AptTradeMonthlyTurnoverRepository turnoverRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.turnoverRepository = turnoverRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 거래 빈도가 높은 위험 물건 탐지
+     *
+     * @param lawdCode 지역코드
+     * @param months 조회 기간 (이번 달 포함 최근 N개월)
+     * @param minTransactionCount 최소 거래 횟수
+     * @return 기간 내 거래 건수 내림차순 단지 목록
+     */
+    public List<RiskyApartmentResponse> findFrequentlyTradedApartments(String lawdCode, int months, int minTransactionCount) {
+        if (months < 1) {
+            throw new IllegalArgumentException("months must be at least 1");
+        }
+
+        YearMonth to = YearMonth.now();
+        YearMonth from = to.minusMonths(months - 1L);
+
+        return turnoverRepository.findFrequentlyTradedApartments(
+            lawdCode,
+            YearMonthUtils.toDealYm(from),
+            YearMonthUtils.toDealYm(to),
+            minTransactionCount
+        );
+    }
+
+    /**
+     * 수집된 거래를 월간 집계에 반영
+     * 신규/해제철회 거래는 더하고, 새로 해제된 거래는 뺀다 (건수, 평당 거래금액 합계)
+     */
+    @EventListener
+    @Transactional
+    public void onTradesIngested(AptTradeIngestedEvent event) {
+        Map<TurnoverKey, TurnoverDelta> deltas = new LinkedHashMap<>();
+
+        for (AptTrade trade : event.getInserted()) {
+            if (!Boolean.TRUE.equals(trade.getIsCanceled())) {
+                deltas.computeIfAbsent(TurnoverKey.of(trade), key -> new TurnoverDelta()).add(trade, 1);
+            }
+        }
+        event.getRestored().forEach(trade ->
+            deltas.computeIfAbsent(TurnoverKey.of(trade), key -> new TurnoverDelta()).add(trade, 1));
+        event.getCanceled().forEach(trade ->
+            deltas.computeIfAbsent(TurnoverKey.of(trade), key -> new TurnoverDelta()).add(trade, -1));
+
+        deltas.forEach((key, delta) -> {
+            if (delta.count == 0 && delta.pricePerPyeongSum == 0) {
+                return;
+            }
+
+            if (addTrades(key, delta) == 0 && delta.count > 0) {
+                createEmptyRow(key);
+                addTrades(key, delta);
+            }
+        });
+
+        log.debug("Applied {} turnover delta(s)", deltas.size());
+    }
+
+    private int addTrades(TurnoverKey key, TurnoverDelta delta) {
+        return turnoverRepository.addTrades(
+            key.lawdCode(), key.dealYm(), key.apartmentName(), key.dong(), delta.count, delta.pricePerPyeongSum);
+    }
+
+    /**
+     * 빈 집계 행 생성 (별도 트랜잭션)
+     * 수집 트랜잭션에서 INSERT가 유니크 제약에 걸리면 청크 전체가 롤백되므로, 빈 행만 별도 트랜잭션으로 만들고
+     * 증감은 항상 UPDATE로 반영한다. 같은 키를 동시에 수집한 다른 트랜잭션이 먼저 만들었으면 그 행을 사용한다.
+     */
+    private void createEmptyRow(TurnoverKey key) {
+        try {
+            newTransaction.executeWithoutResult(status -> turnoverRepository.save(AptTradeMonthlyTurnover.builder()
+                .lawdCode(key.lawdCode())
+                .dealYm(key.dealYm())
+                .apartmentName(key.apartmentName())
+                .dong(key.dong())
+                .tradeCount(0)
+                .pricePerPyeongSum(0.0)
+                .build()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Turnover row {} was created concurrently", key);
+        }
+    }
+
+    /**
+     * 집계 증감값
+     */
+    private static class TurnoverDelta {
+        private int count;
+        private double pricePerPyeongSum;
+
+        void add(AptTrade trade, int sign) {
+            count += sign;
+            pricePerPyeongSum += sign * trade.calculatePricePerPyeong();
+        }
+    }
+
+    /**
+     * 집계 키 (지역코드, 거래년월, 아파트명, 동)
+     */
+    private record TurnoverKey(String lawdCode, int dealYm, String apartmentName, String dong) {
+
+        static TurnoverKey of(AptTrade trade) {
+            return new TurnoverKey(
+                trade.getLawdCode(),
+                YearMonthUtils.toDealYm(YearMonth.from(trade.getTransactionDate())),
+                trade.getApartmentName(),
+                Objects.toString(trade.getDong(), "")
+            );
+        }
+    }
+}
@@ -1,22 +1,43 @@
 package com.realestate.tracker.service;
 
+import com.realestate.tracker.domain.property.dto.AptTradeCursor;
 import com.realestate.tracker.domain.property.dto.AptTradeSearchCondition;
+import com.realestate.tracker.domain.property.dto.AptTradeSummary;
+import com.realestate.tracker.domain.property.dto.AptTradeSyncResult;
 import com.realestate.tracker.domain.property.entity.AptTrade;
+import com.realestate.tracker.dto.response.CursorPageResponse;
 import com.realestate.tracker.repository.AptTradeRepository;
-import com.realestate.tracker.service.external.OpenApiService;
+import com.realestate.tracker.repository.AptTradeSpecifications;
+import com.realestate.tracker.service.cache.AptTradeHistoryCacheKey;
+import com.realestate.tracker.service.cache.AptTradeQueryCache;
+import com.realestate.tracker.service.cache.AptTradeSearchCacheKey;
+import com.realestate.tracker.service.index.AptTradeColumnarIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * 아파트 매매 실거래 Service Layer
@@ -29,96 +50,188 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class AptTradeService {
     
+    // 정렬 가능 속성 (거래일은 (lawd_code, transaction_date) 인덱스 순서 그대로, 나머지는 조건으로 좁힌 행만 정렬)
+    private static final Set<String> SORTABLE_PROPERTIES =
+        Set.of("transactionDate", "transactionAmount", "exclusiveArea", "buildingYear", "floor");
+    
     private final AptTradeRepository aptTradeRepository;
-    private final OpenApiService openApiService;
+    private final AptTradeSyncEngine aptTradeSyncEngine;
+    private final AptTradeSyncLedgerService aptTradeSyncLedgerService;
+    private final AptTradeQueryCache queryCache;
+    private final ObjectProvider<AptTradeColumnarIndex> columnarIndex;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${tracker.stream.fetch-size:500}")
+    private int streamFetchSize;
+    
+    @Value("${tracker.search.max-page-size:1000}")
+    private int maxPageSize;
     
     /**
      * 아파트 매매 실거래 목록 조회
+     * DB(또는 컬럼형 인덱스) 조회 결과만 캐시하며, 동기화 이력 확인과 Open API 보충 조회는 캐시 적중시에도 실행한다.
      *
      * @param searchCondition 검색 조건
      * @return 아파트 매매 실거래 목록
      */
-    public Page<AptTrade> findAptTrades(AptTradeSearchCondition searchCondition) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<AptTradeSummary> findAptTrades(AptTradeSearchCondition searchCondition) {
         // 검색 조건 유효성 검사
         if (!searchCondition.isValid()) {
             throw new IllegalArgumentException("Invalid search condition");
         }
         
-        // Pageable 생성
-        Sort sort = Sort.by(
-            searchCondition.getSortDirection().equals("ASC") 
-                ? Sort.Direction.ASC 
-                : Sort.Direction.DESC,
-            searchCondition.getSortBy()
-        );
-        Pageable pageable = PageRequest.of(searchCondition.getPage(), searchCondition.getSize(), sort);
+        // 지역 조건 검증 (Repository 안에서 실패하면 InvalidDataAccessApiUsageException으로 변환되어 400으로 응답할 수 없다)
+        searchCondition.resolveCity();
+        searchCondition.resolveDistrictLawdCodes();
         
-        // DB에서 먼저 조회
-        Page<AptTrade> result = aptTradeRepository.findBySearchCondition(
-            searchCondition.getLawdCode(),
-            searchCondition.getStartDate(),
-            searchCondition.getEndDate(),
-            searchCondition.getStartTransactionAmount(),
-            searchCondition.getEndTransactionAmount(),
-            pageable
-        );
+        // Pageable 생성 (같은 값끼리는 ID 순으로 고정해 페이지 간 중복/누락이 없도록 한다)
+        String sortBy = StringUtils.hasText(searchCondition.getSortBy()) 
+            ? searchCondition.getSortBy() 
+            : "transactionDate";
+        if (!SORTABLE_PROPERTIES.contains(sortBy)) {
+            throw new IllegalArgumentException("Unsupported sortBy: " + sortBy);
+        }
+        Sort.Direction direction = "ASC".equalsIgnoreCase(searchCondition.getSortDirection())
+            ? Sort.Direction.ASC 
+            : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+        Pageable pageable = PageRequest.of(searchCondition.getPage(), pageSize(searchCondition), sort);
+        AptTradeSearchCacheKey cacheKey = AptTradeSearchCacheKey.of(searchCondition);
         
-        // 데이터가 없으면 Open API에서 가져와서 저장
-        if (result.isEmpty() && searchCondition.getStartYearMonth() != null) {
-            List<AptTrade> apiData = fetchAndSaveFromOpenApi(searchCondition);
-            return aptTradeRepository.findBySearchCondition(
-                searchCondition.getLawdCode(),
-                searchCondition.getStartDate(),
-                searchCondition.getEndDate(),
-                searchCondition.getStartTransactionAmount(),
-                searchCondition.getEndTransactionAmount(),
-                pageable
-            );
+        // DB(또는 컬럼형 인덱스)에서 먼저 조회
+        Page<AptTradeSummary> result = queryCache.getSearch(cacheKey, () -> search(searchCondition, pageable));
+        
+        // 아직 적재되지 않은 월만 Open API에서 가져와서 저장
+        // 읽기 전용 트랜잭션 밖에서 실행하며, 같은 월에 대한 동시 요청은 하나의 조회로 합쳐진다.
+        if (searchCondition.getLawdCode() == null || searchCondition.getStartYearMonth() == null) {
+            return result;
         }
         
+        YearMonth end = searchCondition.getEndYearMonth() != null 
+            ? searchCondition.getEndYearMonth() 
+            : YearMonth.now();
+        List<YearMonth> uncoveredMonths = aptTradeSyncLedgerService.findUncoveredMonths(
+            searchCondition.getLawdCode(), searchCondition.getStartYearMonth(), end);
+        if (uncoveredMonths.isEmpty()) {
+            return result;
+        }
+        
+        log.info("Fetching {} uncovered month(s) for {}: {}", 
+                uncoveredMonths.size(), searchCondition.getLawdCode(), uncoveredMonths);
+        meterRegistry.counter("tracker.search.fallback").increment();
+        meterRegistry.counter("tracker.search.fallback.months").increment(uncoveredMonths.size());
+        AptTradeSyncResult syncResult = aptTradeSyncEngine.sync(searchCondition.getLawdCode(), uncoveredMonths);
+        if (syncResult.getSavedCount() == 0) {
+            return result;
+        }
+        
+        // 저장 커밋 후 AptTradeCacheInvalidator가 이 검색의 캐시 항목을 제거했으므로 다시 조회된다
+        return queryCache.getSearch(cacheKey, () -> search(searchCondition, pageable));
+    }
+    
+    /**
+     * 검색 조건 조회
+     * 컬럼형 인덱스가 켜져 있고 적재가 끝났으면 인덱스에서, 아니면 DB에서 조회한다.
+     */
+    private Page<AptTradeSummary> search(AptTradeSearchCondition searchCondition, Pageable pageable) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AptTradeColumnarIndex index = columnarIndex.getIfAvailable();
+        if (index != null) {
+            Optional<Page<AptTradeSummary>> indexed = index.search(searchCondition, pageable);
+            if (indexed.isPresent()) {
+                sample.stop(queryTimer("search", "columnar"));
+                return indexed.get();
+            }
+        }
+        Page<AptTradeSummary> result = aptTradeRepository.findBySearchCondition(searchCondition, pageable);
+        sample.stop(queryTimer("search", "db"));
         return result;
     }
     
     /**
-     * Open API에서 데이터 조회 및 저장
+     * 조회 시간 기록 (tracker.query)
      */
-    @Transactional
-    public List<AptTrade> fetchAndSaveFromOpenApi(AptTradeSearchCondition searchCondition) {
-        List<AptTrade> allTrades = new ArrayList<>();
+    private <T> T timed(String query, Supplier<T> supplier) {
+        return queryTimer(query, "db").record(supplier);
+    }
+    
+    private Timer queryTimer(String query, String source) {
+        return Timer.builder("tracker.query")
+            .description("DB/컬럼형 인덱스 조회 시간 (캐시 적중은 제외)")
+            .tag("query", query)
+            .tag("source", source)
+            .register(meterRegistry);
+    }
+    
+    /**
+     * 아파트 매매 실거래 커서 기반 목록 조회
+     * (거래일 DESC, ID DESC) 순서로 조회하며, 깊은 페이지도 OFFSET/COUNT 없이 같은 비용으로 조회한다.
+     *
+     * @param searchCondition 검색 조건 (정렬/페이지 번호는 무시)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @return 커서 기반 페이지
+     */
+    public CursorPageResponse<AptTradeSummary> findAptTradesByCursor(AptTradeSearchCondition searchCondition, String cursor) {
+        if (!searchCondition.isValid()) {
+            throw new IllegalArgumentException("Invalid search condition");
+        }
         
-        YearMonth current = searchCondition.getStartYearMonth();
-        YearMonth end = searchCondition.getEndYearMonth() != null 
-            ? searchCondition.getEndYearMonth() 
-            : YearMonth.now();
+        AptTradeCursor after = StringUtils.hasText(cursor) ? AptTradeCursor.decode(cursor) : null;
+        int size = pageSize(searchCondition);
         
-        while (!current.isAfter(end)) {
-            try {
-                // Open API 호출
-                List<AptTrade> monthlyTrades = openApiService.fetchAptTrades(
-                    searchCondition.getLawdCode(),
-                    current
-                );
-                
-                // DB 저장
-                if (!monthlyTrades.isEmpty()) {
-                    allTrades.addAll(aptTradeRepository.saveAll(monthlyTrades));
-                }
-                
-                current = current.plusMonths(1);
-            } catch (Exception e) {
-                log.error("Failed to fetch apt trades for {}: {}", current, e.getMessage());
-                current = current.plusMonths(1);
-            }
+        Slice<AptTradeSummary> slice = timed("cursor", () -> aptTradeRepository.findSliceByCursor(
+            AptTradeSpecifications.bySearchCondition(searchCondition),
+            after,
+            size
+        ));
+        
+        String nextCursor = slice.hasNext()
+            ? AptTradeCursor.after(slice.getContent().get(slice.getNumberOfElements() - 1)).encode()
+            : null;
+        
+        return CursorPageResponse.of(slice.getContent(), size, slice.hasNext(), nextCursor);
+    }
+    
+    /**
+     * 한 페이지 조회 건수 (size/itemCount 중 작은 값, 서버 최대값 이하)
+     */
+    private int pageSize(AptTradeSearchCondition searchCondition) {
+        return Math.min(searchCondition.resolvePageSize(), maxPageSize);
+    }
+    
+    /**
+     * 아파트 매매 실거래 스트리밍 조회
+     * (거래일 DESC, ID DESC) 순서로 DB 커서에서 읽은 거래를 한 건씩 consumer에 전달한다.
+     * Open API 보충 조회는 하지 않으며, consumer는 읽기 전용 트랜잭션 안에서 호출된다.
+     *
+     * @param searchCondition 검색 조건 (정렬/페이지는 무시)
+     * @param consumer 거래 처리기
+     * @return 전달한 거래 수
+     */
+    public long streamAptTrades(AptTradeSearchCondition searchCondition, Consumer<AptTrade> consumer) {
+        if (!searchCondition.isValid()) {
+            throw new IllegalArgumentException("Invalid search condition");
         }
         
-        return allTrades;
+        long count = 0;
+        try (Stream<AptTrade> trades = aptTradeRepository.streamBySpecification(
+                AptTradeSpecifications.bySearchCondition(searchCondition), streamFetchSize)) {
+            Iterator<AptTrade> iterator = trades.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
     }
     
     /**
      * 특정 아파트 거래 이력 조회
      */
-    public List<AptTrade> findAptTradeHistory(String apartmentName, String dong) {
-        return aptTradeRepository.findByApartmentNameAndDong(apartmentName, dong);
+    public List<AptTradeSummary> findAptTradeHistory(String apartmentName, String dong) {
+        return queryCache.getHistory(new AptTradeHistoryCacheKey(apartmentName, dong),
+            () -> timed("history", () -> aptTradeRepository.findByApartmentNameAndDong(apartmentName, dong)));
     }
     
     /**
@@ -129,15 +242,4 @@ public class AptTradeService {
         log.info("Contract expiry feature will be implemented for lease contracts");
         return new ArrayList<>();
     }
-    
-    /**
-     * 거래 빈도가 높은 위험 물건 탐지
-     */
-    public List<AptTrade> findFrequentlyTradedApartments(String lawdCode, int months, int minTransactionCount) {
-        return aptTradeRepository.findFrequentlyTradedApartments(
-            lawdCode, 
-            months, 
-            minTransactionCount
-        );
-    }
 }
@@ -0,0 +1,145 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.domain.property.dto.AptTradeMonthlySyncResult;
+import com.realestate.tracker.domain.property.dto.AptTradeSyncResult;
+import com.realestate.tracker.domain.property.dto.AptTradeUpsertResult;
+import com.realestate.tracker.service.external.OpenApiService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Open API 월별 동시 조회 엔진
+ * 조회월을 병렬도 제한 내에서 동시에 조회/저장하고, 결과는 조회월 순서대로 병합한다.
+ * 월 단위 조회/저장은 OpenApiFetchCoalescer를 거치므로 같은 월에 대한 중복 호출은 하나로 합쳐진다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Slf4j
+@Component
+public class AptTradeSyncEngine {
+
+    private final OpenApiFetchCoalescer openApiFetchCoalescer;
+    private final OpenApiService openApiService;
+
+    // 월별 조회/저장을 실행하는 스케줄러 (ThreadingConfig)
+    private final Scheduler openApiFetchScheduler;
+
+    // 동시에 조회하는 최대 월 수
+    private final int parallelism;
+
+    public AptTradeSyncEngine(OpenApiFetchCoalescer openApiFetchCoalescer,
+                              OpenApiService openApiService,
+                              Scheduler openApiFetchScheduler,
+                              @Value("${openapi.sync.parallelism:4}") int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("openapi.sync.parallelism must be at least 1");
+        }
+        this.openApiFetchCoalescer = openApiFetchCoalescer;
+        this.openApiService = openApiService;
+        this.openApiFetchScheduler = openApiFetchScheduler;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 기간 내 월별 거래를 동시에 조회하고 저장한다.
+     * 월마다 별도 트랜잭션으로 커밋되므로, 일부 월이 실패해도 성공한 월의 데이터는 유지된다.
+     *
+     * @param lawdCode 지역코드
+     * @param start 시작년월
+     * @param end 종료년월
+     * @return 월별 성공/실패가 포함된 동기화 결과
+     */
+    public AptTradeSyncResult sync(String lawdCode, YearMonth start, YearMonth end) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return sync(lawdCode, months);
+    }
+
+    /**
+     * 지정한 월들의 거래를 동시에 조회하고 저장한다.
+     *
+     * @param lawdCode 지역코드
+     * @param months 조회년월 목록 (결과는 이 순서를 따른다)
+     * @return 월별 성공/실패와 저장 건수가 포함된 동기화 결과 (저장된 거래 목록은 모으지 않는다)
+     */
+    public AptTradeSyncResult sync(String lawdCode, List<YearMonth> months) {
+        List<AptTradeMonthlySyncResult> monthlyResults = new ArrayList<>(months.size());
+
+        // flatMapSequential: 조회/저장은 동시에, 결과는 조회월 순서대로
+        syncMonths(lawdCode, months, true)
+            .toIterable()
+            .forEach(monthlyResults::add);
+
+        return AptTradeSyncResult.builder()
+            .lawdCode(lawdCode)
+            .months(monthlyResults)
+            .build();
+    }
+
+    /**
+     * 지정한 월들의 거래를 동시에 조회하고 저장하며, 월이 끝나는 순서대로 결과를 전달한다.
+     * 저장된 거래 목록은 모으지 않으므로 기간이 길어도 메모리 사용량은 동시에 처리 중인 월 수에 비례한다.
+     *
+     * @param lawdCode 지역코드
+     * @param months 조회년월 목록
+     * @param onMonthCompleted 월별 결과 처리기 (호출 스레드에서 순차 호출)
+     */
+    public void sync(String lawdCode, List<YearMonth> months, Consumer<AptTradeMonthlySyncResult> onMonthCompleted) {
+        syncMonths(lawdCode, months, false)
+            .toIterable()
+            .forEach(onMonthCompleted);
+    }
+
+    /**
+     * 월별 조회/저장 실행
+     * 인증키가 없거나 Open API 장애로 서킷이 열려 있으면 호출하지 않고 모든 월을 실패로 반환한다 (조회는 DB 데이터로 응답)
+     *
+     * @param ordered true면 조회월 순서대로, false면 끝나는 순서대로 방출
+     */
+    private Flux<AptTradeMonthlySyncResult> syncMonths(String lawdCode, List<YearMonth> months, boolean ordered) {
+        if (!openApiService.isConfigured()) {
+            log.warn("Open API service key is not configured - skip sync of {} month(s) for {}", months.size(), lawdCode);
+            return Flux.fromIterable(months)
+                .map(month -> AptTradeMonthlySyncResult.failure(month, "Open API service key is not configured", 0));
+        }
+        if (!openApiService.isAvailable()) {
+            log.warn("Open API circuit breaker is open - skip sync of {} month(s) for {}", months.size(), lawdCode);
+            return Flux.fromIterable(months)
+                .map(month -> AptTradeMonthlySyncResult.failure(month, "Open API is temporarily unavailable", 0));
+        }
+
+        Flux<YearMonth> source = Flux.fromIterable(months);
+        return ordered
+            ? source.flatMapSequential(month -> syncMonth(lawdCode, month), parallelism)
+            : source.flatMap(month -> syncMonth(lawdCode, month), parallelism);
+    }
+
+    /**
+     * 단일 월 조회/저장 (실패는 결과 객체로 변환)
+     */
+    private Mono<AptTradeMonthlySyncResult> syncMonth(String lawdCode, YearMonth month) {
+        return Mono.fromCallable(() -> {
+                long startedAt = System.currentTimeMillis();
+                try {
+                    AptTradeUpsertResult upserted = openApiFetchCoalescer.fetchAndSave(lawdCode, month);
+                    return AptTradeMonthlySyncResult.success(
+                        month, upserted.getSavedCount(), System.currentTimeMillis() - startedAt);
+                } catch (RuntimeException e) {
+                    log.error("Failed to sync apt trades for {}/{}: {}", lawdCode, month, e.getMessage());
+                    return AptTradeMonthlySyncResult.failure(month, e.getMessage(), System.currentTimeMillis() - startedAt);
+                }
+            })
+            .subscribeOn(openApiFetchScheduler);
+    }
+}
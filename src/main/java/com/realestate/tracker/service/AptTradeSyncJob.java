@@ -0,0 +1,141 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.domain.common.enums.SyncJobStatus;
+import com.realestate.tracker.domain.property.dto.AptTradeMonthlySyncResult;
+import com.realestate.tracker.domain.property.dto.AptTradeSyncJobResponse;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Open API 동기화 작업
+ * 진행 상황은 작업 스레드가 월마다 갱신하고, 조회 요청 스레드는 현재 값을 읽어 응답을 만든다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+class AptTradeSyncJob {
+
+    // 보관하는 최대 실패 사유 수 (오래된 것부터 버린다)
+    private static final int MAX_ERRORS = 20;
+
+    @Getter
+    private final String id;
+    @Getter
+    private final String lawdCode;
+    @Getter
+    private final List<YearMonth> months;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    @Getter
+    private volatile SyncJobStatus status = SyncJobStatus.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+
+    private final AtomicInteger completedMonths = new AtomicInteger();
+    private final AtomicInteger failedMonths = new AtomicInteger();
+    private final AtomicLong ingestedRows = new AtomicLong();
+    private final Deque<String> errors = new ArrayDeque<>();
+
+    AptTradeSyncJob(String id, String lawdCode, List<YearMonth> months) {
+        this.id = id;
+        this.lawdCode = lawdCode;
+        this.months = List.copyOf(months);
+    }
+
+    void start() {
+        startedNanos = System.nanoTime();
+        startedAt = LocalDateTime.now();
+        status = SyncJobStatus.RUNNING;
+    }
+
+    /**
+     * 월별 결과 반영
+     */
+    void record(AptTradeMonthlySyncResult result) {
+        if (result.isSuccess()) {
+            ingestedRows.addAndGet(result.getTradeCount());
+        } else {
+            failedMonths.incrementAndGet();
+            addError(result.getYearMonth() + ": " + result.getErrorMessage());
+        }
+        completedMonths.incrementAndGet();
+    }
+
+    /**
+     * 정상 종료 (모든 월이 실패했으면 실패로 본다)
+     */
+    void finish() {
+        end(failedMonths.get() == months.size() && !months.isEmpty()
+            ? SyncJobStatus.FAILED
+            : SyncJobStatus.COMPLETED);
+    }
+
+    /**
+     * 예기치 못한 오류로 중단
+     */
+    void fail(String message) {
+        addError(message);
+        end(SyncJobStatus.FAILED);
+    }
+
+    private void end(SyncJobStatus finalStatus) {
+        finishedNanos = System.nanoTime();
+        finishedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+
+    private void addError(String error) {
+        synchronized (errors) {
+            if (errors.size() == MAX_ERRORS) {
+                errors.removeFirst();
+            }
+            errors.addLast(error);
+        }
+    }
+
+    AptTradeSyncJobResponse toResponse() {
+        // 상태를 먼저 읽는다 (종료 상태는 진행 값과 실패 사유를 모두 기록한 뒤에 쓰므로 종료로 보이면 최종 값도 보인다)
+        SyncJobStatus currentStatus = status;
+        List<String> errorSnapshot;
+        synchronized (errors) {
+            errorSnapshot = List.copyOf(errors);
+        }
+
+        return AptTradeSyncJobResponse.builder()
+            .jobId(id)
+            .status(currentStatus)
+            .lawdCode(lawdCode)
+            .startYearMonth(months.isEmpty() ? null : months.get(0))
+            .endYearMonth(months.isEmpty() ? null : months.get(months.size() - 1))
+            .totalMonths(months.size())
+            .completedMonths(completedMonths.get())
+            .failedMonths(failedMonths.get())
+            .ingestedRows(ingestedRows.get())
+            .rowsPerSecond(rowsPerSecond(currentStatus))
+            .errors(errorSnapshot)
+            .submittedAt(submittedAt)
+            .startedAt(startedAt)
+            .finishedAt(finishedAt)
+            .build();
+    }
+
+    /**
+     * 시작 이후 평균 처리량 (종료된 작업은 종료 시각까지)
+     */
+    private double rowsPerSecond(SyncJobStatus currentStatus) {
+        if (startedAt == null) {
+            return 0;
+        }
+        long endNanos = currentStatus.isFinished() ? finishedNanos : System.nanoTime();
+        double seconds = (endNanos - startedNanos) / 1_000_000_000.0;
+        return seconds > 0 ? ingestedRows.get() / seconds : 0;
+    }
+}
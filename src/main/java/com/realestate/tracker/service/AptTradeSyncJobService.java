@@ -0,0 +1,166 @@
+package com.realestate.tracker.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.realestate.tracker.domain.property.dto.AptTradeSearchCondition;
+import com.realestate.tracker.domain.property.dto.AptTradeSyncJobResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Open API 동기화 작업 Service
+ * 동기화 요청은 작업으로 등록만 하고 바로 반환하며, 전용 실행기에서 월별로 조회/저장한다.
+ * 진행 상황(처리 월 수, 저장 건수, 실패 사유, 처리량)은 작업 ID로 조회한다.
+ * 종료된 작업은 보관 기간이 지나면 사라지며, 실행 중인 작업은 만료되지 않는다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Slf4j
+@Service
+public class AptTradeSyncJobService {
+
+    private final AptTradeSyncEngine aptTradeSyncEngine;
+    private final ExecutorService executor;
+    private final Cache<String, AptTradeSyncJob> jobs;
+
+    // 작업 1건의 최대 기간 (월)
+    private final int maxMonths;
+
+    public AptTradeSyncJobService(AptTradeSyncEngine aptTradeSyncEngine,
+                                  ThreadFactory aptTradeSyncJobThreadFactory,
+                                  @Value("${tracker.sync.job.workers:2}") int workers,
+                                  @Value("${tracker.sync.job.queue-capacity:100}") int queueCapacity,
+                                  @Value("${tracker.sync.job.retention:1h}") Duration retention,
+                                  @Value("${tracker.sync.job.max-months:240}") int maxMonths) {
+        this.aptTradeSyncEngine = aptTradeSyncEngine;
+        this.maxMonths = maxMonths;
+        // 대기열이 가득 차면 등록을 거절한다 (RejectedExecutionException)
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(queueCapacity), aptTradeSyncJobThreadFactory);
+        this.jobs = Caffeine.newBuilder()
+            .expireAfter(new FinishedJobExpiry(retention))
+            .build();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 동기화 작업 등록
+     *
+     * @param searchCondition 동기화 조건 (lawdCode, startYearMonth 필수, endYearMonth 기본값: 이번 달)
+     * @return 등록된 작업 (QUEUED)
+     * @throws IllegalArgumentException 잘못된 동기화 조건
+     * @throws RejectedExecutionException 대기 중인 작업이 너무 많음
+     */
+    public AptTradeSyncJobResponse submit(AptTradeSearchCondition searchCondition) {
+        if (!StringUtils.hasText(searchCondition.getLawdCode()) || searchCondition.getStartYearMonth() == null) {
+            throw new IllegalArgumentException("lawdCode and startYearMonth are required");
+        }
+
+        YearMonth start = searchCondition.getStartYearMonth();
+        YearMonth end = searchCondition.getEndYearMonth() != null
+            ? searchCondition.getEndYearMonth()
+            : YearMonth.now();
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("startYearMonth must not be after endYearMonth");
+        }
+
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        if (months.size() > maxMonths) {
+            throw new IllegalArgumentException("sync period must not exceed " + maxMonths + " months");
+        }
+
+        AptTradeSyncJob job = new AptTradeSyncJob(UUID.randomUUID().toString(), searchCondition.getLawdCode(), months);
+        // 실행기가 바로 시작할 수 있으므로 등록 시점의 상태(QUEUED)를 먼저 만들어 둔다
+        AptTradeSyncJobResponse queued = job.toResponse();
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getId());
+            throw e;
+        }
+
+        log.info("Sync job {} queued - {} {}~{} ({} month(s))", job.getId(), job.getLawdCode(), start, end, months.size());
+        return queued;
+    }
+
+    /**
+     * 동기화 작업 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업 진행 상황 (없거나 보관 기간이 지났으면 empty)
+     */
+    public Optional<AptTradeSyncJobResponse> findJob(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId)).map(AptTradeSyncJob::toResponse);
+    }
+
+    private void run(AptTradeSyncJob job) {
+        job.start();
+        try {
+            aptTradeSyncEngine.sync(job.getLawdCode(), job.getMonths(), job::record);
+            job.finish();
+        } catch (RuntimeException e) {
+            log.error("Sync job {} failed: {}", job.getId(), e.getMessage(), e);
+            job.fail(e.getMessage());
+        }
+
+        // 종료 시각부터 보관 기간을 다시 센다
+        jobs.put(job.getId(), job);
+
+        AptTradeSyncJobResponse result = job.toResponse();
+        log.info("Sync job {} {} - {} row(s), {}/{} month(s) failed",
+                job.getId(), result.getStatus(), result.getIngestedRows(), result.getFailedMonths(), result.getTotalMonths());
+    }
+
+    /**
+     * 종료된 작업만 보관 기간 후 만료
+     */
+    private static class FinishedJobExpiry implements Expiry<String, AptTradeSyncJob> {
+
+        private final long retentionNanos;
+
+        private FinishedJobExpiry(Duration retention) {
+            this.retentionNanos = retention.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, AptTradeSyncJob job, long currentTime) {
+            return job.getStatus().isFinished() ? retentionNanos : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, AptTradeSyncJob job, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, job, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, AptTradeSyncJob job, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.domain.common.util.YearMonthUtils;
+import com.realestate.tracker.domain.property.entity.AptTradeSyncLedger;
+import com.realestate.tracker.repository.AptTradeSyncLedgerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Open API 동기화 이력 Service
+ * 이력이 있는 월은 적재 완료로 보고, 지연 신고/해제가 들어오는 최근 월만 일정 주기로 다시 조회한다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class AptTradeSyncLedgerService {
+
+    private final AptTradeSyncLedgerRepository ledgerRepository;
+
+    // 재조회 대상 최근 월 수 (이번 달 포함)
+    private final int recentMonths;
+
+    // 최근 월 재조회 주기
+    private final Duration recentTtl;
+
+    public AptTradeSyncLedgerService(AptTradeSyncLedgerRepository ledgerRepository,
+                                     @Value("${tracker.sync.ledger.recent-months:2}") int recentMonths,
+                                     @Value("${tracker.sync.ledger.recent-ttl:6h}") Duration recentTtl) {
+        this.ledgerRepository = ledgerRepository;
+        this.recentMonths = recentMonths;
+        this.recentTtl = recentTtl;
+    }
+
+    /**
+     * 기간 내 아직 적재되지 않았거나 재조회가 필요한 월 조회
+     * 미래 월은 제외한다.
+     *
+     * @param lawdCode 지역코드
+     * @param start 시작년월
+     * @param end 종료년월
+     * @return 조회가 필요한 월 (오름차순)
+     */
+    public List<YearMonth> findUncoveredMonths(String lawdCode, YearMonth start, YearMonth end) {
+        YearMonth now = YearMonth.now();
+        YearMonth last = end.isAfter(now) ? now : end;
+        if (start.isAfter(last)) {
+            return List.of();
+        }
+
+        Map<Integer, AptTradeSyncLedger> ledgers = ledgerRepository
+            .findByLawdCodeAndDealYmBetween(lawdCode, YearMonthUtils.toDealYm(start), YearMonthUtils.toDealYm(last))
+            .stream()
+            .collect(Collectors.toMap(AptTradeSyncLedger::getDealYm, Function.identity()));
+
+        YearMonth recentFrom = now.minusMonths(recentMonths - 1L);
+        LocalDateTime staleBefore = LocalDateTime.now().minus(recentTtl);
+
+        List<YearMonth> uncovered = new ArrayList<>();
+        for (YearMonth month = start; !month.isAfter(last); month = month.plusMonths(1)) {
+            AptTradeSyncLedger ledger = ledgers.get(YearMonthUtils.toDealYm(month));
+            if (ledger == null) {
+                uncovered.add(month);
+            } else if (!month.isBefore(recentFrom) && ledger.getFetchedAt().isBefore(staleBefore)) {
+                uncovered.add(month);
+            }
+        }
+        return uncovered;
+    }
+
+    /**
+     * 월별 조회 결과 기록
+     *
+     * @param lawdCode 지역코드
+     * @param yearMonth 조회년월
+     * @param rowCount Open API 조회 건수
+     */
+    @Transactional
+    public void record(String lawdCode, YearMonth yearMonth, int rowCount) {
+        int dealYm = YearMonthUtils.toDealYm(yearMonth);
+        LocalDateTime now = LocalDateTime.now();
+
+        ledgerRepository.findByLawdCodeAndDealYm(lawdCode, dealYm)
+            .ifPresentOrElse(
+                ledger -> ledger.refresh(now, rowCount),
+                () -> ledgerRepository.save(AptTradeSyncLedger.builder()
+                    .lawdCode(lawdCode)
+                    .dealYm(dealYm)
+                    .fetchedAt(now)
+                    .rowCount(rowCount)
+                    .build())
+            );
+    }
+}
@@ -0,0 +1,219 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.domain.common.enums.LawdGuType;
+import com.realestate.tracker.domain.property.dto.AptTradeUpsertResult;
+import com.realestate.tracker.service.external.OpenApiService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전국 증분 동기화 스케줄러
+ * 주기마다 모든 지역코드의 (지역코드, 년월) 작업을 큐에 넣고, 고정 크기 워커가 순서대로 처리한다.
+ * 최근 월은 지연 신고/해제 반영을 위해 매 주기 다시 조회하고,
+ * 그 이전 월은 동기화 이력(ledger)에 없는 경우에만 조회한다.
+ * Open API 호출 속도는 OpenApiRateLimiter가 호스트 단위로 제한한다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "tracker.sync.scheduler", name = "enabled", havingValue = "true")
+public class AptTradeSyncScheduler {
+
+    private final OpenApiFetchCoalescer openApiFetchCoalescer;
+    private final AptTradeSyncLedgerService aptTradeSyncLedgerService;
+    private final OpenApiService openApiService;
+
+    // 대상 지역코드 (미설정시 LawdGuType 전체)
+    private final List<String> lawdCodes;
+
+    // 매 주기 재조회하는 최근 월 수 (이번 달 포함)
+    private final int trailingMonths;
+
+    // 이력이 없으면 채워 넣는 과거 기간 (이번 달 포함)
+    private final int backfillMonths;
+
+    private final int workerCount;
+
+    private final BlockingQueue<SyncJob> queue = new LinkedBlockingQueue<>();
+    private final Set<SyncJob.Key> queuedKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inProgress = new AtomicInteger();
+    private final ExecutorService workers;
+
+    private final Counter enqueuedJobs;
+    private final Counter succeededJobs;
+    private final Counter failedJobs;
+    private final Counter ingestedRows;
+
+    public AptTradeSyncScheduler(OpenApiFetchCoalescer openApiFetchCoalescer,
+                                 AptTradeSyncLedgerService aptTradeSyncLedgerService,
+                                 OpenApiService openApiService,
+                                 MeterRegistry meterRegistry,
+                                 ThreadFactory aptTradeSyncWorkerThreadFactory,
+                                 @Value("${tracker.sync.scheduler.lawd-codes:}") List<String> lawdCodes,
+                                 @Value("${tracker.sync.scheduler.trailing-months:3}") int trailingMonths,
+                                 @Value("${tracker.sync.scheduler.backfill-months:12}") int backfillMonths,
+                                 @Value("${tracker.sync.scheduler.workers:2}") int workerCount) {
+        this.openApiFetchCoalescer = openApiFetchCoalescer;
+        this.aptTradeSyncLedgerService = aptTradeSyncLedgerService;
+        this.openApiService = openApiService;
+        this.lawdCodes = lawdCodes.isEmpty()
+            ? Arrays.stream(LawdGuType.values()).map(LawdGuType::getCode).toList()
+            : List.copyOf(lawdCodes);
+        this.trailingMonths = trailingMonths;
+        this.backfillMonths = Math.max(backfillMonths, trailingMonths);
+        this.workerCount = workerCount;
+        this.workers = Executors.newFixedThreadPool(workerCount, aptTradeSyncWorkerThreadFactory);
+
+        Gauge.builder("tracker.sync.scheduler.queue.depth", queue, BlockingQueue::size)
+            .description("동기화 대기 작업 수")
+            .register(meterRegistry);
+        Gauge.builder("tracker.sync.scheduler.in.progress", inProgress, AtomicInteger::get)
+            .description("처리 중인 동기화 작업 수")
+            .register(meterRegistry);
+        Gauge.builder("tracker.sync.scheduler.lag", this, AptTradeSyncScheduler::lagSeconds)
+            .description("가장 오래 대기 중인 작업의 대기 시간")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.enqueuedJobs = Counter.builder("tracker.sync.scheduler.jobs.enqueued").register(meterRegistry);
+        this.succeededJobs = Counter.builder("tracker.sync.scheduler.jobs")
+            .tag("result", "success").register(meterRegistry);
+        this.failedJobs = Counter.builder("tracker.sync.scheduler.jobs")
+            .tag("result", "failure").register(meterRegistry);
+        this.ingestedRows = Counter.builder("tracker.sync.scheduler.rows")
+            .description("신규 저장/갱신된 거래 수").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startWorkers() {
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::runWorker);
+        }
+        log.info("Apt trade sync scheduler started - {} lawd code(s), {} worker(s)", lawdCodes.size(), workerCount);
+    }
+
+    @PreDestroy
+    void stopWorkers() throws InterruptedException {
+        workers.shutdownNow();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 동기화 주기 시작: 전체 지역코드의 대상 월을 큐에 넣는다.
+     * 이전 주기 작업이 아직 큐에 남아 있으면 같은 작업은 다시 넣지 않는다.
+     * 인증키가 없으면 조회할 수 없으므로 주기를 건너뛴다.
+     */
+    @Scheduled(cron = "${tracker.sync.scheduler.cron:0 0 4 * * *}")
+    public void enqueueCycle() {
+        if (!openApiService.isConfigured()) {
+            log.warn("Open API service key is not configured - skip apt trade sync cycle");
+            return;
+        }
+
+        YearMonth now = YearMonth.now();
+        YearMonth trailingFrom = now.minusMonths(trailingMonths - 1L);
+        YearMonth backfillFrom = now.minusMonths(backfillMonths - 1L);
+        int enqueued = 0;
+
+        for (String lawdCode : lawdCodes) {
+            Set<YearMonth> months = new LinkedHashSet<>();
+            for (YearMonth month = trailingFrom; !month.isAfter(now); month = month.plusMonths(1)) {
+                months.add(month);
+            }
+            if (backfillFrom.isBefore(trailingFrom)) {
+                months.addAll(aptTradeSyncLedgerService.findUncoveredMonths(
+                    lawdCode, backfillFrom, trailingFrom.minusMonths(1)));
+            }
+
+            for (YearMonth month : months) {
+                if (enqueue(lawdCode, month)) {
+                    enqueued++;
+                }
+            }
+        }
+
+        log.info("Apt trade sync cycle enqueued {} job(s), queue depth: {}", enqueued, queue.size());
+    }
+
+    /**
+     * 작업 추가 (이미 대기 중이면 무시)
+     */
+    public boolean enqueue(String lawdCode, YearMonth yearMonth) {
+        SyncJob job = new SyncJob(new SyncJob.Key(lawdCode, yearMonth), Instant.now());
+        if (!queuedKeys.add(job.key())) {
+            return false;
+        }
+        queue.add(job);
+        enqueuedJobs.increment();
+        return true;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            SyncJob job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            queuedKeys.remove(job.key());
+            inProgress.incrementAndGet();
+            try {
+                AptTradeUpsertResult result = openApiFetchCoalescer.fetchAndSave(
+                    job.key().lawdCode(), job.key().yearMonth());
+                succeededJobs.increment();
+                ingestedRows.increment(result.getSavedCount());
+            } catch (RuntimeException e) {
+                failedJobs.increment();
+                log.error("Scheduled sync failed for {}/{}: {}",
+                        job.key().lawdCode(), job.key().yearMonth(), e.getMessage());
+            } finally {
+                inProgress.decrementAndGet();
+            }
+        }
+    }
+
+    private double lagSeconds() {
+        SyncJob head = queue.peek();
+        return head == null ? 0 : Duration.between(head.enqueuedAt(), Instant.now()).toMillis() / 1000.0;
+    }
+
+    /**
+     * 동기화 작업 (지역코드, 년월)
+     */
+    private record SyncJob(Key key, Instant enqueuedAt) {
+
+        private record Key(String lawdCode, YearMonth yearMonth) {
+        }
+    }
+}
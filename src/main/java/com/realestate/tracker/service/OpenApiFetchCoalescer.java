@@ -0,0 +1,134 @@
+package com.realestate.tracker.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.realestate.tracker.domain.property.dto.AptTradeUpsertResult;
+import com.realestate.tracker.repository.AptTradeBatchWriter;
+import com.realestate.tracker.service.external.AptTradePage;
+import com.realestate.tracker.service.external.OpenApiService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Open API 월별 조회/저장 요청 병합기 (single-flight)
+ * 같은 (지역코드, 년월)에 대한 동시 요청은 하나의 조회/저장만 실행하고 나머지는 그 결과를 기다린다.
+ * 거래가 없는 것으로 확인된 월은 일정 시간 동안 다시 조회하지 않는다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Slf4j
+@Component
+public class OpenApiFetchCoalescer {
+
+    private final OpenApiService openApiService;
+    private final AptTradeBatchWriter aptTradeBatchWriter;
+    private final AptTradeSyncLedgerService aptTradeSyncLedgerService;
+
+    // 진행 중인 조회 (월 단위)
+    private final ConcurrentMap<MonthKey, CompletableFuture<AptTradeUpsertResult>> inFlight = new ConcurrentHashMap<>();
+
+    // 거래가 없는 것으로 확인된 월
+    private final Cache<MonthKey, Boolean> knownEmpty;
+
+    public OpenApiFetchCoalescer(OpenApiService openApiService,
+                                 AptTradeBatchWriter aptTradeBatchWriter,
+                                 AptTradeSyncLedgerService aptTradeSyncLedgerService,
+                                 @Value("${tracker.sync.known-empty-ttl:1h}") Duration knownEmptyTtl,
+                                 @Value("${tracker.sync.known-empty-maximum-size:50000}") long knownEmptyMaximumSize) {
+        this.openApiService = openApiService;
+        this.aptTradeBatchWriter = aptTradeBatchWriter;
+        this.aptTradeSyncLedgerService = aptTradeSyncLedgerService;
+        this.knownEmpty = Caffeine.newBuilder()
+            .expireAfterWrite(knownEmptyTtl)
+            .maximumSize(knownEmptyMaximumSize)
+            .build();
+    }
+
+    /**
+     * 월별 거래 조회 및 저장
+     * 같은 월을 이미 조회 중인 요청이 있으면 새로 호출하지 않고 그 결과를 공유한다.
+     * 응답은 페이지 단위로 저장되며, 중간 페이지에서 실패하면 동기화 이력을 남기지 않아 다음 동기화에서 다시 조회된다.
+     * 인증키 미설정 등으로 조회하지 못한 경우에도 예외로 끝나므로, 동기화 이력과 거래 없음 캐시는 Open API 응답을 받은 월에만 남는다.
+     * 저장과 동기화 이력 기록은 이 메소드 안에서 커밋되므로, 반환 이후 조회에는 저장된 데이터가 보인다.
+     *
+     * @param lawdCode 지역코드
+     * @param yearMonth 조회년월
+     * @return 저장 결과
+     */
+    public AptTradeUpsertResult fetchAndSave(String lawdCode, YearMonth yearMonth) {
+        MonthKey key = new MonthKey(lawdCode, yearMonth);
+
+        if (knownEmpty.getIfPresent(key) != null) {
+            log.debug("Skip Open API fetch for known-empty month {}/{}", lawdCode, yearMonth);
+            return AptTradeUpsertResult.empty();
+        }
+
+        CompletableFuture<AptTradeUpsertResult> created = new CompletableFuture<>();
+        CompletableFuture<AptTradeUpsertResult> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            log.debug("Join in-flight Open API fetch for {}/{}", lawdCode, yearMonth);
+            return join(existing);
+        }
+
+        try {
+            // 페이지를 받는 대로 저장하여 한 달치 응답 전체를 메모리에 올리지 않는다
+            AptTradeUpsertResult result = AptTradeUpsertResult.empty();
+            int rowCount = 0;
+            boolean emptyResult = false;
+            for (AptTradePage page : openApiService.streamAptTradePages(lawdCode, yearMonth).toIterable(1)) {
+                if (page.isEmptyResult()) {
+                    emptyResult = true;
+                }
+                if (!page.trades().isEmpty()) {
+                    result = result.merge(aptTradeBatchWriter.upsertAll(page.trades()));
+                    rowCount += page.trades().size();
+                }
+            }
+            // Open API가 totalCount=0으로 응답한 월만 거래 없음으로 캐시한다
+            if (emptyResult) {
+                knownEmpty.put(key, Boolean.TRUE);
+            }
+            log.info("Saved {} apt trades for {}/{}", rowCount, lawdCode, yearMonth);
+            aptTradeSyncLedgerService.record(lawdCode, yearMonth, rowCount);
+            created.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 진행 중인 조회 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private AptTradeUpsertResult join(CompletableFuture<AptTradeUpsertResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 요청 병합 키 (지역코드, 년월)
+     */
+    private record MonthKey(String lawdCode, YearMonth yearMonth) {
+    }
+}
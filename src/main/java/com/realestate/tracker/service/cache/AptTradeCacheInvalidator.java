@@ -0,0 +1,54 @@
+package com.realestate.tracker.service.cache;
+
+import com.realestate.tracker.domain.property.event.AptTradeIngestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 수집 완료시 영향받는 캐시 항목만 무효화
+ * 검색 캐시는 (지역코드, 거래년월), 이력 캐시는 (아파트명, 동) 단위로 제거한다.
+ * 커밋 이후에 실행하며, 커밋 전에 DB를 읽고 무효화 이후에 저장되는 조회는 AptTradeQueryCache가 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AptTradeCacheInvalidator {
+
+    private final AptTradeQueryCache queryCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTradesIngested(AptTradeIngestedEvent event) {
+        Map<String, Set<YearMonth>> changedMonths = new HashMap<>();
+        Set<AptTradeHistoryCacheKey> changedApartments = new HashSet<>();
+
+        Stream.of(event.getInserted(), event.getCanceled(), event.getRestored())
+            .flatMap(List::stream)
+            .forEach(trade -> {
+                changedMonths.computeIfAbsent(trade.getLawdCode(), code -> new HashSet<>())
+                    .add(YearMonth.from(trade.getTransactionDate()));
+                changedApartments.add(new AptTradeHistoryCacheKey(trade.getApartmentName(), trade.getDong()));
+            });
+
+        int evictedSearches = queryCache.evictSearches(searchKey ->
+            changedMonths.entrySet().stream().anyMatch(entry ->
+                entry.getValue().stream().anyMatch(month -> searchKey.covers(entry.getKey(), month))));
+
+        int evictedHistories = queryCache.evictHistories(historyKey ->
+            changedApartments.stream().anyMatch(changed ->
+                changed.apartmentName().equals(historyKey.apartmentName())
+                    && (historyKey.dong() == null || historyKey.dong().equals(changed.dong()))));
+
+        log.debug("Evicted {} search and {} history cache entries for {} changed month(s)",
+                evictedSearches, evictedHistories, changedMonths);
+    }
+}
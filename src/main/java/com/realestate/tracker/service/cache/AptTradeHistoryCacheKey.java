@@ -0,0 +1,7 @@
+package com.realestate.tracker.service.cache;
+
+/**
+ * 아파트 거래 이력 캐시 키
+ */
+public record AptTradeHistoryCacheKey(String apartmentName, String dong) {
+}
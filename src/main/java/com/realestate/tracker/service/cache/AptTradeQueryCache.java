@@ -0,0 +1,105 @@
+package com.realestate.tracker.service.cache;
+
+import com.realestate.tracker.config.CacheConfig;
+import com.realestate.tracker.domain.property.dto.AptTradeSummary;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 검색/이력 조회 결과 캐시
+ * 무효화할 때마다 세대(generation)를 올리고, 조회 시작 이후 세대가 바뀌었으면 방금 저장한 항목을 버린다.
+ * 동기화 커밋 전에 DB를 읽은 조회가 무효화 이후에 캐시를 채워 오래된 결과가 TTL 동안 남는 것을 막는다.
+ * (세대는 캐시 전체에 하나이므로, 무관한 지역이 수집되는 동안의 조회도 저장되지 않을 수 있다)
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Component
+public class AptTradeQueryCache {
+
+    private final Cache searches;
+    private final Cache histories;
+
+    // 무효화 세대 (무효화 시작 전에 증가)
+    private final AtomicLong generation = new AtomicLong();
+
+    public AptTradeQueryCache(CacheManager cacheManager) {
+        this.searches = cacheManager.getCache(CacheConfig.APT_TRADES);
+        this.histories = cacheManager.getCache(CacheConfig.APT_TRADE_HISTORY);
+    }
+
+    /**
+     * 검색 결과 조회 (없으면 loader로 조회하여 저장)
+     */
+    public Page<AptTradeSummary> getSearch(AptTradeSearchCacheKey key, Supplier<Page<AptTradeSummary>> loader) {
+        return get(searches, key, loader);
+    }
+
+    /**
+     * 거래 이력 조회 (없으면 loader로 조회하여 저장)
+     */
+    public List<AptTradeSummary> getHistory(AptTradeHistoryCacheKey key, Supplier<List<AptTradeSummary>> loader) {
+        return get(histories, key, loader);
+    }
+
+    /**
+     * 조건에 맞는 검색 캐시 항목 제거
+     *
+     * @return 제거한 항목 수
+     */
+    public int evictSearches(Predicate<AptTradeSearchCacheKey> affected) {
+        return evict(searches, AptTradeSearchCacheKey.class, affected);
+    }
+
+    /**
+     * 조건에 맞는 이력 캐시 항목 제거
+     *
+     * @return 제거한 항목 수
+     */
+    public int evictHistories(Predicate<AptTradeHistoryCacheKey> affected) {
+        return evict(histories, AptTradeHistoryCacheKey.class, affected);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Cache cache, Object key, Supplier<T> loader) {
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        long readGeneration = generation.get();
+        T value = loader.get();
+        cache.put(key, value);
+        // 조회 중에 무효화가 실행되었으면 커밋 전 데이터일 수 있으므로 방금 저장한 항목을 버린다
+        if (generation.get() != readGeneration) {
+            cache.evict(key);
+        }
+        return value;
+    }
+
+    private <K> int evict(Cache cache, Class<K> keyType, Predicate<K> affected) {
+        generation.incrementAndGet();
+        if (!(cache instanceof CaffeineCache caffeineCache)) {
+            cache.clear();
+            return 0;
+        }
+
+        Set<Object> keys = new HashSet<>();
+        caffeineCache.getNativeCache().asMap().keySet().forEach(key -> {
+            if (keyType.isInstance(key) && affected.test(keyType.cast(key))) {
+                keys.add(key);
+            }
+        });
+        caffeineCache.getNativeCache().invalidateAll(keys);
+        return keys.size();
+    }
+}
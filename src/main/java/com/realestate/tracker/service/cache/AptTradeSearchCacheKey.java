@@ -0,0 +1,76 @@
+package com.realestate.tracker.service.cache;
+
+import com.realestate.tracker.domain.property.dto.AptTradeSearchCondition;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 아파트 매매 실거래 검색 캐시 키
+ * 같은 의미의 검색 조건(빈 문자열, 년월/일자 표현, 금액 scale 차이 등)이 같은 키가 되도록 정규화한다.
+ */
+public record AptTradeSearchCacheKey(
+    String lawdCode,
+    String city,
+    String district,
+    String dong,
+    String apartmentName,
+    LocalDate startDate,
+    LocalDate endDate,
+    BigDecimal minPrice,
+    BigDecimal maxPrice,
+    Double minExclusiveArea,
+    Double maxExclusiveArea,
+    Integer minBuildingYear,
+    Integer maxBuildingYear,
+    int page,
+    int size,
+    String sortBy,
+    String sortDirection
+) {
+
+    public static AptTradeSearchCacheKey of(AptTradeSearchCondition condition) {
+        return new AptTradeSearchCacheKey(
+            normalize(condition.getLawdCode()),
+            normalize(condition.getCity()),
+            normalize(condition.getDistrict()),
+            normalize(condition.getDong()),
+            normalize(condition.getApartmentName()),
+            condition.resolveStartDate(),
+            condition.resolveEndDate(),
+            normalize(condition.getStartTransactionAmount()),
+            normalize(condition.getEndTransactionAmount()),
+            condition.getMinExclusiveArea(),
+            condition.getMaxExclusiveArea(),
+            condition.getMinBuildingYear(),
+            condition.getMaxBuildingYear(),
+            condition.getPage() != null ? condition.getPage() : 0,
+            condition.resolvePageSize(),
+            StringUtils.hasText(condition.getSortBy()) ? condition.getSortBy() : "transactionDate",
+            "ASC".equalsIgnoreCase(condition.getSortDirection()) ? "ASC" : "DESC"
+        );
+    }
+
+    /**
+     * 지역코드/년월에 해당하는 데이터가 바뀌었을 때 이 캐시 항목이 영향을 받는지 여부
+     */
+    public boolean covers(String changedLawdCode, YearMonth changedMonth) {
+        if (lawdCode != null && !lawdCode.equals(changedLawdCode)) {
+            return false;
+        }
+        if (startDate != null && changedMonth.atEndOfMonth().isBefore(startDate)) {
+            return false;
+        }
+        return endDate == null || !changedMonth.atDay(1).isAfter(endDate);
+    }
+
+    private static String normalize(String value) {
+        return StringUtils.hasText(value) ? value : null;
+    }
+
+    private static BigDecimal normalize(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros() : null;
+    }
+}
@@ -0,0 +1,423 @@
+package com.realestate.tracker.service.external;
+
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Open API item 필드값을 AptTrade 객체로 변환
+ * DOM 파서와 스트리밍 파서가 같은 매핑 규칙을 사용한다.
+ *
+ * item 1건의 필드값을 하나의 문자 버퍼에 이어 붙이고 필드별 시작/끝 위치만 기록한 뒤,
+ * 숫자와 날짜는 문자 범위에서 바로 계산하고 아파트명/법정동/지번은 BoundedStringPool로 중복을 제거한다.
+ * 필수값 누락/형식 오류 item은 예외 없이 null을 반환하고 사유별로 집계한다.
+ *
+ * item마다 버퍼를 재사용하므로 스레드 간에 공유하지 않는다 (응답 1건당 1개).
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Slf4j
+final class AptTradeFieldDecoder {
+
+    /**
+     * 수집하는 item 필드 (태그명)
+     */
+    enum Field {
+        AMOUNT("거래금액"),
+        YEAR("년"),
+        MONTH("월"),
+        DAY("일"),
+        BUILDING_YEAR("건축년도"),
+        AREA("전용면적"),
+        FLOOR("층"),
+        APARTMENT_NAME("아파트"),
+        DONG("법정동"),
+        JIBUN("지번"),
+        CANCELED("해제여부"),
+        CANCELED_DATE("해제사유발생일");
+
+        private static final Map<String, Field> BY_TAG = new HashMap<>();
+
+        static {
+            for (Field field : values()) {
+                BY_TAG.put(field.tag, field);
+            }
+        }
+
+        private final String tag;
+
+        Field(String tag) {
+            this.tag = tag;
+        }
+
+        String tag() {
+            return tag;
+        }
+
+        /**
+         * 태그명으로 필드 조회 (수집 대상이 아니면 null)
+         */
+        static Field ofTag(String tag) {
+            return BY_TAG.get(tag);
+        }
+    }
+
+    /**
+     * item을 건너뛴 사유
+     */
+    enum Rejection {
+        AMOUNT(Field.AMOUNT),
+        DATE(Field.YEAR, Field.MONTH, Field.DAY),
+        BUILDING_YEAR(Field.BUILDING_YEAR),
+        AREA(Field.AREA),
+        FLOOR(Field.FLOOR);
+
+        private final Field[] fields;
+
+        Rejection(Field... fields) {
+            this.fields = fields;
+        }
+
+        String tagValue() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final int FIELD_COUNT = Field.values().length;
+    private static final long INVALID = Long.MIN_VALUE;
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15};
+    // 이 자릿수 이하 정수부+소수부는 long/double로 정확히 표현되어 한 번의 나눗셈이 Double.parseDouble과 같은 값을 만든다
+    private static final int MAX_EXACT_DECIMAL_DIGITS = 15;
+
+    private final BoundedStringPool stringPool;
+
+    private char[] buffer = new char[512];
+    private int length;
+    private final int[] starts = new int[FIELD_COUNT];
+    private final int[] ends = new int[FIELD_COUNT];
+    private Field currentField;
+
+    private final int[] rejections = new int[Rejection.values().length];
+    private int rejectedCount;
+
+    AptTradeFieldDecoder(BoundedStringPool stringPool) {
+        this.stringPool = stringPool;
+        startItem();
+    }
+
+    /**
+     * 새 item 시작 (이전 item의 필드값을 비운다)
+     */
+    void startItem() {
+        length = 0;
+        currentField = null;
+        Arrays.fill(starts, -1);
+    }
+
+    void startField(Field field) {
+        currentField = field;
+        starts[field.ordinal()] = length;
+        ends[field.ordinal()] = length;
+    }
+
+    void append(char[] chars, int offset, int count) {
+        ensureCapacity(count);
+        System.arraycopy(chars, offset, buffer, length, count);
+        length += count;
+    }
+
+    void append(String value) {
+        ensureCapacity(value.length());
+        value.getChars(0, value.length(), buffer, length);
+        length += value.length();
+    }
+
+    void endField() {
+        if (currentField != null) {
+            ends[currentField.ordinal()] = length;
+            currentField = null;
+        }
+    }
+
+    /**
+     * 현재 item을 AptTrade로 변환
+     *
+     * @param lawdCode 지역코드
+     * @return 거래 정보, 필수값 누락/형식 오류시 null (사유는 rejections()에 집계)
+     */
+    AptTrade decode(String lawdCode) {
+        // 거래금액 (쉼표 포함, 만원 단위)
+        long amount = parseAmount(Field.AMOUNT);
+        if (amount == INVALID) {
+            return reject(Rejection.AMOUNT);
+        }
+
+        // 거래일자
+        long year = parseInt(Field.YEAR, INVALID);
+        long month = parseInt(Field.MONTH, INVALID);
+        long day = parseInt(Field.DAY, INVALID);
+        if (!isValidDate(year, month, day)) {
+            return reject(Rejection.DATE);
+        }
+
+        long buildingYear = parseInt(Field.BUILDING_YEAR, 0);
+        if (buildingYear == INVALID) {
+            return reject(Rejection.BUILDING_YEAR);
+        }
+
+        double area = parseDecimal(Field.AREA);
+        if (Double.isNaN(area)) {
+            return reject(Rejection.AREA);
+        }
+
+        long floor = parseInt(Field.FLOOR, 0);
+        if (floor == INVALID) {
+            return reject(Rejection.FLOOR);
+        }
+
+        String dong = string(Field.DONG);
+
+        // 해제여부 (해제사유발생시 값이 있음)
+        boolean isCanceled = !isBlank(Field.CANCELED);
+        LocalDate canceledDate = isCanceled ? parseCanceledDate() : null;
+
+        return AptTrade.builder()
+                .lawdCode(lawdCode)
+                .apartmentName(string(Field.APARTMENT_NAME))
+                .transactionAmount(BigDecimal.valueOf(amount))
+                .buildingYear((int) buildingYear)
+                .transactionDate(LocalDate.of((int) year, (int) month, (int) day))
+                .exclusiveArea(area)
+                .floor((int) floor)
+                .dong(dong)
+                .localNumber(string(Field.JIBUN))
+                .legalDong(dong)
+                .isCanceled(isCanceled)
+                .canceledDate(canceledDate)
+                .build();
+    }
+
+    /**
+     * 지금까지 건너뛴 item 수 (사유별)
+     */
+    Map<Rejection, Integer> rejections() {
+        if (rejectedCount == 0) {
+            return Collections.emptyMap();
+        }
+        Map<Rejection, Integer> counts = new EnumMap<>(Rejection.class);
+        for (Rejection rejection : Rejection.values()) {
+            if (rejections[rejection.ordinal()] > 0) {
+                counts.put(rejection, rejections[rejection.ordinal()]);
+            }
+        }
+        return counts;
+    }
+
+    int rejectedCount() {
+        return rejectedCount;
+    }
+
+    private AptTrade reject(Rejection rejection) {
+        rejections[rejection.ordinal()]++;
+        rejectedCount++;
+        if (log.isDebugEnabled()) {
+            log.debug("Skipped apt trade item - invalid {}: {}", rejection.tagValue(), describe(rejection));
+        }
+        return null;
+    }
+
+    private String describe(Rejection rejection) {
+        StringBuilder description = new StringBuilder();
+        for (Field field : rejection.fields) {
+            int start = starts[field.ordinal()];
+            description.append(field.tag()).append('=')
+                .append(start < 0 ? "" : new String(buffer, start, ends[field.ordinal()] - start)).append(' ');
+        }
+        return description.toString().trim();
+    }
+
+    /**
+     * 거래금액 파싱 (공백/쉼표 무시, 숫자가 없거나 다른 문자가 있으면 INVALID)
+     */
+    private long parseAmount(Field field) {
+        int start = starts[field.ordinal()];
+        if (start < 0) {
+            return INVALID;
+        }
+
+        long value = 0;
+        int digits = 0;
+        for (int i = start, end = ends[field.ordinal()]; i < end; i++) {
+            char c = buffer[i];
+            if (c >= '0' && c <= '9') {
+                if (++digits > 18) {
+                    return INVALID;
+                }
+                value = value * 10 + (c - '0');
+            } else if (c != ',' && c > ' ') {
+                return INVALID;
+            }
+        }
+        return digits == 0 ? INVALID : value;
+    }
+
+    /**
+     * 정수 파싱 (앞뒤 공백 무시, 부호 허용 - 지하층은 음수)
+     *
+     * @param emptyValue 값이 없을 때 반환값
+     */
+    private long parseInt(Field field, long emptyValue) {
+        int start = trimStart(field);
+        int end = trimEnd(field, start);
+        if (start >= end) {
+            return emptyValue;
+        }
+
+        boolean negative = buffer[start] == '-';
+        if (negative || buffer[start] == '+') {
+            start++;
+        }
+        if (start == end || end - start > 9) {
+            return INVALID;
+        }
+
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = buffer[i];
+            if (c < '0' || c > '9') {
+                return INVALID;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 소수 파싱 (값이 없으면 0, 형식 오류시 NaN)
+     */
+    private double parseDecimal(Field field) {
+        int start = trimStart(field);
+        int end = trimEnd(field, start);
+        if (start >= end) {
+            return 0.0;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        for (int i = start; i < end; i++) {
+            char c = buffer[i];
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return Double.NaN;
+            }
+        }
+        if (digits == 0) {
+            return Double.NaN;
+        }
+        if (digits > MAX_EXACT_DECIMAL_DIGITS) {
+            // 숫자와 소수점만 있음을 확인했으므로 예외 없이 파싱된다
+            return Double.parseDouble(new String(buffer, start, end - start));
+        }
+        return scale <= 0 ? mantissa : mantissa / POWERS_OF_TEN[scale];
+    }
+
+    /**
+     * 해제사유발생일 파싱 (yy.MM.dd, 형식 오류시 null)
+     */
+    private LocalDate parseCanceledDate() {
+        int start = trimStart(Field.CANCELED_DATE);
+        int end = trimEnd(Field.CANCELED_DATE, start);
+        if (start >= end) {
+            return null;
+        }
+
+        if (end - start == 8 && buffer[start + 2] == '.' && buffer[start + 5] == '.') {
+            int year = twoDigits(start);
+            int month = twoDigits(start + 3);
+            int day = twoDigits(start + 6);
+            if (year >= 0 && isValidDate(2000 + year, month, day)) {
+                return LocalDate.of(2000 + year, month, day);
+            }
+        }
+        log.warn("Invalid 해제사유발생일 format: {}", new String(buffer, start, end - start));
+        return null;
+    }
+
+    private int twoDigits(int index) {
+        char tens = buffer[index];
+        char ones = buffer[index + 1];
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    private static boolean isValidDate(long year, long month, long day) {
+        if (year < 1 || year > 9999 || month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        return day <= Month.of((int) month).length(Year.isLeap(year));
+    }
+
+    /**
+     * 앞뒤 공백을 제외한 문자열 (중복 제거 풀 사용)
+     */
+    private String string(Field field) {
+        int start = trimStart(field);
+        int end = trimEnd(field, start);
+        return start >= end ? "" : stringPool.intern(buffer, start, end);
+    }
+
+    private boolean isBlank(Field field) {
+        int start = trimStart(field);
+        return start >= trimEnd(field, start);
+    }
+
+    // 값이 없는 필드는 start == end가 되도록 0을 반환한다
+    private int trimStart(Field field) {
+        int start = starts[field.ordinal()];
+        if (start < 0) {
+            return 0;
+        }
+        int end = ends[field.ordinal()];
+        while (start < end && buffer[start] <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(Field field, int trimmedStart) {
+        if (starts[field.ordinal()] < 0) {
+            return 0;
+        }
+        int end = ends[field.ordinal()];
+        while (end > trimmedStart && buffer[end - 1] <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (length + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+        }
+    }
+}
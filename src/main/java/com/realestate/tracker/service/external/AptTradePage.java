@@ -0,0 +1,33 @@
+package com.realestate.tracker.service.external;
+
+import com.realestate.tracker.domain.property.entity.AptTrade;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Open API 응답 1페이지
+ *
+ * @param trades 페이지의 거래 목록
+ * @param totalCount 전체 건수 (응답에 없으면 null)
+ * @param rejections 필수값 누락/형식 오류로 건너뛴 item 수 (사유별)
+ * @param parseNanos 파싱에 쓴 시간 (응답 수신 대기 제외)
+ */
+public record AptTradePage(List<AptTrade> trades, Integer totalCount,
+                           Map<AptTradeFieldDecoder.Rejection, Integer> rejections, long parseNanos) {
+
+    /**
+     * 건너뛴 item 수
+     */
+    public int skippedCount() {
+        return rejections.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Open API가 거래 없음으로 응답했는지 여부 (totalCount=0)
+     * totalCount가 없는 응답은 item이 하나도 없을 때만 거래 없음으로 본다.
+     */
+    public boolean isEmptyResult() {
+        return totalCount != null ? totalCount == 0 : trades.isEmpty() && skippedCount() == 0;
+    }
+}
@@ -0,0 +1,257 @@
+package com.realestate.tracker.service.external;
+
+import com.fasterxml.aalto.AsyncByteBufferFeeder;
+import com.fasterxml.aalto.AsyncXMLInputFactory;
+import com.fasterxml.aalto.AsyncXMLStreamReader;
+import com.fasterxml.aalto.stax.InputFactoryImpl;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.xml.StaxUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Open API XML 응답 스트리밍 파서
+ * 응답 전체를 DOM으로 만들지 않고, 수신한 DataBuffer를 비동기 StAX 리더에 바로 넣어
+ * item 단위로 AptTrade 객체를 방출한다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Slf4j
+@Component
+public class AptTradeXmlStreamParser {
+
+    // item 밖에서 값을 수집하는 태그 (header, body)
+    private static final Set<String> HEADER_FIELDS = Set.of("resultCode", "resultMsg", "totalCount");
+
+    // 아파트명/법정동/지번 중복 제거 풀 크기 (응답 간 공유, 지역코드 1개의 단지 수보다 충분히 크게)
+    private static final int STRING_POOL_CAPACITY = 4096;
+
+    private final AsyncXMLInputFactory inputFactory = StaxUtils.createDefensiveInputFactory(InputFactoryImpl::new);
+    private final BoundedStringPool stringPool = new BoundedStringPool(STRING_POOL_CAPACITY);
+
+    /**
+     * 응답 본문을 페이지 단위로 파싱 (item 목록 + totalCount + 파싱 통계)
+     * totalCount는 응답 끝부분에 오므로 페이지를 모두 읽은 뒤 방출한다.
+     *
+     * @param body WebClient 응답 본문
+     * @param lawdCode 지역코드
+     * @return 페이지 (에러 결과코드 응답시 OpenApiException 시그널)
+     */
+    public Mono<AptTradePage> parsePage(Flux<DataBuffer> body, String lawdCode) {
+        return Mono.defer(() -> {
+            Session session = new Session(lawdCode);
+            return parse(body, session)
+                .collectList()
+                .map(trades -> new AptTradePage(trades, session.totalCount, session.decoder.rejections(), session.parseNanos));
+        }).doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    private Flux<AptTrade> parse(Flux<DataBuffer> body, Session session) {
+        return body
+            .concatMapIterable(session::feed)
+            .concatWith(Flux.defer(() -> Flux.fromIterable(session.complete())))
+            .doFinally(signal -> session.close());
+    }
+
+    /**
+     * 메모리에 적재된 응답을 파싱 (벤치마크 및 동기 호출용)
+     *
+     * @param xmlResponse 응답 본문
+     * @param lawdCode 지역코드
+     * @return 거래 목록
+     */
+    public List<AptTrade> parse(byte[] xmlResponse, String lawdCode) {
+        Session session = new Session(lawdCode);
+        try {
+            List<AptTrade> trades = session.feed(ByteBuffer.wrap(xmlResponse));
+            trades.addAll(session.complete());
+            return trades;
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * 응답 1건에 대한 파싱 상태
+     */
+    private class Session {
+
+        private final AsyncXMLStreamReader<AsyncByteBufferFeeder> reader = inputFactory.createAsyncForByteBuffer();
+        private final String lawdCode;
+
+        // 현재 item의 필드값 (item마다 재사용)
+        private final AptTradeFieldDecoder decoder = new AptTradeFieldDecoder(stringPool);
+        // header/body 필드값
+        private final StringBuilder text = new StringBuilder();
+
+        private boolean inItem;
+        private AptTradeFieldDecoder.Field capturingItemField;
+        private String capturingField;
+        private String resultCode;
+        private String resultMsg;
+        private Integer totalCount;
+        private int itemCount;
+
+        // 파서에서 보낸 시간 (버퍼 수신 대기 시간 제외)
+        private long parseNanos;
+
+        private Session(String lawdCode) {
+            this.lawdCode = lawdCode;
+        }
+
+        private List<AptTrade> feed(DataBuffer buffer) {
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                List<AptTrade> trades = new ArrayList<>();
+                while (iterator.hasNext()) {
+                    trades.addAll(feed(iterator.next()));
+                }
+                return trades;
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        private List<AptTrade> feed(ByteBuffer buffer) {
+            List<AptTrade> trades = new ArrayList<>();
+            long startedAt = System.nanoTime();
+            try {
+                reader.getInputFeeder().feedInput(buffer);
+                drain(trades);
+            } catch (XMLStreamException e) {
+                throw new OpenApiException("Failed to parse XML response", e);
+            } finally {
+                parseNanos += System.nanoTime() - startedAt;
+            }
+            return trades;
+        }
+
+        private List<AptTrade> complete() {
+            List<AptTrade> trades = new ArrayList<>();
+            long startedAt = System.nanoTime();
+            try {
+                reader.getInputFeeder().endOfInput();
+                drain(trades);
+            } catch (XMLStreamException e) {
+                throw new OpenApiException("Failed to parse XML response", e);
+            } finally {
+                parseNanos += System.nanoTime() - startedAt;
+            }
+            checkResult();
+            log.debug("Parsed {} items from XML stream ({} skipped)", itemCount, decoder.rejectedCount());
+            return trades;
+        }
+
+        private void close() {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                log.debug("Failed to close XML stream reader: {}", e.getMessage());
+            }
+        }
+
+        /**
+         * 현재까지 입력된 바이트로 만들 수 있는 이벤트를 모두 처리
+         */
+        private void drain(List<AptTrade> trades) throws XMLStreamException {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == AsyncXMLStreamReader.EVENT_INCOMPLETE) {
+                    return;
+                }
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    startElement(reader.getLocalName());
+                } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                    // 리더의 문자 버퍼에서 바로 복사 (String을 만들지 않는다)
+                    if (capturingItemField != null) {
+                        decoder.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    } else if (capturingField != null) {
+                        text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    AptTrade trade = endElement(reader.getLocalName());
+                    if (trade != null) {
+                        trades.add(trade);
+                    }
+                }
+            }
+        }
+
+        private void startElement(String name) {
+            if ("item".equals(name)) {
+                inItem = true;
+                decoder.startItem();
+            } else if (inItem) {
+                capturingItemField = AptTradeFieldDecoder.Field.ofTag(name);
+                if (capturingItemField != null) {
+                    decoder.startField(capturingItemField);
+                }
+            } else if (HEADER_FIELDS.contains(name)) {
+                capturingField = name;
+                text.setLength(0);
+            }
+        }
+
+        private AptTrade endElement(String name) {
+            if (capturingItemField != null && name.equals(capturingItemField.tag())) {
+                decoder.endField();
+                capturingItemField = null;
+                return null;
+            }
+
+            if (name.equals(capturingField)) {
+                String value = text.toString();
+                capturingField = null;
+
+                if ("resultCode".equals(name)) {
+                    resultCode = value.trim();
+                } else if ("resultMsg".equals(name)) {
+                    resultMsg = value.trim();
+                } else {
+                    totalCount = parseTotalCount(value.trim());
+                }
+                return null;
+            }
+
+            if ("header".equals(name)) {
+                checkResult();
+            } else if ("item".equals(name)) {
+                inItem = false;
+                itemCount++;
+                return decoder.decode(lawdCode);
+            }
+            return null;
+        }
+
+        private Integer parseTotalCount(String value) {
+            try {
+                return Integer.valueOf(value);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid totalCount in XML response: {}", value);
+                return null;
+            }
+        }
+
+        /**
+         * 에러 결과코드 확인
+         */
+        private void checkResult() {
+            if (resultCode != null && !"00".equals(resultCode)) {
+                String msg = resultMsg != null ? resultMsg : "Unknown error";
+                log.error("Open API error - code: {}, message: {}", resultCode, msg);
+                throw new OpenApiException(resultCode, msg);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.realestate.tracker.service.external;
+
+/**
+ * 크기가 고정된 문자열 중복 제거 풀
+ * 아파트명/법정동처럼 같은 값이 반복되는 필드를 문자 범위에서 바로 조회해, 이미 만든 String이 있으면 새로 만들지 않는다.
+ *
+ * 해시 위치마다 1개만 저장하고 충돌하면 덮어쓰므로 메모리는 capacity개를 넘지 않는다 (String.intern과 달리 영구 보관하지 않음).
+ * 여러 스레드가 잠금 없이 함께 사용한다. 슬롯 경합으로 같은 값이 두 번 만들어질 수는 있지만,
+ * String은 불변이므로 어느 쪽을 읽어도 올바른 값이다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+final class BoundedStringPool {
+
+    private final String[] slots;
+    private final int mask;
+
+    /**
+     * @param capacity 최대 보관 문자열 수 (2의 거듭제곱으로 올림)
+     */
+    BoundedStringPool(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new String[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * chars[from, to) 범위와 같은 문자열 반환
+     */
+    String intern(char[] chars, int from, int to) {
+        int length = to - from;
+        if (length == 0) {
+            return "";
+        }
+
+        // String.hashCode와 같은 해시 (캐시된 String 해시와 먼저 비교)
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int index = (hash ^ (hash >>> 16)) & mask;
+
+        String cached = slots[index];
+        if (cached != null && cached.hashCode() == hash && matches(cached, chars, from, length)) {
+            return cached;
+        }
+
+        String value = new String(chars, from, length);
+        slots[index] = value;
+        return value;
+    }
+
+    private static boolean matches(String value, char[] chars, int from, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != chars[from + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
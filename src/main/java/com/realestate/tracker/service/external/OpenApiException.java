@@ -0,0 +1,25 @@
+package com.realestate.tracker.service.external;
+
+import lombok.Getter;
+
+/**
+ * Open API 호출/응답 처리 중 발생한 예외
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Getter
+public class OpenApiException extends RuntimeException {
+
+    // Open API 결과코드 (응답 파싱 이전 단계의 오류는 null)
+    private final String resultCode;
+
+    public OpenApiException(String resultCode, String message) {
+        super(message);
+        this.resultCode = resultCode;
+    }
+
+    public OpenApiException(String message, Throwable cause) {
+        super(message, cause);
+        this.resultCode = null;
+    }
+}
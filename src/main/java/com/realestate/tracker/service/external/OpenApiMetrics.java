@@ -0,0 +1,93 @@
+package com.realestate.tracker.service.external;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Open API 호출 지표
+ * 페이지 1건 조회 시간을 HTTP 대기 시간과 파싱 시간으로 나누어 기록한다.
+ * 스트리밍 파싱은 수신과 겹쳐 실행되므로 HTTP 시간 = 전체 시간 - 파서에서 보낸 시간으로 계산한다.
+ *
+ * <ul>
+ *   <li>openapi.fetch (result=success|error): 페이지 조회 1회 시도 전체 시간</li>
+ *   <li>openapi.fetch.http / openapi.fetch.parse: 성공한 시도의 HTTP 대기 / 파싱 시간</li>
+ *   <li>openapi.fetch.retries: 재시도 횟수</li>
+ *   <li>openapi.parse.items (result=parsed|skipped): 변환된 item / 필수값 누락·형식 오류로 건너뛴 item 수</li>
+ *   <li>openapi.parse.rejected (field=amount|date|building_year|area|floor): 건너뛴 item의 사유별 수</li>
+ * </ul>
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Component
+public class OpenApiMetrics {
+
+    private final Timer fetchSuccess;
+    private final Timer fetchError;
+    private final Timer httpTime;
+    private final Timer parseTime;
+    private final Counter retries;
+    private final Counter parsedItems;
+    private final Counter skippedItems;
+    private final Map<AptTradeFieldDecoder.Rejection, Counter> rejectedItems = new EnumMap<>(AptTradeFieldDecoder.Rejection.class);
+
+    public OpenApiMetrics(MeterRegistry meterRegistry) {
+        this.fetchSuccess = Timer.builder("openapi.fetch")
+            .description("Open API 페이지 조회 시간 (시도 1회)")
+            .tag("result", "success")
+            .register(meterRegistry);
+        this.fetchError = Timer.builder("openapi.fetch")
+            .description("Open API 페이지 조회 시간 (시도 1회)")
+            .tag("result", "error")
+            .register(meterRegistry);
+        this.httpTime = Timer.builder("openapi.fetch.http")
+            .description("Open API 응답 수신 대기 시간")
+            .register(meterRegistry);
+        this.parseTime = Timer.builder("openapi.fetch.parse")
+            .description("Open API 응답 XML 파싱 시간")
+            .register(meterRegistry);
+        this.retries = Counter.builder("openapi.fetch.retries")
+            .description("Open API 재시도 횟수")
+            .register(meterRegistry);
+        this.parsedItems = Counter.builder("openapi.parse.items")
+            .tag("result", "parsed")
+            .register(meterRegistry);
+        this.skippedItems = Counter.builder("openapi.parse.items")
+            .tag("result", "skipped")
+            .register(meterRegistry);
+        for (AptTradeFieldDecoder.Rejection rejection : AptTradeFieldDecoder.Rejection.values()) {
+            rejectedItems.put(rejection, Counter.builder("openapi.parse.rejected")
+                .description("형식 오류로 건너뛴 item 수")
+                .tag("field", rejection.tagValue())
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 성공한 페이지 조회 기록
+     *
+     * @param elapsedNanos 요청 시작부터 파싱 완료까지 시간
+     * @param page 파싱 결과
+     */
+    void recordSuccess(long elapsedNanos, AptTradePage page) {
+        fetchSuccess.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        parseTime.record(page.parseNanos(), TimeUnit.NANOSECONDS);
+        httpTime.record(Math.max(0, elapsedNanos - page.parseNanos()), TimeUnit.NANOSECONDS);
+        parsedItems.increment(page.trades().size());
+        skippedItems.increment(page.skippedCount());
+        page.rejections().forEach((rejection, count) -> rejectedItems.get(rejection).increment(count));
+    }
+
+    void recordError(long elapsedNanos) {
+        fetchError.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+}
@@ -0,0 +1,61 @@
+package com.realestate.tracker.service.external;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Open API 호스트 단위 호출 속도 제한기
+ * 초당 허용 요청 수에 맞춰 요청 시작 시점을 일정 간격으로 분산시킨다.
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Slf4j
+@Component
+public class OpenApiRateLimiter {
+
+    // 요청 간 최소 간격
+    private final long intervalNanos;
+
+    // 다음 요청이 허용되는 시각 (System.nanoTime 기준)
+    private long nextPermitNanos = System.nanoTime();
+
+    public OpenApiRateLimiter(@Value("${openapi.rate-limit.requests-per-second:10}") double requestsPerSecond) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("openapi.rate-limit.requests-per-second must be positive");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / requestsPerSecond);
+    }
+
+    /**
+     * 다음 요청 슬롯을 예약하고 대기해야 하는 시간을 반환한다.
+     *
+     * @return 요청 전 대기 시간
+     */
+    public synchronized Duration reserve() {
+        long now = System.nanoTime();
+        long permitAt = Math.max(now, nextPermitNanos);
+        nextPermitNanos = permitAt + intervalNanos;
+        return Duration.ofNanos(permitAt - now);
+    }
+
+    /**
+     * 구독 시점에 슬롯을 예약하고, 허용 시각이 되면 요청을 시작한다.
+     *
+     * @param request 지연 실행되는 요청
+     * @return 속도 제한이 적용된 요청
+     */
+    public <T> Mono<T> throttle(Mono<T> request) {
+        return Mono.defer(() -> {
+            Duration wait = reserve();
+            if (wait.isZero()) {
+                return request;
+            }
+            log.debug("Open API rate limit - delaying request by {} ms", wait.toMillis());
+            return Mono.delay(wait).then(request);
+        });
+    }
+}
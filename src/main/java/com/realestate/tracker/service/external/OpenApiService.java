@@ -1,22 +1,29 @@
 package com.realestate.tracker.service.external;
 
 import com.realestate.tracker.domain.property.entity.AptTrade;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.ByteArrayInputStream;
-import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDate;
+import java.time.Duration;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -33,67 +40,183 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OpenApiService {
     
+    // DOM 파싱시 아파트명/법정동/지번 중복 제거 풀 크기 (응답 1건 단위)
+    private static final int DOM_STRING_POOL_CAPACITY = 1024;
+    
     @Value("${openapi.key:}")
     private String serviceKey;
     
     @Value("${openapi.apt-trade.url}")
     private String aptTradeApiUrl;
     
-    private final WebClient webClient = WebClient.builder().build();
+    @Value("${openapi.apt-trade.page-size:1000}")
+    private int pageSize;
+    
+    @Value("${openapi.apt-trade.page-concurrency:2}")
+    private int pageConcurrency;
+    
+    @Value("${openapi.retry.max-retries:3}")
+    private int maxRetries;
+    
+    @Value("${openapi.retry.min-backoff:500ms}")
+    private Duration minBackoff;
+    
+    @Value("${openapi.retry.max-backoff:5s}")
+    private Duration maxBackoff;
+    
+    private final OpenApiRateLimiter rateLimiter;
+    
+    private final AptTradeXmlStreamParser aptTradeXmlStreamParser;
+    
+    private final WebClient openApiWebClient;
+    
+    private final CircuitBreaker openApiCircuitBreaker;
+    
+    private final OpenApiTransientErrors openApiTransientErrors;
+    
+    private final OpenApiMetrics openApiMetrics;
     
     /**
-     * Open API에서 아파트 매매 실거래 데이터 조회
+     * Open API 호출 가능 여부
+     * 서킷 브레이커가 열려 있으면 호출은 즉시 실패하므로, 호출하지 않고 DB 데이터만 사용한다.
+     */
+    public boolean isAvailable() {
+        CircuitBreaker.State state = openApiCircuitBreaker.getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+    
+    /**
+     * 인증키 설정 여부
+     * 인증키가 없으면 조회할 수 없으므로, 호출하는 쪽은 조회 없이 실패로 처리한다 (동기화 이력을 남기지 않음).
+     */
+    public boolean isConfigured() {
+        return StringUtils.hasText(serviceKey);
+    }
+    
+    /**
+     * Open API에서 아파트 매매 실거래 데이터 비동기 조회
+     * 호출/파싱 실패는 삼키지 않고 에러 시그널로 전달한다.
      *
      * @param lawdCode 지역코드 (5자리 법정동코드)
      * @param yearMonth 조회년월
      * @return 아파트 거래 목록
      */
-    public List<AptTrade> fetchAptTrades(String lawdCode, YearMonth yearMonth) {
-        List<AptTrade> trades = new ArrayList<>();
-        
-        if (serviceKey == null || serviceKey.isEmpty()) {
-            log.warn("Open API service key is not configured");
-            return trades;
+    public Mono<List<AptTrade>> fetchAptTradesAsync(String lawdCode, YearMonth yearMonth) {
+        return streamAptTrades(lawdCode, yearMonth)
+            .collectList()
+            .doOnNext(trades -> log.info("Fetched {} apt trades for {}/{}", trades.size(), lawdCode, yearMonth));
+    }
+    
+    /**
+     * Open API에서 아파트 매매 실거래 데이터 스트리밍 조회
+     * 응답 본문을 DataBuffer 단위로 파싱하여 item마다 거래를 방출한다.
+     *
+     * @param lawdCode 지역코드 (5자리 법정동코드)
+     * @param yearMonth 조회년월
+     * @return 아파트 거래 스트림
+     */
+    public Flux<AptTrade> streamAptTrades(String lawdCode, YearMonth yearMonth) {
+        return streamAptTradePages(lawdCode, yearMonth)
+            .flatMapIterable(AptTradePage::trades);
+    }
+    
+    /**
+     * Open API에서 아파트 매매 실거래 데이터 페이지 단위 조회
+     * 첫 페이지의 totalCount로 전체 페이지 수를 구한 뒤, 나머지 페이지를 제한된 동시성으로 조회한다.
+     * 페이지는 페이지 번호 순서대로 방출되며, 구독자가 소비한 만큼만 다음 페이지를 요청한다.
+     * 정상 완료되면 첫 페이지는 항상 방출된다 (거래가 없는 월도 빈 페이지 1개).
+     *
+     * @param lawdCode 지역코드 (5자리 법정동코드)
+     * @param yearMonth 조회년월
+     * @return 페이지 스트림 (인증키 미설정시 OpenApiException 시그널)
+     */
+    public Flux<AptTradePage> streamAptTradePages(String lawdCode, YearMonth yearMonth) {
+        if (!isConfigured()) {
+            return Flux.error(new OpenApiException(null, "Open API service key is not configured"));
         }
         
-        try {
-            String dealYmd = yearMonth.format(DateTimeFormatter.ofPattern("yyyyMM"));
-            
-            // API URL 생성
-            String apiUrl = buildApiUrl(lawdCode, dealYmd);
-            log.info("Fetching apt trades from API: {}", apiUrl);
-            
-            // API 호출
-            String response = webClient.get()
-                .uri(apiUrl)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
-            
-            if (response != null) {
-                // XML 파싱
-                trades = parseAptTradeXml(response, lawdCode);
-                log.info("Fetched {} apt trades for {}/{}", trades.size(), lawdCode, dealYmd);
+        String dealYmd = yearMonth.format(DateTimeFormatter.ofPattern("yyyyMM"));
+        
+        return fetchPage(lawdCode, dealYmd, 1).flatMapMany(firstPage -> {
+            int totalPages = countPages(firstPage, lawdCode, dealYmd);
+            if (totalPages <= 1) {
+                return Flux.just(firstPage);
             }
             
-        } catch (Exception e) {
-            log.error("Failed to fetch apt trades from Open API for {}/{}: {}", 
-                    lawdCode, yearMonth, e.getMessage());
-        }
+            log.info("Fetching {} pages of apt trades for {}/{} (totalCount: {})",
+                    totalPages, lawdCode, dealYmd, firstPage.totalCount());
+            Flux<AptTradePage> remainingPages = Flux.range(2, totalPages - 1)
+                .flatMapSequential(pageNo -> fetchPage(lawdCode, dealYmd, pageNo), pageConcurrency, 1);
+            return Flux.just(firstPage).concatWith(remainingPages);
+        });
+    }
+    
+    /**
+     * 1페이지 조회
+     * 재시도마다 속도 제한 슬롯을 새로 예약하며, 재시도를 모두 포함한 한 번의 조회가 서킷 브레이커 호출 1건으로 집계된다.
+     */
+    private Mono<AptTradePage> fetchPage(String lawdCode, String dealYmd, int pageNo) {
+        String apiUrl = buildApiUrl(lawdCode, dealYmd, pageNo);
         
-        return trades;
+        return rateLimiter.throttle(Mono.defer(() -> {
+                log.info("Fetching apt trades from API: {}", apiUrl);
+                long startedAt = System.nanoTime();
+                Flux<DataBuffer> body = openApiWebClient.get()
+                    .uri(apiUrl)
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class);
+                
+                // XML 스트리밍 파싱
+                return aptTradeXmlStreamParser.parsePage(body, lawdCode)
+                    .doOnSuccess(page -> openApiMetrics.recordSuccess(System.nanoTime() - startedAt, page))
+                    .doOnError(e -> openApiMetrics.recordError(System.nanoTime() - startedAt));
+            }))
+            .retryWhen(retrySpec(lawdCode, dealYmd, pageNo))
+            .transformDeferred(CircuitBreakerOperator.of(openApiCircuitBreaker));
+    }
+    
+    /**
+     * 일시적 오류에 대한 지수 백오프 재시도
+     * 재시도를 모두 소진하면 마지막 오류를 그대로 전달한다.
+     */
+    private RetryBackoffSpec retrySpec(String lawdCode, String dealYmd, int pageNo) {
+        return Retry.backoff(maxRetries, minBackoff)
+            .maxBackoff(maxBackoff)
+            .jitter(0.5)
+            .filter(openApiTransientErrors)
+            .doBeforeRetry(signal -> {
+                openApiMetrics.recordRetry();
+                log.warn("Retrying Open API request for {}/{} page {} ({}/{}): {}",
+                        lawdCode, dealYmd, pageNo, signal.totalRetries() + 1, maxRetries, signal.failure().toString());
+            })
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+    
+    /**
+     * 첫 페이지 응답으로 전체 페이지 수 계산
+     * totalCount가 없는 응답은 1페이지로 간주한다.
+     */
+    private int countPages(AptTradePage firstPage, String lawdCode, String dealYmd) {
+        Integer totalCount = firstPage.totalCount();
+        if (totalCount == null) {
+            if (firstPage.trades().size() >= pageSize) {
+                log.warn("totalCount is missing for {}/{} - only the first page is fetched", lawdCode, dealYmd);
+            }
+            return 1;
+        }
+        return Math.max(1, (totalCount + pageSize - 1) / pageSize);
     }
     
     /**
      * API URL 생성
      * 공공데이터포털 API 스펙에 맞춰 URL 생성
      */
-    private String buildApiUrl(String lawdCode, String dealYmd) {
+    private String buildApiUrl(String lawdCode, String dealYmd, int pageNo) {
         StringBuilder urlBuilder = new StringBuilder(aptTradeApiUrl);
         
         urlBuilder.append("?serviceKey=").append(serviceKey);
-        urlBuilder.append("&pageNo=1");
-        urlBuilder.append("&numOfRows=9999");  // 최대 조회 건수
+        urlBuilder.append("&pageNo=").append(pageNo);
+        urlBuilder.append("&numOfRows=").append(pageSize);
         urlBuilder.append("&LAWD_CD=").append(lawdCode);
         urlBuilder.append("&DEAL_YMD=").append(dealYmd);
         
@@ -101,48 +224,54 @@ public class OpenApiService {
     }
     
     /**
-     * XML 응답 파싱
+     * XML 응답 파싱 (DOM)
      * 공공데이터포털 XML 응답 구조에 맞춰 파싱
+     * 조회 경로는 AptTradeXmlStreamParser를 사용하며, 이 메소드는 벤치마크 비교 기준으로 유지한다.
+     *
+     * @throws OpenApiException 에러 결과코드 응답 또는 XML 파싱 실패시
      */
-    private List<AptTrade> parseAptTradeXml(String xmlResponse, String lawdCode) {
+    List<AptTrade> parseAptTradeXml(String xmlResponse, String lawdCode) {
         List<AptTrade> trades = new ArrayList<>();
+        Document doc;
         
         try {
             DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
             DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(new ByteArrayInputStream(xmlResponse.getBytes(StandardCharsets.UTF_8)));
+            doc = builder.parse(new ByteArrayInputStream(xmlResponse.getBytes(StandardCharsets.UTF_8)));
             
             doc.getDocumentElement().normalize();
-            
-            // 에러 응답 확인
-            NodeList resultCode = doc.getElementsByTagName("resultCode");
-            if (resultCode.getLength() > 0) {
-                String code = resultCode.item(0).getTextContent();
-                if (!"00".equals(code)) {
-                    NodeList resultMsg = doc.getElementsByTagName("resultMsg");
-                    String msg = resultMsg.getLength() > 0 ? resultMsg.item(0).getTextContent() : "Unknown error";
-                    log.error("Open API error - code: {}, message: {}", code, msg);
-                    return trades;
-                }
+        } catch (Exception e) {
+            log.error("Failed to parse XML response: {}", e.getMessage(), e);
+            throw new OpenApiException("Failed to parse XML response", e);
+        }
+        
+        // 에러 응답 확인
+        NodeList resultCode = doc.getElementsByTagName("resultCode");
+        if (resultCode.getLength() > 0) {
+            String code = resultCode.item(0).getTextContent();
+            if (!"00".equals(code)) {
+                NodeList resultMsg = doc.getElementsByTagName("resultMsg");
+                String msg = resultMsg.getLength() > 0 ? resultMsg.item(0).getTextContent() : "Unknown error";
+                log.error("Open API error - code: {}, message: {}", code, msg);
+                throw new OpenApiException(code, msg);
             }
+        }
+        
+        // item 노드 파싱
+        NodeList items = doc.getElementsByTagName("item");
+        log.debug("Found {} items in XML response", items.getLength());
+        
+        AptTradeFieldDecoder decoder = new AptTradeFieldDecoder(new BoundedStringPool(DOM_STRING_POOL_CAPACITY));
+        for (int i = 0; i < items.getLength(); i++) {
+            Node node = items.item(i);
             
-            // item 노드 파싱
-            NodeList items = doc.getElementsByTagName("item");
-            log.debug("Found {} items in XML response", items.getLength());
-            
-            for (int i = 0; i < items.getLength(); i++) {
-                Node node = items.item(i);
-                
-                if (node.getNodeType() == Node.ELEMENT_NODE) {
-                    Element element = (Element) node;
-                    AptTrade trade = parseAptTradeElement(element, lawdCode);
-                    if (trade != null) {
-                        trades.add(trade);
-                    }
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                Element element = (Element) node;
+                AptTrade trade = parseAptTradeElement(element, lawdCode, decoder);
+                if (trade != null) {
+                    trades.add(trade);
                 }
             }
-        } catch (Exception e) {
-            log.error("Failed to parse XML response: {}", e.getMessage(), e);
         }
         
         return trades;
@@ -150,73 +279,15 @@ public class OpenApiService {
     
     /**
      * XML Element를 AptTrade 객체로 변환
-     * 공공데이터포털 API 응답 필드명에 맞춰 매핑
      */
-    private AptTrade parseAptTradeElement(Element element, String lawdCode) {
-        try {
-            // 필수 필드 존재 여부 확인
-            String amountStr = getTagValue("거래금액", element).trim();
-            if (amountStr.isEmpty()) {
-                log.warn("Missing required field: 거래금액");
-                return null;
-            }
-            
-            // 거래금액 파싱 (쉼표 제거 후 만원 단위)
-            String cleanAmount = amountStr.replaceAll(",", "").trim();
-            BigDecimal amount = new BigDecimal(cleanAmount);
-            
-            // 거래일자 파싱
-            String yearStr = getTagValue("년", element).trim();
-            String monthStr = getTagValue("월", element).trim();
-            String dayStr = getTagValue("일", element).trim();
-            
-            int year = Integer.parseInt(yearStr);
-            int month = Integer.parseInt(monthStr);
-            int day = Integer.parseInt(dayStr);
-            LocalDate transactionDate = LocalDate.of(year, month, day);
-            
-            // 건축년도 파싱
-            String buildYearStr = getTagValue("건축년도", element).trim();
-            int buildYear = buildYearStr.isEmpty() ? 0 : Integer.parseInt(buildYearStr);
-            
-            // 전용면적 파싱
-            String areaStr = getTagValue("전용면적", element).trim();
-            double area = areaStr.isEmpty() ? 0.0 : Double.parseDouble(areaStr);
-            
-            // 층수 파싱
-            String floorStr = getTagValue("층", element).trim();
-            int floor = floorStr.isEmpty() ? 0 : Integer.parseInt(floorStr);
-            
-            // 아파트명 및 지역 정보
-            String apartmentName = getTagValue("아파트", element).trim();
-            String dong = getTagValue("법정동", element).trim();
-            String jibun = getTagValue("지번", element).trim();
-            
-            // 해제여부 (해제사유발생시 값이 있음)
-            String cancelDeal = getTagValue("해제여부", element).trim();
-            boolean isCanceled = cancelDeal != null && !cancelDeal.isEmpty();
-            
-            return AptTrade.builder()
-                    .lawdCode(lawdCode)
-                    .apartmentName(apartmentName)
-                    .transactionAmount(amount)
-                    .buildingYear(buildYear)
-                    .transactionDate(transactionDate)
-                    .exclusiveArea(area)
-                    .floor(floor)
-                    .dong(dong)
-                    .localNumber(jibun)
-                    .legalDong(dong)
-                    .isCanceled(isCanceled)
-                    .build();
-                    
-        } catch (NumberFormatException e) {
-            log.error("Failed to parse number field in apt trade element: {}", e.getMessage());
-            return null;
-        } catch (Exception e) {
-            log.error("Failed to parse apt trade element: {}", e.getMessage(), e);
-            return null;
+    private AptTrade parseAptTradeElement(Element element, String lawdCode, AptTradeFieldDecoder decoder) {
+        decoder.startItem();
+        for (AptTradeFieldDecoder.Field field : AptTradeFieldDecoder.Field.values()) {
+            decoder.startField(field);
+            decoder.append(getTagValue(field.tag(), element));
+            decoder.endField();
         }
+        return decoder.decode(lawdCode);
     }
     
     /**
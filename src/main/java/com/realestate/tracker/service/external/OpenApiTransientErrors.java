@@ -0,0 +1,62 @@
+package com.realestate.tracker.service.external;
+
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.http.client.PrematureCloseException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * Open API 일시적 오류 판별
+ * 재시도 대상이자 서킷 브레이커 실패로 집계되는 오류를 정의한다.
+ * (연결 실패/타임아웃, 5xx/429 응답, 호출 한도 초과 등 일시적 결과코드)
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Component
+public class OpenApiTransientErrors implements Predicate<Throwable> {
+
+    // 재시도하는 Open API 결과코드
+    private final Set<String> retryableResultCodes;
+
+    public OpenApiTransientErrors(
+        @Value("${openapi.retry.retryable-result-codes:01,04,05,22}") List<String> retryableResultCodes) {
+        this.retryableResultCodes = new HashSet<>(retryableResultCodes);
+    }
+
+    @Override
+    public boolean test(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (isTransient(current)) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean isTransient(Throwable error) {
+        if (error instanceof OpenApiException openApiException) {
+            return openApiException.getResultCode() != null
+                && retryableResultCodes.contains(openApiException.getResultCode());
+        }
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError()
+                || responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return error instanceof WebClientRequestException
+            || error instanceof ReadTimeoutException
+            || error instanceof PrematureCloseException
+            || error instanceof TimeoutException;
+    }
+}
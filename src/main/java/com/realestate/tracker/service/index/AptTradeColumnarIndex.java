@@ -0,0 +1,517 @@
+package com.realestate.tracker.service.index;
+
+import com.realestate.tracker.domain.common.enums.LawdSiType;
+import com.realestate.tracker.domain.property.dto.AptTradeSearchCondition;
+import com.realestate.tracker.domain.property.dto.AptTradeSummary;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import com.realestate.tracker.domain.property.event.AptTradeIngestedEvent;
+import com.realestate.tracker.repository.AptTradeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 아파트 매매 실거래 인메모리 컬럼형 인덱스 (tracker.columnar.enabled=true일 때만 사용)
+ * 기동 후 DB에서 한 번 적재하고, 수집 커밋마다 증분 반영한다.
+ * 컬럼마다 기본형 배열에 저장하며, 아파트명/동/지번/지역코드는 사전 인코딩, 날짜는 epoch day(int)로 보관한다.
+ * 검색은 모든 필터를 한 번의 배열 순회로 평가하고, 정렬 상위 N건은 고정 크기 힙으로 고른다.
+ * 같은 정렬값은 DB 조회와 같이 ID 순으로 정렬하므로, 어느 경로로 조회해도 순서와 페이지 경계가 같다.
+ *
+ * 목록 projection(AptTradeSummary)과 검색 조건에 필요한 컬럼만 보관한다.
+ *
+ * 행당 컬럼 크기: id 8 + 지역코드 4 + 거래일 4 + 거래금액 8 + 전용면적 8 + 건축년도 2 + 층 2
+ * + 아파트명 4 + 동 4 + 지번 4 + 해제여부 1bit = 약 48바이트, ID → 행 맵 약 24바이트
+ * (100만 건 약 72MB + 배열 여유분 + 사전, 실제 값은 tracker.columnar.memory 게이지로 확인)
+ *
+ * @author Generated from toy-real-estate-backend
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "tracker.columnar", name = "enabled", havingValue = "true")
+public class AptTradeColumnarIndex {
+
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    // 문자열 조건 없음
+    private static final int ANY = -2;
+
+    private final AptTradeRepository aptTradeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 컬럼 (lock으로 보호)
+    private int size;
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] lawdCodes = new int[INITIAL_CAPACITY];
+    private int[] transactionDates = new int[INITIAL_CAPACITY];
+    private long[] transactionAmounts = new long[INITIAL_CAPACITY];
+    private double[] exclusiveAreas = new double[INITIAL_CAPACITY];
+    private short[] buildingYears = new short[INITIAL_CAPACITY];
+    private short[] floors = new short[INITIAL_CAPACITY];
+    private int[] apartmentNames = new int[INITIAL_CAPACITY];
+    private int[] dongs = new int[INITIAL_CAPACITY];
+    private int[] localNumbers = new int[INITIAL_CAPACITY];
+    private final BitSet canceled = new BitSet(INITIAL_CAPACITY);
+
+    // 해제/해제철회 반영시 행 조회
+    private final IdRowMap idRows = new IdRowMap(INITIAL_CAPACITY);
+
+    // 사전
+    private final StringDictionary lawdCodeDictionary = new StringDictionary();
+    private final StringDictionary apartmentNameDictionary = new StringDictionary();
+    private final StringDictionary dongDictionary = new StringDictionary();
+    private final StringDictionary localNumberDictionary = new StringDictionary();
+
+    // 적재 완료 전까지 도착한 수집 이벤트 (pendingEvents로 동기화)
+    private final List<AptTradeIngestedEvent> pendingEvents = new ArrayList<>();
+    private volatile boolean ready;
+
+    // 추정 메모리 사용량 (쓰기 잠금 안에서 적재/반영 직후 갱신하며, 게이지는 잠금 없이 이 값만 읽는다)
+    private volatile long memoryBytes;
+
+    public AptTradeColumnarIndex(AptTradeRepository aptTradeRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${tracker.stream.fetch-size:500}") int fetchSize) {
+        this.aptTradeRepository = aptTradeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+
+        Gauge.builder("tracker.columnar.rows", this, AptTradeColumnarIndex::size)
+            .description("컬럼형 인덱스 거래 수")
+            .register(meterRegistry);
+        Gauge.builder("tracker.columnar.memory", this, AptTradeColumnarIndex::estimateMemoryBytes)
+            .description("컬럼형 인덱스 추정 메모리 사용량")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 기동 후 DB 전체 적재
+     * 적재 중에는 검색에 사용하지 않으며(DB 조회), 적재 중 커밋된 수집 이벤트는 적재 후 중복 없이 반영한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startedAt = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<AptTrade> trades = aptTradeRepository.streamBySpecification(null, fetchSize)) {
+                    trades.forEach(this::append);
+                }
+            });
+
+            synchronized (pendingEvents) {
+                pendingEvents.forEach(this::apply);
+                pendingEvents.clear();
+                ready = true;
+            }
+            memoryBytes = computeMemoryBytes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Columnar index loaded {} trades in {} ms (~{} MB)",
+                size, System.currentTimeMillis() - startedAt, memoryBytes / (1024 * 1024));
+    }
+
+    /**
+     * 수집 커밋 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTradesIngested(AptTradeIngestedEvent event) {
+        synchronized (pendingEvents) {
+            if (!ready) {
+                pendingEvents.add(event);
+                return;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            apply(event);
+            memoryBytes = computeMemoryBytes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 조건으로 페이지 조회
+     *
+     * @param searchCondition 검색 조건
+     * @param pageable 페이지/정렬 (정렬은 첫 번째 속성만 사용)
+     * @return 조회 결과 (적재 전이거나 지원하지 않는 정렬이면 empty)
+     */
+    public Optional<Page<AptTradeSummary>> search(AptTradeSearchCondition searchCondition, Pageable pageable) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        Sort.Order order = pageable.getSort().stream().findFirst()
+            .orElse(Sort.Order.desc("transactionDate"));
+        SortColumn sortColumn = SortColumn.of(order.getProperty());
+        if (sortColumn == null) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            RowFilter filter = new RowFilter(searchCondition);
+            long limit = pageable.getOffset() + pageable.getPageSize();
+            RowComparator comparator = rowComparator(sortColumn, order.isDescending());
+            TopRows topRows = new TopRows((int) Math.min(limit, Integer.MAX_VALUE - 8), comparator);
+
+            int total = 0;
+            if (!filter.empty) {
+                for (int row = 0; row < size; row++) {
+                    if (filter.test(row)) {
+                        total++;
+                        topRows.offer(row);
+                    }
+                }
+            }
+
+            int[] sorted = topRows.sorted();
+            List<AptTradeSummary> content = new ArrayList<>(pageable.getPageSize());
+            for (long i = pageable.getOffset(); i < sorted.length; i++) {
+                content.add(toSummary(sorted[(int) i]));
+            }
+            return Optional.of(new PageImpl<>(content, pageable, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 추정 메모리 사용량 (마지막 적재/반영 시점 값)
+     */
+    public long estimateMemoryBytes() {
+        return memoryBytes;
+    }
+
+    /**
+     * 추정 메모리 사용량 계산 (배열 할당 크기 + 해제여부 비트맵 + ID → 행 맵 + 사전, 쓰기 잠금 안에서 호출)
+     */
+    private long computeMemoryBytes() {
+        long capacity = ids.length;
+        long columns = capacity * (8 + 4 + 4 + 8 + 8 + 2 + 2 + 4 + 4 + 4);
+        return columns
+            + canceled.size() / 8
+            + idRows.estimateMemoryBytes()
+            + lawdCodeDictionary.estimateMemoryBytes()
+            + apartmentNameDictionary.estimateMemoryBytes()
+            + dongDictionary.estimateMemoryBytes()
+            + localNumberDictionary.estimateMemoryBytes();
+    }
+
+    /**
+     * 수집 이벤트 반영 (적재 중 커밋되어 이미 적재된 거래는 다시 추가하지 않는다)
+     */
+    private void apply(AptTradeIngestedEvent event) {
+        for (AptTrade trade : event.getInserted()) {
+            if (idRows.get(trade.getId()) == IdRowMap.MISSING) {
+                append(trade);
+            }
+        }
+        Stream.concat(event.getCanceled().stream(), event.getRestored().stream())
+            .forEach(this::updateCancellation);
+    }
+
+    private void append(AptTrade trade) {
+        if (size == ids.length) {
+            grow();
+        }
+        int row = size;
+        ids[row] = trade.getId();
+        lawdCodes[row] = lawdCodeDictionary.encode(trade.getLawdCode());
+        transactionDates[row] = (int) trade.getTransactionDate().toEpochDay();
+        transactionAmounts[row] = trade.getTransactionAmount().longValue();
+        exclusiveAreas[row] = trade.getExclusiveArea();
+        buildingYears[row] = trade.getBuildingYear().shortValue();
+        floors[row] = trade.getFloor().shortValue();
+        apartmentNames[row] = apartmentNameDictionary.encode(trade.getApartmentName());
+        dongs[row] = dongDictionary.encode(trade.getDong());
+        localNumbers[row] = localNumberDictionary.encode(trade.getLocalNumber());
+        setCancellation(row, trade);
+        idRows.put(trade.getId(), row);
+        size++;
+    }
+
+    /**
+     * 해제/해제철회 반영
+     */
+    private void updateCancellation(AptTrade trade) {
+        int row = idRows.get(trade.getId());
+        if (row != IdRowMap.MISSING) {
+            setCancellation(row, trade);
+        }
+    }
+
+    private void setCancellation(int row, AptTrade trade) {
+        canceled.set(row, Boolean.TRUE.equals(trade.getIsCanceled()));
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        lawdCodes = Arrays.copyOf(lawdCodes, capacity);
+        transactionDates = Arrays.copyOf(transactionDates, capacity);
+        transactionAmounts = Arrays.copyOf(transactionAmounts, capacity);
+        exclusiveAreas = Arrays.copyOf(exclusiveAreas, capacity);
+        buildingYears = Arrays.copyOf(buildingYears, capacity);
+        floors = Arrays.copyOf(floors, capacity);
+        apartmentNames = Arrays.copyOf(apartmentNames, capacity);
+        dongs = Arrays.copyOf(dongs, capacity);
+        localNumbers = Arrays.copyOf(localNumbers, capacity);
+    }
+
+    /**
+     * 행 정렬 순서: 정렬 컬럼, 같으면 ID (DB 조회의 Sort.by(direction, sortBy).and(Sort.by(direction, "id"))와 같다)
+     */
+    private RowComparator rowComparator(SortColumn sortColumn, boolean descending) {
+        RowComparator byColumn = switch (sortColumn) {
+            case TRANSACTION_DATE -> (a, b) -> Integer.compare(transactionDates[a], transactionDates[b]);
+            case TRANSACTION_AMOUNT -> (a, b) -> Long.compare(transactionAmounts[a], transactionAmounts[b]);
+            case EXCLUSIVE_AREA -> (a, b) -> Double.compare(exclusiveAreas[a], exclusiveAreas[b]);
+            case BUILDING_YEAR -> (a, b) -> Short.compare(buildingYears[a], buildingYears[b]);
+            case FLOOR -> (a, b) -> Short.compare(floors[a], floors[b]);
+        };
+        RowComparator ascending = (a, b) -> {
+            int compared = byColumn.compare(a, b);
+            return compared != 0 ? compared : Long.compare(ids[a], ids[b]);
+        };
+        return descending ? (a, b) -> ascending.compare(b, a) : ascending;
+    }
+
+    private AptTradeSummary toSummary(int row) {
+        return new AptTradeSummary(
+            ids[row],
+            apartmentNameDictionary.decode(apartmentNames[row]),
+            dongDictionary.decode(dongs[row]),
+            localNumberDictionary.decode(localNumbers[row]),
+            BigDecimal.valueOf(transactionAmounts[row]),
+            LocalDate.ofEpochDay(transactionDates[row]),
+            exclusiveAreas[row],
+            (int) floors[row],
+            (int) buildingYears[row],
+            canceled.get(row));
+    }
+
+    /**
+     * 정렬 가능 컬럼
+     */
+    private enum SortColumn {
+        TRANSACTION_DATE, TRANSACTION_AMOUNT, EXCLUSIVE_AREA, BUILDING_YEAR, FLOOR;
+
+        static SortColumn of(String property) {
+            return switch (property) {
+                case "transactionDate" -> TRANSACTION_DATE;
+                case "transactionAmount" -> TRANSACTION_AMOUNT;
+                case "exclusiveArea" -> EXCLUSIVE_AREA;
+                case "buildingYear" -> BUILDING_YEAR;
+                case "floor" -> FLOOR;
+                default -> null;
+            };
+        }
+    }
+
+    /**
+     * 검색 조건을 컬럼 비교로 변환한 행 필터
+     * 문자열 조건은 사전 코드로 바꿔 두어, 행마다 int 비교만 한다.
+     */
+    private class RowFilter {
+
+        private boolean empty;
+        private final int lawdCode;
+        private final boolean[] regionMatches;
+        private final int dong;
+        private final boolean[] apartmentNameMatches;
+        private final int fromDate;
+        private final int toDate;
+        private final long minAmount;
+        private final long maxAmount;
+        private final double minArea;
+        private final double maxArea;
+        private final int minBuildingYear;
+        private final int maxBuildingYear;
+
+        RowFilter(AptTradeSearchCondition condition) {
+            lawdCode = codeOf(lawdCodeDictionary, condition.getLawdCode());
+            LawdSiType city = condition.resolveCity();
+            List<String> districtLawdCodes = condition.resolveDistrictLawdCodes();
+            regionMatches = city != null || districtLawdCodes != null
+                ? lawdCodeDictionary.matching(code -> (city == null || code.startsWith(city.getCode()))
+                    && (districtLawdCodes == null || districtLawdCodes.contains(code)))
+                : null;
+            dong = codeOf(dongDictionary, condition.getDong());
+            apartmentNameMatches = StringUtils.hasText(condition.getApartmentName())
+                ? apartmentNameDictionary.matching(name -> name.contains(condition.getApartmentName()))
+                : null;
+
+            LocalDate startDate = condition.resolveStartDate();
+            LocalDate endDate = condition.resolveEndDate();
+            fromDate = startDate != null ? (int) startDate.toEpochDay() : Integer.MIN_VALUE;
+            toDate = endDate != null ? (int) endDate.toEpochDay() : Integer.MAX_VALUE;
+
+            minAmount = condition.getStartTransactionAmount() != null
+                ? condition.getStartTransactionAmount().setScale(0, RoundingMode.CEILING).longValue()
+                : Long.MIN_VALUE;
+            maxAmount = condition.getEndTransactionAmount() != null
+                ? condition.getEndTransactionAmount().setScale(0, RoundingMode.FLOOR).longValue()
+                : Long.MAX_VALUE;
+            minArea = condition.getMinExclusiveArea() != null ? condition.getMinExclusiveArea() : Double.NEGATIVE_INFINITY;
+            maxArea = condition.getMaxExclusiveArea() != null ? condition.getMaxExclusiveArea() : Double.POSITIVE_INFINITY;
+            minBuildingYear = condition.getMinBuildingYear() != null ? condition.getMinBuildingYear() : Integer.MIN_VALUE;
+            maxBuildingYear = condition.getMaxBuildingYear() != null ? condition.getMaxBuildingYear() : Integer.MAX_VALUE;
+        }
+
+        /**
+         * 조건 문자열의 사전 코드 (조건 없음: ANY, 사전에 없는 값: 결과 없음)
+         */
+        private int codeOf(StringDictionary dictionary, String value) {
+            if (!StringUtils.hasText(value)) {
+                return ANY;
+            }
+            int code = dictionary.find(value);
+            if (code == StringDictionary.NULL_CODE) {
+                empty = true;
+            }
+            return code;
+        }
+
+        boolean test(int row) {
+            return (lawdCode == ANY || lawdCodes[row] == lawdCode)
+                && (regionMatches == null || regionMatches[lawdCodes[row]])
+                && transactionDates[row] >= fromDate && transactionDates[row] <= toDate
+                && transactionAmounts[row] >= minAmount && transactionAmounts[row] <= maxAmount
+                && exclusiveAreas[row] >= minArea && exclusiveAreas[row] <= maxArea
+                && buildingYears[row] >= minBuildingYear && buildingYears[row] <= maxBuildingYear
+                && (dong == ANY || dongs[row] == dong)
+                && (apartmentNameMatches == null || apartmentNameMatches[apartmentNames[row]]);
+        }
+    }
+
+    /**
+     * 행 비교 (박싱 없이 행 번호로 비교)
+     */
+    @FunctionalInterface
+    private interface RowComparator {
+        int compare(int a, int b);
+    }
+
+    /**
+     * 정렬 순서 기준 상위 N건 (가장 앞선 N개 행을 유지하는 최대 힙)
+     */
+    private static class TopRows {
+
+        private final int limit;
+        private final RowComparator comparator;
+        private int[] heap = new int[16];
+        private int count;
+
+        TopRows(int limit, RowComparator comparator) {
+            this.limit = limit;
+            this.comparator = comparator;
+        }
+
+        void offer(int row) {
+            if (limit == 0) {
+                return;
+            }
+            if (count < limit) {
+                if (count == heap.length) {
+                    heap = Arrays.copyOf(heap, (int) Math.min((long) heap.length * 2, limit));
+                }
+                heap[count] = row;
+                siftUp(count++);
+            } else if (comparator.compare(row, heap[0]) < 0) {
+                heap[0] = row;
+                siftDown(0, count);
+            }
+        }
+
+        /**
+         * 정렬된 행 번호 (힙 정렬, 호출 후에는 힙을 다시 사용하지 않는다)
+         */
+        int[] sorted() {
+            for (int end = count - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+            return Arrays.copyOf(heap, count);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (comparator.compare(heap[index], heap[parent]) <= 0) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index, int length) {
+            while (true) {
+                int left = index * 2 + 1;
+                if (left >= length) {
+                    return;
+                }
+                int largest = left;
+                int right = left + 1;
+                if (right < length && comparator.compare(heap[right], heap[left]) > 0) {
+                    largest = right;
+                }
+                if (comparator.compare(heap[largest], heap[index]) <= 0) {
+                    return;
+                }
+                swap(index, largest);
+                index = largest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int tmp = heap[i];
+            heap[i] = heap[j];
+            heap[j] = tmp;
+        }
+    }
+}
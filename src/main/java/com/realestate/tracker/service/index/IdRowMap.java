@@ -0,0 +1,90 @@
+package com.realestate.tracker.service.index;
+
+/**
+ * 거래 ID → 행 번호 맵 (기본형 배열, 선형 탐사)
+ * 해제/해제철회 이벤트마다 행을 찾기 위해 사용하며, Long/Integer 박싱 없이 행당 약 24바이트를 쓴다.
+ * 동기화는 호출하는 쪽(AptTradeColumnarIndex)의 락으로 보장한다.
+ */
+final class IdRowMap {
+
+    static final int MISSING = -1;
+
+    private long[] ids;
+    // 행 번호 + 1 (0은 빈 슬롯)
+    private int[] rows;
+    private int mask;
+    private int size;
+
+    IdRowMap(int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1);
+    }
+
+    /**
+     * 행 번호 등록 (이미 있으면 덮어쓴다)
+     */
+    void put(long id, int row) {
+        if ((size + 1) * 2 > ids.length) {
+            rehash(ids.length * 2);
+        }
+        int slot = slot(id);
+        while (rows[slot] != 0) {
+            if (ids[slot] == id) {
+                rows[slot] = row + 1;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        ids[slot] = id;
+        rows[slot] = row + 1;
+        size++;
+    }
+
+    /**
+     * 행 번호 조회 (없으면 MISSING)
+     */
+    int get(long id) {
+        int slot = slot(id);
+        while (rows[slot] != 0) {
+            if (ids[slot] == id) {
+                return rows[slot] - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long estimateMemoryBytes() {
+        return ids.length * (8L + 4L);
+    }
+
+    private int slot(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldIds = ids;
+        int[] oldRows = rows;
+        allocate(capacity);
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldRows[i] != 0) {
+                int slot = slot(oldIds[i]);
+                while (rows[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                ids[slot] = oldIds[i];
+                rows[slot] = oldRows[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        ids = new long[capacity];
+        rows = new int[capacity];
+        mask = capacity - 1;
+    }
+}
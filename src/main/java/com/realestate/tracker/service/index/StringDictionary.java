@@ -0,0 +1,74 @@
+package com.realestate.tracker.service.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 문자열 사전 인코딩
+ * 같은 문자열은 한 번만 보관하고, 컬럼에는 int 코드만 저장한다. (null은 -1)
+ * 동기화는 호출하는 쪽(AptTradeColumnarIndex)의 락으로 보장한다.
+ */
+final class StringDictionary {
+
+    static final int NULL_CODE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    // 등록된 문자열 본문 추정 크기 (등록할 때 누적)
+    private long stringBytes;
+
+    /**
+     * 문자열 코드 (없으면 새로 등록)
+     */
+    int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            codes.put(value, code);
+            values.add(value);
+            stringBytes += 40 + value.length() * 2L;  // String 헤더 + byte[] (UTF-16 기준 상한)
+        }
+        return code;
+    }
+
+    /**
+     * 문자열 코드 조회 (등록되지 않은 문자열은 NULL_CODE)
+     */
+    int find(String value) {
+        Integer code = value == null ? null : codes.get(value);
+        return code == null ? NULL_CODE : code;
+    }
+
+    String decode(int code) {
+        return code == NULL_CODE ? null : values.get(code);
+    }
+
+    /**
+     * 조건에 맞는 코드 표시 (행마다 문자열을 비교하지 않도록 사전 단위로 한 번만 평가)
+     */
+    boolean[] matching(Predicate<String> predicate) {
+        boolean[] matches = new boolean[values.size()];
+        for (int code = 0; code < matches.length; code++) {
+            matches[code] = predicate.test(values.get(code));
+        }
+        return matches;
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    /**
+     * 추정 메모리 사용량 (String 본문 + HashMap 엔트리 + 목록 참조)
+     */
+    long estimateMemoryBytes() {
+        return stringBytes + values.size() * (48L + 16L + 4L);  // HashMap.Node + Integer + ArrayList 참조
+    }
+}
@@ -0,0 +1,19 @@
+package com.realestate.tracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 슬라이스 테스트용 MeterRegistry
+ * (@DataJpaTest는 Actuator 지표 자동 설정을 불러오지 않으므로 지표를 기록하는 Repository에 주입할 레지스트리를 등록한다)
+ */
+@TestConfiguration
+public class MeterRegistryTestConfig {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
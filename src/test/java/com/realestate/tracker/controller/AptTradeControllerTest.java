@@ -0,0 +1,92 @@
+package com.realestate.tracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestate.tracker.domain.common.enums.SyncJobStatus;
+import com.realestate.tracker.domain.property.dto.AptTradeSearchCondition;
+import com.realestate.tracker.domain.property.dto.AptTradeSyncJobResponse;
+import com.realestate.tracker.service.AptTradePriceStatsService;
+import com.realestate.tracker.service.AptTradePriceTrendService;
+import com.realestate.tracker.service.AptTradeRiskService;
+import com.realestate.tracker.service.AptTradeService;
+import com.realestate.tracker.service.AptTradeSyncJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 동기화 작업 등록/조회 응답 코드 테스트 (등록 202, 대기열 초과 503, 잘못된 조건 400, 만료된 작업 404)
+ */
+class AptTradeControllerTest {
+
+    private static final String SYNC_REQUEST = "{\"lawdCode\":\"11680\",\"startYearMonth\":\"2024-01\"}";
+
+    private AptTradeSyncJobService syncJobService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        syncJobService = mock(AptTradeSyncJobService.class);
+        AptTradeController controller = new AptTradeController(
+            mock(AptTradeService.class),
+            mock(AptTradeRiskService.class),
+            mock(AptTradePriceStatsService.class),
+            mock(AptTradePriceTrendService.class),
+            syncJobService,
+            new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void acceptsQueuedSyncJob() throws Exception {
+        when(syncJobService.submit(any(AptTradeSearchCondition.class))).thenReturn(AptTradeSyncJobResponse.builder()
+            .jobId("job-1")
+            .status(SyncJobStatus.QUEUED)
+            .totalMonths(3)
+            .build());
+
+        mockMvc.perform(post("/api/v1/apt-trades/sync").contentType(MediaType.APPLICATION_JSON).content(SYNC_REQUEST))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "/api/v1/apt-trades/sync/job-1"))
+            .andExpect(jsonPath("$.data.status").value("QUEUED"));
+    }
+
+    @Test
+    void returnsServiceUnavailableWhenQueueIsFull() throws Exception {
+        when(syncJobService.submit(any(AptTradeSearchCondition.class))).thenThrow(new RejectedExecutionException());
+
+        mockMvc.perform(post("/api/v1/apt-trades/sync").contentType(MediaType.APPLICATION_JSON).content(SYNC_REQUEST))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void returnsBadRequestForInvalidSyncCondition() throws Exception {
+        when(syncJobService.submit(any(AptTradeSearchCondition.class)))
+            .thenThrow(new IllegalArgumentException("sync period must not exceed 240 months"));
+
+        mockMvc.perform(post("/api/v1/apt-trades/sync").contentType(MediaType.APPLICATION_JSON).content(SYNC_REQUEST))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void returnsNotFoundForExpiredJob() throws Exception {
+        when(syncJobService.findJob("expired")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/apt-trades/sync/expired"))
+            .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,107 @@
+package com.realestate.tracker.repository;
+
+import com.realestate.tracker.config.MeterRegistryTestConfig;
+import com.realestate.tracker.domain.property.dto.AptTradeUpsertResult;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import com.realestate.tracker.domain.property.event.AptTradeIngestedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AptTradeBatchWriter upsert/해제/해제철회 및 청크별 이벤트 발행 테스트 (H2)
+ */
+@DataJpaTest
+@Import({AptTradeBatchWriter.class, MeterRegistryTestConfig.class})
+@TestPropertySource(properties = "tracker.ingest.batch-size=2")
+@RecordApplicationEvents
+class AptTradeBatchWriterTest {
+
+    @Autowired
+    private AptTradeBatchWriter batchWriter;
+
+    @Autowired
+    private AptTradeRepository aptTradeRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void insertsNewTradesAndPublishesEventPerChunk() {
+        AptTradeUpsertResult result = batchWriter.upsertAll(List.of(
+            trade(1, null), trade(2, null), trade(3, null), trade(4, null), trade(5, null)));
+
+        assertThat(result.getInsertedCount()).isEqualTo(5);
+        assertThat(result.getSavedCount()).isEqualTo(5);
+        assertThat(aptTradeRepository.count()).isEqualTo(5);
+        assertThat(events.stream(AptTradeIngestedEvent.class))
+            .extracting(event -> event.getInserted().size())
+            .containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void skipsDuplicatesWithinResponseAndAlreadySavedTrades() {
+        batchWriter.upsertAll(List.of(trade(1, null)));
+
+        AptTradeUpsertResult result = batchWriter.upsertAll(List.of(trade(1, null), trade(2, null), trade(2, null)));
+
+        assertThat(result.getInsertedCount()).isEqualTo(1);
+        assertThat(result.getUnchangedCount()).isEqualTo(2);
+        assertThat(aptTradeRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void updatesCancellationOfExistingTrade() {
+        batchWriter.upsertAll(List.of(trade(1, null)));
+        events.clear();
+
+        AptTradeUpsertResult canceled = batchWriter.upsertAll(List.of(trade(1, LocalDate.of(2024, 3, 20))));
+
+        assertThat(canceled.getUpdatedCount()).isEqualTo(1);
+        assertThat(canceled.getInsertedCount()).isZero();
+        AptTrade saved = aptTradeRepository.findAll().get(0);
+        assertThat(saved.getIsCanceled()).isTrue();
+        assertThat(saved.getCanceledDate()).isEqualTo(LocalDate.of(2024, 3, 20));
+        assertThat(events.stream(AptTradeIngestedEvent.class))
+            .singleElement()
+            .satisfies(event -> assertThat(event.getCanceled()).extracting(AptTrade::getId).containsExactly(saved.getId()));
+
+        events.clear();
+        AptTradeUpsertResult restored = batchWriter.upsertAll(List.of(trade(1, null)));
+
+        assertThat(restored.getUpdatedCount()).isEqualTo(1);
+        assertThat(aptTradeRepository.findAll().get(0).getIsCanceled()).isNull();
+        assertThat(events.stream(AptTradeIngestedEvent.class))
+            .singleElement()
+            .satisfies(event -> assertThat(event.getRestored()).extracting(AptTrade::getId).containsExactly(saved.getId()));
+    }
+
+    private static AptTrade trade(int floor, LocalDate canceledDate) {
+        return AptTrade.builder()
+            .lawdCode("11680")
+            .city("서울특별시")
+            .district("강남구")
+            .dong("역삼동")
+            .legalDong("역삼동")
+            .apartmentName("래미안")
+            .localNumber("123-4")
+            .transactionAmount(BigDecimal.valueOf(125_000))
+            .transactionDate(LocalDate.of(2024, 3, 1))
+            .exclusiveArea(84.97)
+            .floor(floor)
+            .buildingYear(2010)
+            .isCanceled(canceledDate != null ? Boolean.TRUE : null)
+            .canceledDate(canceledDate)
+            .build();
+    }
+}
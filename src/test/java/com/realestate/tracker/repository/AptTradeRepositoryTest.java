@@ -0,0 +1,99 @@
+package com.realestate.tracker.repository;
+
+import com.realestate.tracker.config.MeterRegistryTestConfig;
+import com.realestate.tracker.domain.property.dto.AptTradeCursor;
+import com.realestate.tracker.domain.property.dto.AptTradeSummary;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서(keyset) 페이징 테스트 (H2)
+ */
+@DataJpaTest
+@Import(MeterRegistryTestConfig.class)
+class AptTradeRepositoryTest {
+
+    @Autowired
+    private AptTradeRepository aptTradeRepository;
+
+    @Test
+    void pagesByCursorWithoutGapsOrDuplicates() {
+        List<AptTrade> saved = aptTradeRepository.saveAllAndFlush(List.of(
+            trade("11680", "래미안", LocalDate.of(2024, 3, 1), 1),
+            trade("11680", "래미안", LocalDate.of(2024, 3, 1), 2),
+            trade("11680", "래미안", LocalDate.of(2024, 3, 1), 3),
+            trade("11680", "래미안", LocalDate.of(2024, 3, 5), 4),
+            trade("11680", "래미안", LocalDate.of(2024, 2, 28), 5)));
+        List<Long> expected = saved.stream()
+            .sorted(Comparator.comparing(AptTrade::getTransactionDate).thenComparing(AptTrade::getId).reversed())
+            .map(AptTrade::getId)
+            .toList();
+
+        List<Long> paged = new ArrayList<>();
+        AptTradeCursor cursor = null;
+        Slice<AptTradeSummary> slice;
+        do {
+            slice = aptTradeRepository.findSliceByCursor(null, cursor, 2);
+            slice.getContent().forEach(summary -> paged.add(summary.id()));
+            if (slice.hasContent()) {
+                // 클라이언트가 받은 토큰으로 다음 페이지를 요청하는 흐름과 같게 인코딩/디코딩을 거친다
+                AptTradeSummary last = slice.getContent().get(slice.getNumberOfElements() - 1);
+                cursor = AptTradeCursor.decode(AptTradeCursor.after(last).encode());
+            }
+        } while (slice.hasNext());
+
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void appliesSpecificationTogetherWithCursor() {
+        aptTradeRepository.saveAllAndFlush(List.of(
+            trade("11680", "래미안", LocalDate.of(2024, 3, 2), 1),
+            trade("11650", "래미안", LocalDate.of(2024, 3, 2), 1),
+            trade("11680", "래미안", LocalDate.of(2024, 3, 1), 1)));
+
+        Slice<AptTradeSummary> first = aptTradeRepository.findSliceByCursor(
+            AptTradeSpecifications.lawdCodeEquals("11680"), null, 1);
+        Slice<AptTradeSummary> second = aptTradeRepository.findSliceByCursor(
+            AptTradeSpecifications.lawdCodeEquals("11680"), AptTradeCursor.after(first.getContent().get(0)), 1);
+
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(AptTradeSummary::transactionDate)
+            .containsExactly(LocalDate.of(2024, 3, 1));
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void rejectsMalformedCursorToken() {
+        assertThatThrownBy(() -> AptTradeCursor.decode("not-a-cursor"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static AptTrade trade(String lawdCode, String apartmentName, LocalDate transactionDate, int floor) {
+        return AptTrade.builder()
+            .lawdCode(lawdCode)
+            .legalDong("역삼동")
+            .dong("역삼동")
+            .apartmentName(apartmentName)
+            .localNumber("123-4")
+            .transactionAmount(BigDecimal.valueOf(125_000))
+            .transactionDate(transactionDate)
+            .exclusiveArea(84.97)
+            .floor(floor)
+            .buildingYear(2010)
+            .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.realestate.tracker.repository;
+
+import com.realestate.tracker.config.MeterRegistryTestConfig;
+import com.realestate.tracker.domain.property.dto.AptTradeSearchCondition;
+import com.realestate.tracker.domain.property.dto.AptTradeSummary;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 검색 조건 Specification 테스트 (지역 조건 조합, LIKE 이스케이프, 범위 조건, H2)
+ */
+@DataJpaTest
+@Import(MeterRegistryTestConfig.class)
+class AptTradeSpecificationsTest {
+
+    private static final PageRequest FIRST_PAGE =
+        PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "transactionDate", "id"));
+
+    @Autowired
+    private AptTradeRepository aptTradeRepository;
+
+    @BeforeEach
+    void setUp() {
+        aptTradeRepository.saveAllAndFlush(List.of(
+            trade("11680", "100%래미안", LocalDate.of(2024, 3, 1), 125_000, 84.97, 2010),
+            trade("11680", "100래미안", LocalDate.of(2024, 3, 15), 90_000, 59.9, 1998),
+            trade("11650", "자이", LocalDate.of(2024, 4, 1), 210_000, 114.5, 2018),
+            trade("26350", "아이파크", LocalDate.of(2024, 3, 20), 150_000, 84.5, 2014)));
+    }
+
+    @Test
+    void narrowsRegionByCityAndDistrict() {
+        assertThat(search(AptTradeSearchCondition.builder().city("서울특별시").build())).hasSize(3);
+        assertThat(search(AptTradeSearchCondition.builder().city("11").district("서초구").build()))
+            .extracting(AptTradeSummary::apartmentName)
+            .containsExactly("자이");
+    }
+
+    @Test
+    void returnsNothingWhenLawdCodeIsOutsideCityOrDistrict() {
+        assertThat(search(AptTradeSearchCondition.builder().lawdCode("26350").city("서울특별시").build())).isEmpty();
+        assertThat(search(AptTradeSearchCondition.builder().lawdCode("11680").district("서초구").build())).isEmpty();
+    }
+
+    @Test
+    void rejectsUnsupportedRegion() {
+        assertThatThrownBy(() -> AptTradeSpecifications.bySearchCondition(
+                AptTradeSearchCondition.builder().city("없는시").build()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AptTradeSpecifications.bySearchCondition(
+                AptTradeSearchCondition.builder().district("없는구").build()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void escapesLikeWildcardsInApartmentName() {
+        assertThat(search(AptTradeSearchCondition.builder().apartmentName("0%래").build()))
+            .extracting(AptTradeSummary::apartmentName)
+            .containsExactly("100%래미안");
+    }
+
+    @Test
+    void appliesRangeConditionsInSql() {
+        AptTradeSearchCondition condition = AptTradeSearchCondition.builder()
+            .startYearMonth(YearMonth.of(2024, 3))
+            .endYearMonth(YearMonth.of(2024, 3))
+            .startTransactionAmount(BigDecimal.valueOf(100_000))
+            .minExclusiveArea(80.0)
+            .maxBuildingYear(2012)
+            .build();
+
+        assertThat(search(condition))
+            .extracting(AptTradeSummary::apartmentName)
+            .containsExactly("100%래미안");
+    }
+
+    private List<AptTradeSummary> search(AptTradeSearchCondition condition) {
+        return aptTradeRepository.findBySearchCondition(condition, FIRST_PAGE).getContent();
+    }
+
+    private static AptTrade trade(String lawdCode, String apartmentName, LocalDate transactionDate,
+                                  long amount, double exclusiveArea, int buildingYear) {
+        return AptTrade.builder()
+            .lawdCode(lawdCode)
+            .legalDong("역삼동")
+            .dong("역삼동")
+            .apartmentName(apartmentName)
+            .localNumber("123-4")
+            .transactionAmount(BigDecimal.valueOf(amount))
+            .transactionDate(transactionDate)
+            .exclusiveArea(exclusiveArea)
+            .floor(5)
+            .buildingYear(buildingYear)
+            .build();
+    }
+}
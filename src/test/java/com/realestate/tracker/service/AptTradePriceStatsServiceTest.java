@@ -0,0 +1,174 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.config.MeterRegistryTestConfig;
+import com.realestate.tracker.domain.common.enums.AreaBand;
+import com.realestate.tracker.domain.property.dto.AptTradePriceStatsResponse;
+import com.realestate.tracker.domain.property.dto.PriceStatsSummary;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import com.realestate.tracker.domain.property.entity.AptTradePriceStats;
+import com.realestate.tracker.domain.property.event.AptTradeIngestedEvent;
+import com.realestate.tracker.repository.AptTradeBatchWriter;
+import com.realestate.tracker.repository.AptTradePriceStatsRepository;
+import com.realestate.tracker.repository.AptTradeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 거래가격 집계 테스트 (신규 거래 스케치 병합, 해제/해제철회시 원본 거래로 재계산, @Version 충돌 재시도)
+ * 집계는 수집 트랜잭션 커밋 후 별도 트랜잭션으로 반영되므로 테스트 트랜잭션 없이 실행하고 매번 정리한다.
+ */
+@DataJpaTest
+@Import({AptTradePriceStatsService.class, AptTradeBatchWriter.class, MeterRegistryTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AptTradePriceStatsServiceTest {
+
+    private static final String LAWD_CODE = "11680";
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+
+    @Autowired
+    private AptTradePriceStatsService priceStatsService;
+
+    @Autowired
+    private AptTradeBatchWriter batchWriter;
+
+    @Autowired
+    private AptTradePriceStatsRepository priceStatsRepository;
+
+    @Autowired
+    private AptTradeRepository aptTradeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        priceStatsRepository.deleteAll();
+        aptTradeRepository.deleteAll();
+    }
+
+    @Test
+    void mergesInsertedTradesIntoBucketSketch() {
+        batchWriter.upsertAll(List.of(trade(1, 100_000, 84.97, null), trade(2, 120_000, 84.97, null)));
+        batchWriter.upsertAll(List.of(trade(3, 140_000, 84.97, null), trade(4, 300_000, 114.5, null)));
+
+        PriceStatsSummary midSize = summary(AreaBand.FROM_60_TO_85);
+        assertThat(midSize.getTradeCount()).isEqualTo(3);
+        assertThat(midSize.getAverageAmount()).isEqualByComparingTo("120000");
+        assertThat(midSize.getMinAmount()).isEqualByComparingTo("100000");
+        assertThat(midSize.getMaxAmount()).isEqualByComparingTo("140000");
+        assertThat(midSize.getMedianAmount()).isEqualByComparingTo("120000");
+
+        PriceStatsSummary allBands = summary(null);
+        assertThat(allBands.getTradeCount()).isEqualTo(4);
+        assertThat(allBands.getMaxAmount()).isEqualByComparingTo("300000");
+        assertThat(priceStatsRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void rebuildsBucketFromActiveTradesOnCancelAndRestore() {
+        batchWriter.upsertAll(List.of(
+            trade(1, 100_000, 84.97, null), trade(2, 120_000, 84.97, null), trade(3, 140_000, 84.97, null)));
+
+        // 최고가 거래가 해제되면 최고가는 값을 뺄 수 없으므로 원본 거래로 다시 계산해야 한다
+        batchWriter.upsertAll(List.of(trade(3, 140_000, 84.97, LocalDate.of(2024, 3, 25))));
+        PriceStatsSummary canceled = summary(AreaBand.FROM_60_TO_85);
+        assertThat(canceled.getTradeCount()).isEqualTo(2);
+        assertThat(canceled.getMaxAmount()).isEqualByComparingTo("120000");
+        assertThat(canceled.getAverageAmount()).isEqualByComparingTo("110000");
+
+        batchWriter.upsertAll(List.of(trade(3, 140_000, 84.97, null)));
+        PriceStatsSummary restored = summary(AreaBand.FROM_60_TO_85);
+        assertThat(restored.getTradeCount()).isEqualTo(3);
+        assertThat(restored.getMaxAmount()).isEqualByComparingTo("140000");
+    }
+
+    @Test
+    void deletesBucketWhenEveryTradeIsCanceled() {
+        batchWriter.upsertAll(List.of(trade(1, 100_000, 84.97, null)));
+
+        batchWriter.upsertAll(List.of(trade(1, 100_000, 84.97, LocalDate.of(2024, 3, 25))));
+
+        assertThat(priceStatsRepository.count()).isZero();
+        assertThat(summary(null).getTradeCount()).isZero();
+    }
+
+    @Test
+    void retriesWhenAnotherIngestUpdatesSameBucket() {
+        batchWriter.upsertAll(List.of(trade(1, 100_000, 84.97, null)));
+
+        // 첫 조회 직후 다른 수집이 같은 집계 행을 갱신하여 커밋한 상황 (읽은 행의 version이 낡는다)
+        TransactionTemplate otherIngest = new TransactionTemplate(transactionManager);
+        otherIngest.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AptTradePriceStatsRepository racingRepository =
+            mock(AptTradePriceStatsRepository.class, delegatesTo(priceStatsRepository));
+        doAnswer(invocation -> {
+            Optional<AptTradePriceStats> stale = priceStatsRepository.findByLawdCodeAndDealYmAndAreaBand(
+                LAWD_CODE, 202403, AreaBand.FROM_60_TO_85);
+            otherIngest.executeWithoutResult(status -> {
+                AptTradePriceStats current = priceStatsRepository
+                    .findByLawdCodeAndDealYmAndAreaBand(LAWD_CODE, 202403, AreaBand.FROM_60_TO_85)
+                    .orElseThrow();
+                current.addAll(List.of(BigDecimal.valueOf(200_000)));
+                priceStatsRepository.save(current);
+            });
+            return stale;
+        }).doAnswer(delegatesTo(priceStatsRepository))
+            .when(racingRepository).findByLawdCodeAndDealYmAndAreaBand(anyString(), anyInt(), any());
+
+        new AptTradePriceStatsService(racingRepository, aptTradeRepository, transactionManager)
+            .onTradesIngested(new AptTradeIngestedEvent(
+                List.of(trade(2, 120_000, 84.97, null)), List.of(), List.of()));
+
+        verify(racingRepository, times(2)).findByLawdCodeAndDealYmAndAreaBand(LAWD_CODE, 202403, AreaBand.FROM_60_TO_85);
+        PriceStatsSummary merged = summary(AreaBand.FROM_60_TO_85);
+        assertThat(merged.getTradeCount()).isEqualTo(3);
+        assertThat(merged.getMinAmount()).isEqualByComparingTo("100000");
+        assertThat(merged.getMaxAmount()).isEqualByComparingTo("200000");
+    }
+
+    private PriceStatsSummary summary(AreaBand areaBand) {
+        AptTradePriceStatsResponse response = priceStatsService.getPriceStats(LAWD_CODE, MARCH, MARCH, areaBand);
+        return response.getSummary();
+    }
+
+    private static AptTrade trade(int floor, int amount, double exclusiveArea, LocalDate canceledDate) {
+        return AptTrade.builder()
+            .lawdCode(LAWD_CODE)
+            .dong("역삼동")
+            .legalDong("역삼동")
+            .apartmentName("래미안")
+            .localNumber("123-4")
+            .transactionAmount(BigDecimal.valueOf(amount))
+            .transactionDate(MARCH.atDay(10))
+            .exclusiveArea(exclusiveArea)
+            .floor(floor)
+            .buildingYear(2010)
+            .isCanceled(canceledDate != null ? Boolean.TRUE : null)
+            .canceledDate(canceledDate)
+            .build();
+    }
+}
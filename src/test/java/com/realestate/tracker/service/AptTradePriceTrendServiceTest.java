@@ -0,0 +1,120 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.domain.property.dto.MonthlyPricePerPyeong;
+import com.realestate.tracker.domain.property.dto.PricePerPyeongTrendResponse;
+import com.realestate.tracker.repository.AptTradeMonthlyTurnoverRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 평당가 추이 계산 테스트 (이동평균 기간 범위, 전년 거래 없는 월의 변동률, 12개월 선행 구간 제외)
+ */
+class AptTradePriceTrendServiceTest {
+
+    private static final String LAWD_CODE = "11680";
+    private static final String DONG = "역삼동";
+    private static final String APARTMENT_NAME = "래미안";
+
+    private AptTradeMonthlyTurnoverRepository turnoverRepository;
+    private AptTradePriceTrendService trendService;
+
+    @BeforeEach
+    void setUp() {
+        turnoverRepository = mock(AptTradeMonthlyTurnoverRepository.class);
+        trendService = new AptTradePriceTrendService(turnoverRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 13})
+    void rejectsWindowOutsideOneToTwelve(int window) {
+        assertThatThrownBy(() -> trend(YearMonth.of(2024, 1), YearMonth.of(2024, 3), window))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("window");
+        verifyNoInteractions(turnoverRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 12})
+    void acceptsWindowBounds(int window) {
+        stubComplex(row(2024, 1, 2, 2000.0));
+
+        PricePerPyeongTrendResponse response = trend(YearMonth.of(2024, 1), YearMonth.of(2024, 1), window);
+
+        assertThat(response.getMovingAverageWindow()).isEqualTo(window);
+        assertThat(response.getMovingAverage()).containsExactly(1000.0);
+    }
+
+    @Test
+    void trimsLeadMonthsButUsesThemForMovingAverageAndYearOverYear() {
+        stubComplex(
+            row(2023, 3, 1, 800.0),    // 전년 동월 (선행 구간)
+            row(2023, 12, 1, 900.0),   // 이동평균 구간 (선행 구간)
+            row(2024, 1, 1, 1000.0),
+            row(2024, 3, 2, 2200.0));
+
+        PricePerPyeongTrendResponse response = trend(YearMonth.of(2024, 1), YearMonth.of(2024, 3), 3);
+
+        verify(turnoverRepository).findComplexPricePerPyeong(LAWD_CODE, DONG, APARTMENT_NAME, 202301, 202403);
+        assertThat(response.getTradeCounts()).containsExactly(1, 0, 2);
+        assertThat(response.getPricePerPyeong()).containsExactly(1000.0, null, 1100.0);
+        // 2024-01, 02: 선행 구간의 2023-12 포함 (900 + 1000) / 2, 2024-03: (1000 + 2200) / 3
+        assertThat(response.getMovingAverage()).containsExactly(950.0, 950.0, 1066.7);
+        assertThat(response.getYearOverYearRate()).containsExactly(null, null, 0.375);
+    }
+
+    @Test
+    void leavesYearOverYearEmptyWhenPreviousYearHasNoTrades() {
+        stubComplex(row(2024, 1, 1, 1000.0), row(2024, 2, 1, 1100.0));
+
+        PricePerPyeongTrendResponse response = trend(YearMonth.of(2024, 1), YearMonth.of(2024, 2), 1);
+
+        assertThat(response.getPricePerPyeong()).containsExactly(1000.0, 1100.0);
+        assertThat(response.getYearOverYearRate()).containsExactly(null, null);
+    }
+
+    @Test
+    void aggregatesWholeDongWithoutApartmentName() {
+        when(turnoverRepository.findDongPricePerPyeong(anyString(), anyString(), anyInt(), anyInt()))
+            .thenReturn(List.of(row(2024, 1, 3, 3300.0)));
+
+        PricePerPyeongTrendResponse response = trendService.getPricePerPyeongTrend(
+            LAWD_CODE, DONG, " ", YearMonth.of(2024, 1), YearMonth.of(2024, 1), 1);
+
+        verify(turnoverRepository).findDongPricePerPyeong(LAWD_CODE, DONG, 202301, 202401);
+        assertThat(response.getApartmentName()).isNull();
+        assertThat(response.getPricePerPyeong()).containsExactly(1100.0);
+    }
+
+    @Test
+    void rejectsStartAfterEnd() {
+        assertThatThrownBy(() -> trend(YearMonth.of(2024, 3), YearMonth.of(2024, 1), 3))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PricePerPyeongTrendResponse trend(YearMonth start, YearMonth end, int window) {
+        return trendService.getPricePerPyeongTrend(LAWD_CODE, DONG, APARTMENT_NAME, start, end, window);
+    }
+
+    private void stubComplex(MonthlyPricePerPyeong... rows) {
+        when(turnoverRepository.findComplexPricePerPyeong(anyString(), anyString(), anyString(), anyInt(), anyInt()))
+            .thenReturn(List.of(rows));
+    }
+
+    private static MonthlyPricePerPyeong row(int year, int month, long tradeCount, double pricePerPyeongSum) {
+        return new MonthlyPricePerPyeong(year * 100 + month, tradeCount, pricePerPyeongSum);
+    }
+}
@@ -0,0 +1,167 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.config.MeterRegistryTestConfig;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import com.realestate.tracker.domain.property.entity.AptTradeMonthlyTurnover;
+import com.realestate.tracker.domain.property.event.AptTradeIngestedEvent;
+import com.realestate.tracker.repository.AptTradeBatchWriter;
+import com.realestate.tracker.repository.AptTradeMonthlyTurnoverRepository;
+import com.realestate.tracker.repository.AptTradeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 월간 거래 집계 증분 반영 테스트 (신규/해제/해제철회 증감, 집계 행 생성, 동시 생성 경합)
+ * 집계 행 생성이 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션 없이 실행하고 매번 정리한다.
+ */
+@DataJpaTest
+@Import({AptTradeRiskService.class, AptTradeBatchWriter.class, MeterRegistryTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AptTradeRiskServiceTest {
+
+    private static final double AREA = 84.97;
+
+    @Autowired
+    private AptTradeRiskService riskService;
+
+    @Autowired
+    private AptTradeBatchWriter batchWriter;
+
+    @Autowired
+    private AptTradeMonthlyTurnoverRepository turnoverRepository;
+
+    @Autowired
+    private AptTradeRepository aptTradeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        turnoverRepository.deleteAll();
+        aptTradeRepository.deleteAll();
+    }
+
+    @Test
+    void createsRowThenAccumulatesInsertedTrades() {
+        AptTrade canceledOnArrival = trade("래미안", 1, 200_000);
+        canceledOnArrival.setIsCanceled(true);
+
+        riskService.onTradesIngested(inserted(trade("래미안", 1, 100_000), trade("래미안", 2, 120_000), canceledOnArrival));
+        riskService.onTradesIngested(inserted(trade("래미안", 3, 140_000)));
+
+        AptTradeMonthlyTurnover row = single("래미안");
+        assertThat(row.getTradeCount()).isEqualTo(3);
+        assertThat(row.getPricePerPyeongSum()).isCloseTo(pricePerPyeong(100_000, 120_000, 140_000), within(0.001));
+    }
+
+    @Test
+    void subtractsCanceledAndAddsRestoredTrades() {
+        AptTrade first = trade("래미안", 1, 100_000);
+        AptTrade second = trade("래미안", 2, 120_000);
+        riskService.onTradesIngested(inserted(first, second));
+
+        riskService.onTradesIngested(new AptTradeIngestedEvent(List.of(), List.of(second), List.of()));
+        assertThat(single("래미안").getTradeCount()).isEqualTo(1);
+        assertThat(single("래미안").getPricePerPyeongSum()).isCloseTo(pricePerPyeong(100_000), within(0.001));
+
+        riskService.onTradesIngested(new AptTradeIngestedEvent(List.of(), List.of(), List.of(second)));
+        assertThat(single("래미안").getTradeCount()).isEqualTo(2);
+        assertThat(single("래미안").getPricePerPyeongSum()).isCloseTo(pricePerPyeong(100_000, 120_000), within(0.001));
+    }
+
+    @Test
+    void doesNotCreateRowForCancellationOnly() {
+        riskService.onTradesIngested(new AptTradeIngestedEvent(List.of(), List.of(trade("자이", 1, 100_000)), List.of()));
+
+        assertThat(turnoverRepository.count()).isZero();
+    }
+
+    @Test
+    void appliesDeltasWithinBatchWriterTransaction() {
+        batchWriter.upsertAll(List.of(trade("래미안", 1, 100_000), trade("래미안", 2, 120_000), trade("자이", 3, 90_000)));
+
+        assertThat(single("래미안").getTradeCount()).isEqualTo(2);
+        assertThat(single("자이").getTradeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void retriesUpdateWhenRowIsCreatedConcurrently() {
+        // 첫 UPDATE가 0건을 반환한 직후 다른 수집 트랜잭션이 같은 키의 행을 만들어 커밋한 상황
+        TransactionTemplate otherIngest = new TransactionTemplate(transactionManager);
+        otherIngest.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AptTradeMonthlyTurnoverRepository racingRepository =
+            mock(AptTradeMonthlyTurnoverRepository.class, delegatesTo(turnoverRepository));
+        doAnswer(invocation -> {
+            otherIngest.executeWithoutResult(status ->
+                new AptTradeRiskService(turnoverRepository, transactionManager)
+                    .onTradesIngested(inserted(trade("래미안", 9, 150_000))));
+            return 0;
+        }).doAnswer(delegatesTo(turnoverRepository))
+            .when(racingRepository).addTrades(anyString(), anyInt(), anyString(), anyString(), anyInt(), anyDouble());
+
+        AptTradeRiskService racingService = new AptTradeRiskService(racingRepository, transactionManager);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            racingService.onTradesIngested(inserted(trade("래미안", 1, 100_000), trade("래미안", 2, 120_000))));
+
+        AptTradeMonthlyTurnover row = single("래미안");
+        assertThat(row.getTradeCount()).isEqualTo(3);
+        assertThat(row.getPricePerPyeongSum()).isCloseTo(pricePerPyeong(150_000, 100_000, 120_000), within(0.001));
+    }
+
+    private AptTradeMonthlyTurnover single(String apartmentName) {
+        List<AptTradeMonthlyTurnover> rows = turnoverRepository.findAll().stream()
+            .filter(row -> row.getApartmentName().equals(apartmentName))
+            .toList();
+        assertThat(rows).hasSize(1);
+        return rows.get(0);
+    }
+
+    private static AptTradeIngestedEvent inserted(AptTrade... trades) {
+        return new AptTradeIngestedEvent(List.of(trades), List.of(), List.of());
+    }
+
+    private static double pricePerPyeong(int... amounts) {
+        double sum = 0;
+        for (int amount : amounts) {
+            sum += trade("", 0, amount).calculatePricePerPyeong();
+        }
+        return sum;
+    }
+
+    private static AptTrade trade(String apartmentName, int localNumber, int amount) {
+        return AptTrade.builder()
+            .lawdCode("11680")
+            .legalDong("역삼동")
+            .dong("역삼동")
+            .apartmentName(apartmentName)
+            .localNumber(String.valueOf(localNumber))
+            .transactionAmount(BigDecimal.valueOf(amount))
+            .transactionDate(LocalDate.of(2024, 3, 10 + localNumber % 10))
+            .exclusiveArea(AREA)
+            .floor(localNumber)
+            .buildingYear(2010)
+            .build();
+    }
+}
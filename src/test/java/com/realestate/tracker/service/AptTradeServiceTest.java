@@ -0,0 +1,128 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.config.CacheConfig;
+import com.realestate.tracker.domain.property.dto.AptTradeMonthlySyncResult;
+import com.realestate.tracker.domain.property.dto.AptTradeSearchCondition;
+import com.realestate.tracker.domain.property.dto.AptTradeSummary;
+import com.realestate.tracker.domain.property.dto.AptTradeSyncResult;
+import com.realestate.tracker.repository.AptTradeRepository;
+import com.realestate.tracker.service.cache.AptTradeQueryCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 검색 조건 검증(정렬 속성 whitelist, 지역 조건), 정렬 순서, 검색 캐시와 Open API 보충 조회 테스트
+ */
+class AptTradeServiceTest {
+
+    private AptTradeRepository aptTradeRepository;
+    private AptTradeSyncEngine aptTradeSyncEngine;
+    private AptTradeSyncLedgerService ledgerService;
+    private AptTradeService aptTradeService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        aptTradeRepository = mock(AptTradeRepository.class);
+        aptTradeSyncEngine = mock(AptTradeSyncEngine.class);
+        ledgerService = mock(AptTradeSyncLedgerService.class);
+        AptTradeQueryCache queryCache = new AptTradeQueryCache(
+            new CacheConfig().cacheManager(100, Duration.ofMinutes(10), 100, Duration.ofMinutes(30)));
+        aptTradeService = new AptTradeService(aptTradeRepository, aptTradeSyncEngine, ledgerService, queryCache,
+            mock(ObjectProvider.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(aptTradeService, "maxPageSize", 1000);
+    }
+
+    @Test
+    void rejectsSortPropertyOutsideWhitelist() {
+        AptTradeSearchCondition condition = condition();
+        condition.setSortBy("canceledReason");
+
+        assertThatThrownBy(() -> aptTradeService.findAptTrades(condition))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(aptTradeRepository);
+    }
+
+    @Test
+    void rejectsUnsupportedRegionBeforeQuerying() {
+        AptTradeSearchCondition condition = condition();
+        condition.setCity("없는시");
+
+        assertThatThrownBy(() -> aptTradeService.findAptTrades(condition))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(aptTradeRepository);
+    }
+
+    @Test
+    void sortsByRequestedPropertyThenId() {
+        when(aptTradeRepository.findBySearchCondition(any(), any()))
+            .thenReturn(new PageImpl<AptTradeSummary>(List.of()));
+        AptTradeSearchCondition condition = condition();
+        condition.setSortBy("transactionAmount");
+        condition.setSortDirection("ASC");
+
+        aptTradeService.findAptTrades(condition);
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(aptTradeRepository).findBySearchCondition(any(), pageable.capture());
+        assertThat(pageable.getValue().getSort())
+            .isEqualTo(Sort.by(Sort.Direction.ASC, "transactionAmount").and(Sort.by(Sort.Direction.ASC, "id")));
+    }
+
+    @Test
+    void checksLedgerAndFallsBackEvenWhenSearchIsCached() {
+        YearMonth month = YearMonth.of(2024, 3);
+        when(aptTradeRepository.findBySearchCondition(any(), any()))
+            .thenReturn(new PageImpl<AptTradeSummary>(List.of()));
+        when(ledgerService.findUncoveredMonths("11680", month, month)).thenReturn(List.of(month));
+        when(aptTradeSyncEngine.sync("11680", List.of(month))).thenReturn(failedSync(month));
+        AptTradeSearchCondition condition = condition();
+        condition.setLawdCode("11680");
+        condition.setStartYearMonth(month);
+        condition.setEndYearMonth(month);
+
+        aptTradeService.findAptTrades(condition);
+        aptTradeService.findAptTrades(condition);
+
+        verify(aptTradeRepository, times(1)).findBySearchCondition(any(), any());
+        verify(ledgerService, times(2)).findUncoveredMonths("11680", month, month);
+        verify(aptTradeSyncEngine, times(2)).sync("11680", List.of(month));
+    }
+
+    private static AptTradeSyncResult failedSync(YearMonth month) {
+        return AptTradeSyncResult.builder()
+            .lawdCode("11680")
+            .months(List.of(AptTradeMonthlySyncResult.builder()
+                .yearMonth(month)
+                .success(false)
+                .errorMessage("Open API service key is not configured")
+                .build()))
+            .build();
+    }
+
+    private static AptTradeSearchCondition condition() {
+        AptTradeSearchCondition condition = new AptTradeSearchCondition();
+        condition.setCity("서울특별시");
+        return condition;
+    }
+}
@@ -0,0 +1,184 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.domain.common.enums.SyncJobStatus;
+import com.realestate.tracker.domain.property.dto.AptTradeMonthlySyncResult;
+import com.realestate.tracker.domain.property.dto.AptTradeSearchCondition;
+import com.realestate.tracker.domain.property.dto.AptTradeSyncJobResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 동기화 작업 테스트 (QUEUED → RUNNING → 종료 상태 전이, 대기열 초과 거절, 최대 기간, 종료된 작업만 만료)
+ */
+class AptTradeSyncJobServiceTest {
+
+    private static final String LAWD_CODE = "11680";
+
+    private AptTradeSyncEngine syncEngine;
+    private CountDownLatch release;
+    private AptTradeSyncJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        syncEngine = mock(AptTradeSyncEngine.class);
+        release = new CountDownLatch(1);
+        // 첫 월은 성공(3건), 나머지 월은 실패로 보고한다 (release 전까지 대기)
+        doAnswer(invocation -> {
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            List<YearMonth> months = invocation.getArgument(1);
+            Consumer<AptTradeMonthlySyncResult> onMonthCompleted = invocation.getArgument(2);
+            onMonthCompleted.accept(AptTradeMonthlySyncResult.success(months.get(0), 3, 10));
+            months.stream().skip(1).forEach(month ->
+                onMonthCompleted.accept(AptTradeMonthlySyncResult.failure(month, "upstream failure", 10)));
+            return null;
+        }).when(syncEngine).sync(anyString(), anyList(), any());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (jobService != null) {
+            jobService.shutdown();
+        }
+    }
+
+    @Test
+    void movesFromQueuedToRunningToCompleted() {
+        jobService = service(1, 10, Duration.ofHours(1), 240);
+
+        AptTradeSyncJobResponse submitted = jobService.submit(condition(YearMonth.of(2024, 1), YearMonth.of(2024, 2)));
+        assertThat(submitted.getStatus()).isEqualTo(SyncJobStatus.QUEUED);
+        assertThat(submitted.getTotalMonths()).isEqualTo(2);
+
+        awaitJob(submitted.getJobId(), job -> job.getStatus() == SyncJobStatus.RUNNING);
+        release.countDown();
+        AptTradeSyncJobResponse finished = awaitJob(submitted.getJobId(), job -> job.getStatus().isFinished());
+
+        assertThat(finished.getStatus()).isEqualTo(SyncJobStatus.COMPLETED);
+        assertThat(finished.getCompletedMonths()).isEqualTo(2);
+        assertThat(finished.getFailedMonths()).isEqualTo(1);
+        assertThat(finished.getIngestedRows()).isEqualTo(3);
+        assertThat(finished.getErrors()).containsExactly("2024-02: upstream failure");
+        assertThat(finished.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    void failsWhenEngineThrows() {
+        doAnswer(invocation -> {
+            throw new IllegalStateException("engine stopped");
+        }).when(syncEngine).sync(anyString(), anyList(), any());
+        jobService = service(1, 10, Duration.ofHours(1), 240);
+
+        String jobId = jobService.submit(condition(YearMonth.of(2024, 1), YearMonth.of(2024, 1))).getJobId();
+
+        AptTradeSyncJobResponse finished = awaitJob(jobId, job -> job.getStatus().isFinished());
+        assertThat(finished.getStatus()).isEqualTo(SyncJobStatus.FAILED);
+        assertThat(finished.getErrors()).containsExactly("engine stopped");
+    }
+
+    @Test
+    void rejectsSubmissionWhenQueueIsFull() {
+        jobService = service(1, 1, Duration.ofHours(1), 240);
+        String running = jobService.submit(condition(YearMonth.of(2024, 1), YearMonth.of(2024, 1))).getJobId();
+        awaitJob(running, job -> job.getStatus() == SyncJobStatus.RUNNING);
+        String queued = jobService.submit(condition(YearMonth.of(2024, 2), YearMonth.of(2024, 2))).getJobId();
+
+        assertThatThrownBy(() -> jobService.submit(condition(YearMonth.of(2024, 3), YearMonth.of(2024, 3))))
+            .isInstanceOf(RejectedExecutionException.class);
+
+        assertThat(jobService.findJob(queued)).get()
+            .extracting(AptTradeSyncJobResponse::getStatus)
+            .isEqualTo(SyncJobStatus.QUEUED);
+        release.countDown();
+        assertThat(awaitJob(queued, job -> job.getStatus().isFinished()).getStatus()).isEqualTo(SyncJobStatus.COMPLETED);
+    }
+
+    @Test
+    void rejectsPeriodLongerThanMaxMonths() {
+        jobService = service(1, 10, Duration.ofHours(1), 12);
+
+        assertThat(jobService.submit(condition(YearMonth.of(2023, 1), YearMonth.of(2023, 12))).getTotalMonths())
+            .isEqualTo(12);
+        assertThatThrownBy(() -> jobService.submit(condition(YearMonth.of(2023, 1), YearMonth.of(2024, 1))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("12 months");
+    }
+
+    @Test
+    void rejectsInvalidConditionWithoutQueueing() {
+        jobService = service(1, 10, Duration.ofHours(1), 240);
+
+        assertThatThrownBy(() -> jobService.submit(condition(YearMonth.of(2024, 3), YearMonth.of(2024, 1))))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> jobService.submit(new AptTradeSearchCondition()))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(syncEngine);
+    }
+
+    @Test
+    void expiresOnlyFinishedJobsAfterRetention() throws InterruptedException {
+        jobService = service(1, 10, Duration.ofMillis(100), 240);
+        String jobId = jobService.submit(condition(YearMonth.of(2024, 1), YearMonth.of(2024, 1))).getJobId();
+        awaitJob(jobId, job -> job.getStatus() == SyncJobStatus.RUNNING);
+
+        // 실행 중인 작업은 보관 기간이 지나도 남아 있다
+        Thread.sleep(300);
+        assertThat(jobService.findJob(jobId)).isPresent();
+
+        release.countDown();
+        awaitJob(jobId, job -> job.getStatus().isFinished());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (jobService.findJob(jobId).isPresent()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private AptTradeSyncJobService service(int workers, int queueCapacity, Duration retention, int maxMonths) {
+        return new AptTradeSyncJobService(
+            syncEngine, Executors.defaultThreadFactory(), workers, queueCapacity, retention, maxMonths);
+    }
+
+    /**
+     * 작업 상태가 조건을 만족할 때까지 대기
+     */
+    private AptTradeSyncJobResponse awaitJob(String jobId, Predicate<AptTradeSyncJobResponse> condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            AptTradeSyncJobResponse job = jobService.findJob(jobId).orElseThrow();
+            if (condition.test(job)) {
+                return job;
+            }
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private static AptTradeSearchCondition condition(YearMonth start, YearMonth end) {
+        AptTradeSearchCondition condition = new AptTradeSearchCondition();
+        condition.setLawdCode(LAWD_CODE);
+        condition.setStartYearMonth(start);
+        condition.setEndYearMonth(end);
+        return condition;
+    }
+}
@@ -0,0 +1,94 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.config.MeterRegistryTestConfig;
+import com.realestate.tracker.domain.common.util.YearMonthUtils;
+import com.realestate.tracker.domain.property.entity.AptTradeSyncLedger;
+import com.realestate.tracker.repository.AptTradeSyncLedgerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동기화 이력 기준 재조회 대상 월 판정 테스트 (H2)
+ */
+@DataJpaTest
+@Import(MeterRegistryTestConfig.class)
+class AptTradeSyncLedgerServiceTest {
+
+    private static final String LAWD_CODE = "11680";
+
+    @Autowired
+    private AptTradeSyncLedgerRepository ledgerRepository;
+
+    private AptTradeSyncLedgerService ledgerService;
+
+    @BeforeEach
+    void setUp() {
+        ledgerService = new AptTradeSyncLedgerService(ledgerRepository, 2, Duration.ofHours(6));
+    }
+
+    @Test
+    void coversRecordedPastMonthsOnly() {
+        YearMonth past = YearMonth.now().minusMonths(12);
+        ledgerService.record(LAWD_CODE, past, 10);
+
+        assertThat(ledgerService.findUncoveredMonths(LAWD_CODE, past, past.plusMonths(1)))
+            .containsExactly(past.plusMonths(1));
+    }
+
+    @Test
+    void keepsOldMonthCoveredEvenWhenFetchedLongAgo() {
+        YearMonth past = YearMonth.now().minusMonths(12);
+        save(past, LocalDateTime.now().minusDays(30));
+
+        assertThat(ledgerService.findUncoveredMonths(LAWD_CODE, past, past)).isEmpty();
+    }
+
+    @Test
+    void refetchesRecentMonthAfterTtl() {
+        YearMonth now = YearMonth.now();
+        YearMonth lastMonth = now.minusMonths(1);
+        save(lastMonth, LocalDateTime.now().minusHours(7));
+        ledgerService.record(LAWD_CODE, now, 3);
+
+        assertThat(ledgerService.findUncoveredMonths(LAWD_CODE, lastMonth, now))
+            .containsExactly(lastMonth);
+    }
+
+    @Test
+    void excludesFutureMonths() {
+        YearMonth now = YearMonth.now();
+        ledgerService.record(LAWD_CODE, now, 0);
+
+        assertThat(ledgerService.findUncoveredMonths(LAWD_CODE, now, now.plusMonths(3))).isEmpty();
+        assertThat(ledgerService.findUncoveredMonths(LAWD_CODE, now.plusMonths(1), now.plusMonths(3))).isEmpty();
+    }
+
+    @Test
+    void refreshesExistingLedgerOnRecord() {
+        YearMonth past = YearMonth.now().minusMonths(12);
+        ledgerService.record(LAWD_CODE, past, 10);
+        ledgerService.record(LAWD_CODE, past, 12);
+
+        assertThat(ledgerRepository.findByLawdCodeAndDealYm(LAWD_CODE, YearMonthUtils.toDealYm(past)))
+            .hasValueSatisfying(ledger -> assertThat(ledger.getRowCount()).isEqualTo(12));
+        assertThat(ledgerRepository.count()).isEqualTo(1);
+    }
+
+    private void save(YearMonth yearMonth, LocalDateTime fetchedAt) {
+        ledgerRepository.saveAndFlush(AptTradeSyncLedger.builder()
+            .lawdCode(LAWD_CODE)
+            .dealYm(YearMonthUtils.toDealYm(yearMonth))
+            .fetchedAt(fetchedAt)
+            .rowCount(1)
+            .build());
+    }
+}
@@ -0,0 +1,126 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.domain.property.dto.AptTradeUpsertResult;
+import com.realestate.tracker.service.external.OpenApiService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 동기화 주기 작업 등록 테스트 (최근 월 매 주기 등록, 이력 없는 과거 월만 등록, 대기 중인 작업 중복 방지, 인증키 없으면 건너뜀)
+ * 워커를 시작하지 않으면 큐에 쌓인 작업을 그대로 확인할 수 있다.
+ */
+class AptTradeSyncSchedulerTest {
+
+    private static final String GANGNAM = "11680";
+    private static final String SEOCHO = "11650";
+    private static final int TRAILING_MONTHS = 3;
+    private static final int BACKFILL_MONTHS = 6;
+
+    private OpenApiFetchCoalescer coalescer;
+    private AptTradeSyncLedgerService ledgerService;
+    private OpenApiService openApiService;
+    private MeterRegistry meterRegistry;
+    private AptTradeSyncScheduler scheduler;
+    private YearMonth now;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = mock(OpenApiFetchCoalescer.class);
+        ledgerService = mock(AptTradeSyncLedgerService.class);
+        openApiService = mock(OpenApiService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(openApiService.isConfigured()).thenReturn(true);
+        when(ledgerService.findUncoveredMonths(anyString(), any(), any())).thenReturn(List.of());
+        scheduler = new AptTradeSyncScheduler(coalescer, ledgerService, openApiService, meterRegistry,
+            Executors.defaultThreadFactory(), List.of(GANGNAM, SEOCHO), TRAILING_MONTHS, BACKFILL_MONTHS, 1);
+        now = YearMonth.now();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        scheduler.stopWorkers();
+    }
+
+    @Test
+    void enqueuesTrailingMonthsEveryCycleRegardlessOfLedger() {
+        scheduler.enqueueCycle();
+
+        assertThat(scheduler.getQueueDepth()).isEqualTo(2 * TRAILING_MONTHS);
+        for (int i = 0; i < TRAILING_MONTHS; i++) {
+            assertThat(scheduler.enqueue(GANGNAM, now.minusMonths(i))).isFalse();
+            assertThat(scheduler.enqueue(SEOCHO, now.minusMonths(i))).isFalse();
+        }
+        // 이력 조회는 최근 월을 제외한 과거 구간만 대상으로 한다
+        verify(ledgerService).findUncoveredMonths(GANGNAM, now.minusMonths(5), now.minusMonths(3));
+        verify(ledgerService).findUncoveredMonths(SEOCHO, now.minusMonths(5), now.minusMonths(3));
+    }
+
+    @Test
+    void addsOnlyUncoveredBackfillMonths() {
+        when(ledgerService.findUncoveredMonths(GANGNAM, now.minusMonths(5), now.minusMonths(3)))
+            .thenReturn(List.of(now.minusMonths(4)));
+
+        scheduler.enqueueCycle();
+
+        assertThat(scheduler.getQueueDepth()).isEqualTo(2 * TRAILING_MONTHS + 1);
+        assertThat(scheduler.enqueue(GANGNAM, now.minusMonths(4))).isFalse();
+        assertThat(scheduler.enqueue(GANGNAM, now.minusMonths(3))).isTrue();
+        assertThat(scheduler.enqueue(GANGNAM, now.minusMonths(5))).isTrue();
+        assertThat(scheduler.enqueue(SEOCHO, now.minusMonths(4))).isTrue();
+    }
+
+    @Test
+    void skipsKeysAlreadyWaitingInQueue() {
+        assertThat(scheduler.enqueue(GANGNAM, now)).isTrue();
+        assertThat(scheduler.enqueue(GANGNAM, now)).isFalse();
+
+        scheduler.enqueueCycle();
+        scheduler.enqueueCycle();
+
+        assertThat(scheduler.getQueueDepth()).isEqualTo(2 * TRAILING_MONTHS);
+        assertThat(meterRegistry.counter("tracker.sync.scheduler.jobs.enqueued").count()).isEqualTo(2 * TRAILING_MONTHS);
+    }
+
+    @Test
+    void requeuesKeyOnceWorkerHasTakenIt() throws InterruptedException {
+        when(coalescer.fetchAndSave(anyString(), any())).thenReturn(AptTradeUpsertResult.builder().build());
+        scheduler.enqueueCycle();
+
+        scheduler.startWorkers();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("tracker.sync.scheduler.jobs", "result", "success").count() < 2 * TRAILING_MONTHS) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+
+        verify(coalescer, times(1)).fetchAndSave(GANGNAM, now);
+        assertThat(scheduler.enqueue(GANGNAM, now)).isTrue();
+    }
+
+    @Test
+    void skipsCycleWhenServiceKeyIsNotConfigured() {
+        when(openApiService.isConfigured()).thenReturn(false);
+
+        scheduler.enqueueCycle();
+
+        assertThat(scheduler.getQueueDepth()).isZero();
+        verifyNoInteractions(ledgerService);
+    }
+}
@@ -0,0 +1,201 @@
+package com.realestate.tracker.service;
+
+import com.realestate.tracker.domain.property.dto.AptTradeUpsertResult;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import com.realestate.tracker.repository.AptTradeBatchWriter;
+import com.realestate.tracker.service.external.AptTradePage;
+import com.realestate.tracker.service.external.OpenApiException;
+import com.realestate.tracker.service.external.OpenApiService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 월별 조회 병합(single-flight), 실패 전파, 거래 없음 캐시, 동기화 이력 기록 시점 테스트
+ */
+class OpenApiFetchCoalescerTest {
+
+    private static final String LAWD_CODE = "11680";
+    private static final YearMonth YEAR_MONTH = YearMonth.of(2024, 3);
+
+    private OpenApiService openApiService;
+    private AptTradeBatchWriter batchWriter;
+    private AptTradeSyncLedgerService ledgerService;
+    private OpenApiFetchCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        openApiService = mock(OpenApiService.class);
+        batchWriter = mock(AptTradeBatchWriter.class);
+        ledgerService = mock(AptTradeSyncLedgerService.class);
+        coalescer = new OpenApiFetchCoalescer(openApiService, batchWriter, ledgerService, Duration.ofHours(1), 1000);
+        when(batchWriter.upsertAll(anyList())).thenAnswer(invocation -> AptTradeUpsertResult.builder()
+            .insertedCount(invocation.<List<AptTrade>>getArgument(0).size())
+            .build());
+    }
+
+    @Test
+    void concurrentCallersShareOneFetch() throws Exception {
+        CompletableFuture<Void> gate = new CompletableFuture<>();
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        when(openApiService.streamAptTradePages(LAWD_CODE, YEAR_MONTH)).thenAnswer(invocation -> {
+            fetchStarted.countDown();
+            return Mono.fromFuture(gate).thenMany(Flux.just(page(2, 2)));
+        });
+
+        AtomicReference<AptTradeUpsertResult> leaderResult = new AtomicReference<>();
+        AtomicReference<AptTradeUpsertResult> followerResult = new AtomicReference<>();
+        Thread leader = new Thread(() -> leaderResult.set(coalescer.fetchAndSave(LAWD_CODE, YEAR_MONTH)));
+        leader.start();
+        assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread follower = new Thread(() -> followerResult.set(coalescer.fetchAndSave(LAWD_CODE, YEAR_MONTH)));
+        follower.start();
+        awaitWaiting(follower);
+        gate.complete(null);
+        leader.join(5000);
+        follower.join(5000);
+
+        assertThat(leaderResult.get().getInsertedCount()).isEqualTo(2);
+        assertThat(followerResult.get().getInsertedCount()).isEqualTo(2);
+        verify(openApiService, times(1)).streamAptTradePages(LAWD_CODE, YEAR_MONTH);
+        verify(batchWriter, times(1)).upsertAll(anyList());
+        assertThat(coalescer.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void failureReachesEveryWaiterAndClearsInFlight() throws Exception {
+        CompletableFuture<Void> gate = new CompletableFuture<>();
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        when(openApiService.streamAptTradePages(LAWD_CODE, YEAR_MONTH)).thenAnswer(invocation -> {
+            fetchStarted.countDown();
+            return Mono.fromFuture(gate).thenMany(Flux.just(page(1, 1)));
+        });
+
+        AtomicReference<Throwable> leaderError = new AtomicReference<>();
+        AtomicReference<Throwable> followerError = new AtomicReference<>();
+        Thread leader = new Thread(() -> capture(leaderError));
+        leader.start();
+        assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread follower = new Thread(() -> capture(followerError));
+        follower.start();
+        awaitWaiting(follower);
+        OpenApiException failure = new OpenApiException("99", "upstream failure");
+        gate.completeExceptionally(failure);
+        leader.join(5000);
+        follower.join(5000);
+
+        assertThat(leaderError.get()).isSameAs(failure);
+        assertThat(followerError.get()).isSameAs(failure);
+        assertThat(coalescer.getInFlightCount()).isZero();
+        verify(ledgerService, never()).record(any(), any(), anyInt());
+
+        // 실패한 월은 다음 요청에서 다시 조회한다
+        when(openApiService.streamAptTradePages(LAWD_CODE, YEAR_MONTH)).thenReturn(Flux.just(page(1, 1)));
+        assertThat(coalescer.fetchAndSave(LAWD_CODE, YEAR_MONTH).getInsertedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cachesMonthAsEmptyOnlyWhenTotalCountIsZero() {
+        when(openApiService.streamAptTradePages(LAWD_CODE, YEAR_MONTH)).thenReturn(Flux.just(page(0, 0)));
+
+        coalescer.fetchAndSave(LAWD_CODE, YEAR_MONTH);
+        coalescer.fetchAndSave(LAWD_CODE, YEAR_MONTH);
+
+        verify(openApiService, times(1)).streamAptTradePages(LAWD_CODE, YEAR_MONTH);
+        verify(ledgerService).record(LAWD_CODE, YEAR_MONTH, 0);
+    }
+
+    @Test
+    void doesNotCacheMonthWhoseItemsWereAllSkipped() {
+        AptTradePage skippedOnly = new AptTradePage(List.of(), 3, Map.of(), 0);
+        when(openApiService.streamAptTradePages(LAWD_CODE, YEAR_MONTH)).thenReturn(Flux.just(skippedOnly));
+
+        coalescer.fetchAndSave(LAWD_CODE, YEAR_MONTH);
+        coalescer.fetchAndSave(LAWD_CODE, YEAR_MONTH);
+
+        verify(openApiService, times(2)).streamAptTradePages(LAWD_CODE, YEAR_MONTH);
+    }
+
+    @Test
+    void recordsLedgerOnlyAfterEveryPageIsSaved() {
+        when(openApiService.streamAptTradePages(LAWD_CODE, YEAR_MONTH))
+            .thenReturn(Flux.just(page(2, 3), page(1, 3)));
+
+        AptTradeUpsertResult result = coalescer.fetchAndSave(LAWD_CODE, YEAR_MONTH);
+
+        assertThat(result.getInsertedCount()).isEqualTo(3);
+        InOrder order = inOrder(batchWriter, ledgerService);
+        order.verify(batchWriter, times(2)).upsertAll(anyList());
+        order.verify(ledgerService).record(LAWD_CODE, YEAR_MONTH, 3);
+    }
+
+    @Test
+    void skipsLedgerWhenLaterPageFails() {
+        // 2페이지 응답은 1페이지 저장 이후에 실패한다 (실제 응답처럼 페이지가 차례로 도착)
+        CompletableFuture<Void> firstPageSaved = new CompletableFuture<>();
+        when(batchWriter.upsertAll(anyList())).thenAnswer(invocation -> {
+            firstPageSaved.complete(null);
+            return AptTradeUpsertResult.builder().insertedCount(2).build();
+        });
+        when(openApiService.streamAptTradePages(LAWD_CODE, YEAR_MONTH))
+            .thenReturn(Flux.just(page(2, 3)).concatWith(Mono.fromFuture(firstPageSaved)
+                .then(Mono.error(new OpenApiException("99", "page 2 failed")))));
+
+        assertThatThrownBy(() -> coalescer.fetchAndSave(LAWD_CODE, YEAR_MONTH))
+            .isInstanceOf(OpenApiException.class);
+        verify(batchWriter, times(1)).upsertAll(anyList());
+        verify(ledgerService, never()).record(any(), any(), anyInt());
+    }
+
+    private void capture(AtomicReference<Throwable> error) {
+        try {
+            coalescer.fetchAndSave(LAWD_CODE, YEAR_MONTH);
+        } catch (RuntimeException e) {
+            error.set(e);
+        }
+    }
+
+    /**
+     * 뒤따른 요청이 진행 중인 조회를 기다리기 시작할 때까지 대기
+     */
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static AptTradePage page(int tradeCount, int totalCount) {
+        List<AptTrade> trades = IntStream.range(0, tradeCount)
+            .mapToObj(i -> AptTrade.builder().lawdCode(LAWD_CODE).floor(i).build())
+            .toList();
+        return new AptTradePage(trades, totalCount, Map.of(), 0);
+    }
+}
@@ -0,0 +1,148 @@
+package com.realestate.tracker.service.cache;
+
+import com.realestate.tracker.config.CacheConfig;
+import com.realestate.tracker.domain.property.dto.AptTradeSearchCondition;
+import com.realestate.tracker.domain.property.dto.AptTradeSummary;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import com.realestate.tracker.domain.property.event.AptTradeIngestedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수집 이벤트에 따른 검색/이력 캐시 무효화 범위 및 무효화 중 조회(stale put) 테스트
+ */
+class AptTradeCacheInvalidatorTest {
+
+    private CacheManager cacheManager;
+    private AptTradeQueryCache queryCache;
+    private AptTradeCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CacheConfig().cacheManager(100, Duration.ofMinutes(10), 100, Duration.ofMinutes(30));
+        queryCache = new AptTradeQueryCache(cacheManager);
+        invalidator = new AptTradeCacheInvalidator(queryCache);
+    }
+
+    @Test
+    void evictsOnlySearchesCoveringChangedLawdCodeAndMonth() {
+        AptTradeSearchCacheKey sameMonth = searchKey("11680", YearMonth.of(2024, 3));
+        AptTradeSearchCacheKey otherRegion = searchKey("11650", YearMonth.of(2024, 3));
+        AptTradeSearchCacheKey otherMonth = searchKey("11680", YearMonth.of(2024, 1));
+        AptTradeSearchCacheKey allRegions = searchKey(null, YearMonth.of(2024, 3));
+        List.of(sameMonth, otherRegion, otherMonth, allRegions).forEach(key -> queryCache.getSearch(key, this::emptyPage));
+
+        invalidator.onTradesIngested(inserted(trade("11680", LocalDate.of(2024, 3, 5), "래미안", "역삼동")));
+
+        assertThat(cachedSearch(sameMonth)).isFalse();
+        assertThat(cachedSearch(allRegions)).isFalse();
+        assertThat(cachedSearch(otherRegion)).isTrue();
+        assertThat(cachedSearch(otherMonth)).isTrue();
+    }
+
+    @Test
+    void evictsHistoriesOfChangedApartment() {
+        AptTradeHistoryCacheKey sameDong = new AptTradeHistoryCacheKey("래미안", "역삼동");
+        AptTradeHistoryCacheKey anyDong = new AptTradeHistoryCacheKey("래미안", null);
+        AptTradeHistoryCacheKey otherDong = new AptTradeHistoryCacheKey("래미안", "대치동");
+        AptTradeHistoryCacheKey otherApartment = new AptTradeHistoryCacheKey("자이", "역삼동");
+        List.of(sameDong, anyDong, otherDong, otherApartment).forEach(key -> queryCache.getHistory(key, List::of));
+
+        AptTrade canceled = trade("11680", LocalDate.of(2024, 3, 5), "래미안", "역삼동");
+        invalidator.onTradesIngested(new AptTradeIngestedEvent(List.of(), List.of(canceled), List.of()));
+
+        assertThat(cachedHistory(sameDong)).isFalse();
+        assertThat(cachedHistory(anyDong)).isFalse();
+        assertThat(cachedHistory(otherDong)).isTrue();
+        assertThat(cachedHistory(otherApartment)).isTrue();
+    }
+
+    @Test
+    void servesCachedSearchUntilEvicted() {
+        AptTradeSearchCacheKey key = searchKey("11680", YearMonth.of(2024, 3));
+        AtomicInteger loads = new AtomicInteger();
+
+        queryCache.getSearch(key, () -> countedLoad(loads));
+        queryCache.getSearch(key, () -> countedLoad(loads));
+        invalidator.onTradesIngested(inserted(trade("11680", LocalDate.of(2024, 3, 5), "래미안", "역삼동")));
+        queryCache.getSearch(key, () -> countedLoad(loads));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void dropsSearchReadBeforeInvalidationThatCompletesAfterIt() {
+        AptTradeSearchCacheKey key = searchKey("11680", YearMonth.of(2024, 3));
+
+        // 조회가 커밋 전 데이터를 읽은 뒤, 저장하기 전에 동기화 커밋과 무효화가 끝난 경우
+        Page<AptTradeSummary> stale = queryCache.getSearch(key, () -> {
+            Page<AptTradeSummary> page = emptyPage();
+            invalidator.onTradesIngested(inserted(trade("11680", LocalDate.of(2024, 3, 5), "래미안", "역삼동")));
+            return page;
+        });
+
+        assertThat(stale).isNotNull();
+        assertThat(cachedSearch(key)).isFalse();
+    }
+
+    @Test
+    void dropsHistoryReadBeforeInvalidationThatCompletesAfterIt() {
+        AptTradeHistoryCacheKey key = new AptTradeHistoryCacheKey("래미안", "역삼동");
+
+        queryCache.getHistory(key, () -> {
+            invalidator.onTradesIngested(inserted(trade("11680", LocalDate.of(2024, 3, 5), "래미안", "역삼동")));
+            return List.of();
+        });
+
+        assertThat(cachedHistory(key)).isFalse();
+    }
+
+    private boolean cachedSearch(AptTradeSearchCacheKey key) {
+        return cacheManager.getCache(CacheConfig.APT_TRADES).get(key) != null;
+    }
+
+    private boolean cachedHistory(AptTradeHistoryCacheKey key) {
+        return cacheManager.getCache(CacheConfig.APT_TRADE_HISTORY).get(key) != null;
+    }
+
+    private Page<AptTradeSummary> countedLoad(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return emptyPage();
+    }
+
+    private Page<AptTradeSummary> emptyPage() {
+        return new PageImpl<>(List.of());
+    }
+
+    private static AptTradeSearchCacheKey searchKey(String lawdCode, YearMonth yearMonth) {
+        AptTradeSearchCondition condition = new AptTradeSearchCondition();
+        condition.setLawdCode(lawdCode);
+        condition.setStartYearMonth(yearMonth);
+        condition.setEndYearMonth(yearMonth);
+        return AptTradeSearchCacheKey.of(condition);
+    }
+
+    private static AptTradeIngestedEvent inserted(AptTrade trade) {
+        return new AptTradeIngestedEvent(List.of(trade), List.of(), List.of());
+    }
+
+    private static AptTrade trade(String lawdCode, LocalDate transactionDate, String apartmentName, String dong) {
+        return AptTrade.builder()
+            .lawdCode(lawdCode)
+            .transactionDate(transactionDate)
+            .apartmentName(apartmentName)
+            .dong(dong)
+            .build();
+    }
+}
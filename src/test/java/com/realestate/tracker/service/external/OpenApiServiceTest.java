@@ -0,0 +1,197 @@
+package com.realestate.tracker.service.external;
+
+import com.realestate.tracker.config.OpenApiClientConfig;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OpenApiService 재시도/페이지 조회/서킷 브레이커/item 변환/인증키 미설정 테스트 (로컬 Mock HTTP 서버 사용)
+ */
+class OpenApiServiceTest {
+
+    private static final YearMonth YEAR_MONTH = YearMonth.of(2024, 3);
+
+    private MockWebServer server;
+    private ConnectionProvider connectionProvider;
+    private CircuitBreaker circuitBreaker;
+    private SimpleMeterRegistry meterRegistry;
+    private OpenApiService openApiService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+
+        OpenApiClientConfig config = new OpenApiClientConfig();
+        OpenApiTransientErrors transientErrors = new OpenApiTransientErrors(List.of("22"));
+        connectionProvider = config.openApiConnectionProvider(4, Duration.ofSeconds(1), Duration.ofSeconds(5));
+        WebClient webClient = config.openApiWebClient(connectionProvider, Duration.ofSeconds(1), Duration.ofSeconds(1));
+        circuitBreaker = config.openApiCircuitBreaker(transientErrors, 50, 2, 2, Duration.ofMinutes(1), 1);
+        meterRegistry = new SimpleMeterRegistry();
+
+        openApiService = new OpenApiService(new OpenApiRateLimiter(1000), new AptTradeXmlStreamParser(),
+            webClient, circuitBreaker, transientErrors,
+            new OpenApiMetrics(meterRegistry));
+        ReflectionTestUtils.setField(openApiService, "serviceKey", "test-key");
+        ReflectionTestUtils.setField(openApiService, "aptTradeApiUrl", server.url("/apt-trades").toString());
+        ReflectionTestUtils.setField(openApiService, "pageSize", 2);
+        ReflectionTestUtils.setField(openApiService, "pageConcurrency", 2);
+        ReflectionTestUtils.setField(openApiService, "maxRetries", 2);
+        ReflectionTestUtils.setField(openApiService, "minBackoff", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(openApiService, "maxBackoff", Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionProvider.dispose();
+        server.shutdown();
+    }
+
+    @Test
+    void retriesLimitExceededResultCode() {
+        server.enqueue(xml(errorResponse("22", "LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR")));
+        server.enqueue(xml(response(1, 1)));
+
+        List<AptTrade> trades = openApiService.fetchAptTradesAsync("11680", YEAR_MONTH).block();
+
+        assertThat(trades).hasSize(1);
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotRetryNonTransientResultCode() {
+        server.enqueue(xml(errorResponse("30", "SERVICE_KEY_IS_NOT_REGISTERED_ERROR")));
+
+        assertThatThrownBy(() -> openApiService.fetchAptTradesAsync("11680", YEAR_MONTH).block())
+            .isInstanceOf(OpenApiException.class);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void fetchesRemainingPagesUsingTotalCount() throws InterruptedException {
+        server.enqueue(xml(response(2, 3)));
+        server.enqueue(xml(response(1, 3)));
+
+        List<AptTrade> trades = openApiService.fetchAptTradesAsync("11680", YEAR_MONTH).block();
+
+        assertThat(trades).hasSize(3);
+        assertThat(server.takeRequest().getRequestUrl().queryParameter("pageNo")).isEqualTo("1");
+        assertThat(server.takeRequest().getRequestUrl().queryParameter("pageNo")).isEqualTo("2");
+    }
+
+    @Test
+    void skipsMalformedItemsAndCountsThem() {
+        ReflectionTestUtils.setField(openApiService, "pageSize", 10);
+        server.enqueue(xml(response(List.of(
+            item("   125,000", 1),
+            item("12a,000", 2),
+            item("", 3),
+            item("90,000", 30).replace("<월>3</월>", "<월>2</월>")), 4)));
+
+        List<AptTrade> trades = openApiService.fetchAptTradesAsync("11680", YEAR_MONTH).block();
+
+        assertThat(trades).hasSize(1);
+        AptTrade trade = trades.get(0);
+        assertThat(trade.getTransactionAmount()).isEqualByComparingTo(BigDecimal.valueOf(125_000));
+        assertThat(trade.getTransactionDate()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(trade.getExclusiveArea()).isEqualTo(84.97);
+        assertThat(trade.getDong()).isEqualTo("역삼동");
+        assertThat(meterRegistry.get("openapi.parse.items").tag("result", "skipped").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("openapi.parse.rejected").tag("field", "amount").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("openapi.parse.rejected").tag("field", "date").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void failsWithoutRequestWhenServiceKeyIsMissing() {
+        ReflectionTestUtils.setField(openApiService, "serviceKey", "");
+
+        assertThat(openApiService.isConfigured()).isFalse();
+        assertThatThrownBy(() -> openApiService.streamAptTradePages("11680", YEAR_MONTH).blockLast())
+            .isInstanceOf(OpenApiException.class);
+        assertThat(server.getRequestCount()).isZero();
+    }
+
+    @Test
+    void marksOnlyZeroTotalCountAsEmptyResult() {
+        server.enqueue(xml(response(0, 0)));
+        server.enqueue(xml(response(List.of(item("", 1)), 1)));
+
+        assertThat(openApiService.streamAptTradePages("11680", YEAR_MONTH).blockFirst().isEmptyResult()).isTrue();
+        assertThat(openApiService.streamAptTradePages("11680", YEAR_MONTH).blockFirst().isEmptyResult()).isFalse();
+    }
+
+    @Test
+    void opensCircuitAfterRepeatedFailures() {
+        ReflectionTestUtils.setField(openApiService, "maxRetries", 0);
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> openApiService.fetchAptTradesAsync("11680", YEAR_MONTH).block())
+                .isInstanceOf(WebClientResponseException.class);
+        }
+
+        assertThat(openApiService.isAvailable()).isFalse();
+        assertThatThrownBy(() -> openApiService.fetchAptTradesAsync("11680", YEAR_MONTH).block())
+            .isInstanceOf(CallNotPermittedException.class);
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    private static MockResponse xml(String body) {
+        return new MockResponse()
+            .setHeader("Content-Type", "application/xml;charset=UTF-8")
+            .setBody(body);
+    }
+
+    private static String errorResponse(String resultCode, String resultMsg) {
+        return "<response><header><resultCode>" + resultCode + "</resultCode>"
+            + "<resultMsg>" + resultMsg + "</resultMsg></header></response>";
+    }
+
+    private static String response(int itemCount, int totalCount) {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(item("   125,000", i + 1));
+        }
+        return response(items, totalCount);
+    }
+
+    private static String response(List<String> items, int totalCount) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>");
+        xml.append("<body><items>");
+        items.forEach(xml::append);
+        xml.append("</items><totalCount>").append(totalCount).append("</totalCount></body></response>");
+        return xml.toString();
+    }
+
+    private static String item(String amount, int day) {
+        return "<item>"
+            + "<거래금액>" + amount + "</거래금액><건축년도>2004</건축년도><년>2024</년><월>3</월><일>" + day + "</일>"
+            + "<법정동> 역삼동</법정동><아파트>래미안</아파트><전용면적>84.97</전용면적><지번>123</지번><층>10</층>"
+            + "<해제여부> </해제여부><해제사유발생일> </해제사유발생일>"
+            + "</item>";
+    }
+}
@@ -0,0 +1,189 @@
+package com.realestate.tracker.service.index;
+
+import com.realestate.tracker.config.MeterRegistryTestConfig;
+import com.realestate.tracker.domain.property.dto.AptTradeSearchCondition;
+import com.realestate.tracker.domain.property.dto.AptTradeSummary;
+import com.realestate.tracker.domain.property.entity.AptTrade;
+import com.realestate.tracker.domain.property.event.AptTradeIngestedEvent;
+import com.realestate.tracker.repository.AptTradeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컬럼형 인덱스와 DB 조회의 결과 일치 테스트 (필터, 정렬 상위 N건, 같은 정렬값의 ID 순서, 증분 반영)
+ */
+@DataJpaTest
+@Import(MeterRegistryTestConfig.class)
+class AptTradeColumnarIndexTest {
+
+    private static final List<String> LAWD_CODES = List.of("11680", "11650", "26350");
+    private static final List<String> DONGS = List.of("역삼동", "대치동", "우동");
+    private static final List<String> APARTMENT_NAMES = List.of("래미안", "래미안퍼스티지", "자이", "아이파크");
+    private static final List<String> SORT_PROPERTIES =
+        List.of("transactionDate", "transactionAmount", "exclusiveArea", "buildingYear", "floor");
+
+    @Autowired
+    private AptTradeRepository aptTradeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private AptTradeColumnarIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 정렬값이 자주 겹치도록 좁은 범위에서 생성하여 ID 순서 비교가 의미 있게 한다
+        Random random = new Random(42);
+        List<AptTrade> trades = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            trades.add(AptTrade.builder()
+                .lawdCode(LAWD_CODES.get(random.nextInt(LAWD_CODES.size())))
+                .legalDong("법정동")
+                .dong(DONGS.get(random.nextInt(DONGS.size())))
+                .apartmentName(APARTMENT_NAMES.get(random.nextInt(APARTMENT_NAMES.size())))
+                .localNumber(String.valueOf(i))
+                .transactionAmount(BigDecimal.valueOf(80_000 + random.nextInt(5) * 10_000))
+                .transactionDate(LocalDate.of(2024, 1, 1).plusDays(random.nextInt(90)))
+                .exclusiveArea(new double[] {59.9, 84.97, 114.5}[random.nextInt(3)])
+                .floor(1 + random.nextInt(5))
+                .buildingYear(2000 + random.nextInt(4) * 5)
+                .isCanceled(random.nextInt(10) == 0 ? Boolean.TRUE : null)
+                .build());
+        }
+        aptTradeRepository.saveAllAndFlush(trades);
+
+        index = new AptTradeColumnarIndex(aptTradeRepository, transactionManager, new SimpleMeterRegistry(), 100);
+        index.load();
+    }
+
+    @Test
+    void matchesDatabaseForEveryFilterSortAndPage() {
+        for (AptTradeSearchCondition condition : conditions()) {
+            for (String property : SORT_PROPERTIES) {
+                for (Sort.Direction direction : Sort.Direction.values()) {
+                    for (int page = 0; page < 3; page++) {
+                        Pageable pageable = PageRequest.of(page, 7,
+                            Sort.by(direction, property).and(Sort.by(direction, "id")));
+                        assertSamePage(condition, pageable);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void breaksTiesById() {
+        AptTradeSearchCondition condition = new AptTradeSearchCondition();
+        Pageable pageable = PageRequest.of(0, 300,
+            Sort.by(Sort.Direction.DESC, "buildingYear").and(Sort.by(Sort.Direction.DESC, "id")));
+
+        List<AptTradeSummary> content = index.search(condition, pageable).orElseThrow().getContent();
+
+        for (int i = 1; i < content.size(); i++) {
+            AptTradeSummary previous = content.get(i - 1);
+            AptTradeSummary current = content.get(i);
+            if (previous.buildingYear().equals(current.buildingYear())) {
+                assertThat(previous.id()).isGreaterThan(current.id());
+            }
+        }
+    }
+
+    @Test
+    void appliesIngestedTradesAndCancellations() {
+        AptTrade inserted = aptTradeRepository.saveAndFlush(AptTrade.builder()
+            .lawdCode("11680")
+            .legalDong("법정동")
+            .dong("역삼동")
+            .apartmentName("신축아파트")
+            .localNumber("999")
+            .transactionAmount(BigDecimal.valueOf(300_000))
+            .transactionDate(LocalDate.of(2024, 3, 31))
+            .exclusiveArea(84.97)
+            .floor(10)
+            .buildingYear(2024)
+            .build());
+        AptTrade canceled = aptTradeRepository.findAll().get(0);
+        canceled.setIsCanceled(true);
+        aptTradeRepository.saveAndFlush(canceled);
+        long memoryBefore = index.estimateMemoryBytes();
+
+        index.onTradesIngested(new AptTradeIngestedEvent(List.of(inserted), List.of(canceled), List.of()));
+
+        AptTradeSearchCondition condition = new AptTradeSearchCondition();
+        condition.setApartmentName("신축");
+        assertSamePage(condition, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "transactionDate", "id")));
+        assertSamePage(new AptTradeSearchCondition(), PageRequest.of(0, 400, Sort.by(Sort.Direction.ASC, "transactionDate", "id")));
+        assertThat(index.size()).isEqualTo(301);
+        assertThat(index.estimateMemoryBytes()).isGreaterThan(memoryBefore);
+    }
+
+    private void assertSamePage(AptTradeSearchCondition condition, Pageable pageable) {
+        Page<AptTradeSummary> expected = aptTradeRepository.findBySearchCondition(condition, pageable);
+        Page<AptTradeSummary> actual = index.search(condition, pageable).orElseThrow();
+
+        assertThat(actual.getTotalElements())
+            .as("total for %s %s", condition, pageable)
+            .isEqualTo(expected.getTotalElements());
+        assertThat(actual.getContent()).extracting(AptTradeSummary::id)
+            .as("ids for %s %s", condition, pageable)
+            .containsExactlyElementsOf(expected.getContent().stream().map(AptTradeSummary::id).toList());
+        // 인덱스는 해제여부를 비트로 저장하므로 DB의 null(미해제)은 false로 비교한다
+        assertThat(actual.getContent()).extracting(summary -> Boolean.TRUE.equals(summary.canceled()))
+            .containsExactlyElementsOf(expected.getContent().stream()
+                .map(summary -> Boolean.TRUE.equals(summary.canceled()))
+                .toList());
+    }
+
+    private static List<AptTradeSearchCondition> conditions() {
+        List<AptTradeSearchCondition> conditions = new ArrayList<>();
+        conditions.add(new AptTradeSearchCondition());
+
+        AptTradeSearchCondition city = new AptTradeSearchCondition();
+        city.setCity("서울특별시");
+        conditions.add(city);
+
+        AptTradeSearchCondition district = new AptTradeSearchCondition();
+        district.setCity("서울특별시");
+        district.setDistrict("강남구");
+        district.setStartYearMonth(YearMonth.of(2024, 2));
+        district.setEndYearMonth(YearMonth.of(2024, 2));
+        conditions.add(district);
+
+        AptTradeSearchCondition apartment = new AptTradeSearchCondition();
+        apartment.setApartmentName("래미안");
+        apartment.setDong("역삼동");
+        conditions.add(apartment);
+
+        AptTradeSearchCondition ranges = new AptTradeSearchCondition();
+        ranges.setLawdCode("11650");
+        ranges.setStartTransactionAmount(BigDecimal.valueOf(90_000));
+        ranges.setEndTransactionAmount(BigDecimal.valueOf(110_000));
+        ranges.setMinExclusiveArea(80.0);
+        ranges.setMinBuildingYear(2005);
+        ranges.setMaxBuildingYear(2010);
+        conditions.add(ranges);
+
+        AptTradeSearchCondition unknownDong = new AptTradeSearchCondition();
+        unknownDong.setDong("없는동");
+        conditions.add(unknownDong);
+        return conditions;
+    }
+}